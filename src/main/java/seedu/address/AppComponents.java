@@ -0,0 +1,287 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryStudyTrackerStorage;
+import seedu.address.storage.CommandHistoryFile;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.StudyTrackerJournal;
+import seedu.address.storage.StudyTrackerStorage;
+import seedu.address.storage.StudyTrackerStorageConverter;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The components of the application other than its UI, set up from the config file, the user prefs file and the
+ * data file. They are shared by the GUI started from {@link Main} and the command line of {@link HeadlessMain}.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    /** Whether the study tracker the model starts with is not the one saved by the storage. */
+    private boolean isStudyTrackerRestored = false;
+
+    /**
+     * Sets up the components using the config file at {@code configFilePath}, or the default config file if
+     * {@code configFilePath} is null.
+     * The logic saves changes using {@code saveExecutor}, which should run its tasks one at a time.
+     */
+    public AppComponents(Path configFilePath, Executor saveExecutor) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        StudyTrackerJournal studyTrackerJournal = initStudyTrackerJournal(config, userPrefs);
+        StudyTrackerStorage studyTrackerStorage = initStudyTrackerStorage(config, userPrefs, studyTrackerJournal);
+        storage = new StorageManager(studyTrackerStorage, userPrefsStorage, studyTrackerJournal,
+                initCommandHistoryFile(config, userPrefs));
+
+        LogsCenter.init(config);
+
+        model = initModelManager(storage, userPrefs);
+        logic = new LogicManager(model, storage, saveExecutor, isStudyTrackerRestored);
+    }
+
+    /**
+     * Returns an executor that saves on a single background thread, which does not keep the application running.
+     */
+    public static ExecutorService createSaveExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns a {@code StudyTrackerStorage} for the study tracker file in {@code userPrefs}, in the format chosen
+     * in {@code config}. <br>
+     * If there is no data file in the chosen format but there is one in the other format, it is converted to the
+     * chosen format first, and {@code studyTrackerJournal}, if any, is moved on top of the converted data file.
+     */
+    private StudyTrackerStorage initStudyTrackerStorage(Config config, ReadOnlyUserPrefs userPrefs,
+            StudyTrackerJournal studyTrackerJournal) {
+        Path jsonFilePath = userPrefs.getStudyTrackerFilePath();
+        StudyTrackerStorage jsonStorage = new JsonStudyTrackerStorage(jsonFilePath,
+                config.getStudyTrackerBackupCount());
+        StudyTrackerStorage binaryStorage = new BinaryStudyTrackerStorage(
+                StudyTrackerStorageConverter.toBinaryFilePath(jsonFilePath), config.getStudyTrackerBackupCount());
+
+        boolean isBinary = config.getStudyTrackerFormat() == Config.DataFormat.BINARY;
+        StudyTrackerStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        StudyTrackerStorage otherStorage = isBinary ? jsonStorage : binaryStorage;
+
+        if (!FileUtil.isFileExists(chosenStorage.getStudyTrackerFilePath())
+                && FileUtil.isFileExists(otherStorage.getStudyTrackerFilePath())) {
+            try {
+                StudyTrackerStorageConverter.convert(otherStorage, chosenStorage);
+                if (studyTrackerJournal != null) {
+                    studyTrackerJournal.rebase(otherStorage.getStudyTrackerFilePath());
+                }
+                logger.info("Converted " + otherStorage.getStudyTrackerFilePath() + " to "
+                        + chosenStorage.getStudyTrackerFilePath());
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + otherStorage.getStudyTrackerFilePath() + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the journal of the study tracker file in {@code userPrefs}, or null if {@code config} turns
+     * journalling off. <br>
+     * The journal is kept next to the json data file whichever format is chosen, so that it still applies after
+     * the data file is converted to the other format.
+     */
+    private StudyTrackerJournal initStudyTrackerJournal(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (config.getStudyTrackerJournalLimit() <= 0) {
+            return null;
+        }
+        Path jsonFilePath = userPrefs.getStudyTrackerFilePath();
+        Path dataFilePath = config.getStudyTrackerFormat() == Config.DataFormat.BINARY
+                ? StudyTrackerStorageConverter.toBinaryFilePath(jsonFilePath)
+                : jsonFilePath;
+        return new StudyTrackerJournal(StudyTrackerJournal.toJournalFilePath(jsonFilePath), dataFilePath,
+                config.getStudyTrackerJournalLimit());
+    }
+
+    /**
+     * Returns the command history file next to the study tracker file in {@code userPrefs}, or null if
+     * {@code config} turns saving the command history off.
+     */
+    private CommandHistoryFile initCommandHistoryFile(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (config.getCommandHistoryCapacity() <= 0) {
+            return null;
+        }
+        return new CommandHistoryFile(
+                CommandHistoryFile.toCommandHistoryFilePath(userPrefs.getStudyTrackerFilePath()),
+                config.getCommandHistoryCapacity());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s study tracker and {@code userPrefs}. <br>
+     * The data from the sample study tracker will be used instead if {@code storage}'s study tracker is not found.
+     * If errors occur when reading {@code storage}'s study tracker, the data from its newest readable backup will be
+     * used instead, or an empty study tracker if there is no such backup.
+     * If any data other than the saved study tracker and all of its journal is used, the study tracker is marked as
+     * restored, so that it is saved in full before any changes are journalled on top of the saved one.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyStudyTracker> studyTrackerOptional;
+        ReadOnlyStudyTracker initialData;
+        try {
+            studyTrackerOptional = storage.readStudyTracker();
+            if (!studyTrackerOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample StudyTracker");
+            }
+            initialData = studyTrackerOptional.orElseGet(SampleDataUtil::getSampleStudyTracker);
+            isStudyTrackerRestored = !studyTrackerOptional.isPresent() || storage.isStudyTrackerJournalSetAside();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with the newest valid backup");
+            initialData = readNewestBackup(storage).orElseGet(StudyTracker::new);
+            isStudyTrackerRestored = true;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with the newest valid backup");
+            initialData = readNewestBackup(storage).orElseGet(StudyTracker::new);
+            isStudyTrackerRestored = true;
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns the data from the newest backup of {@code storage}'s study tracker that can be read,
+     * or {@code Optional.empty()} if there is no such backup.
+     */
+    private Optional<ReadOnlyStudyTracker> readNewestBackup(Storage storage) {
+        for (Path backupFilePath : storage.getStudyTrackerBackupFilePaths()) {
+            try {
+                Optional<ReadOnlyStudyTracker> backup = storage.readStudyTracker(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.info("Restored data from backup " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Backup " + backupFilePath + " could not be read: " + e.getMessage());
+            }
+        }
+        logger.warning("No valid backup found. Will be starting with an empty StudyTracker");
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (prefsOptional.isEmpty()) {
+                logger.info("Preferences file not found. Will be starting with a default preferences file.");
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will reset user prefs to default");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its GUI, executing the commands read from standard input, one per line, and writing
+ * the result of each command to standard output.
+ *
+ * When standard input is a terminal, the user is prompted for each command. Otherwise, or when given
+ * {@value #FLAG_PIPE}, commands are read without prompting and the results are only written out once there is no
+ * more input ready to be read, so that commands can be piped through as fast as they can be executed.
+ * Changes are saved in the background as in the GUI, and all of them are saved before exiting.
+ *
+ * Like the GUI, it takes {@code --config=CONFIG_FILE_PATH} to use another config file.
+ * It exits with status 1 if any command failed or the data could not be saved, and 0 otherwise.
+ */
+public class HeadlessMain {
+
+    public static final String FLAG_PIPE = "--pipe";
+    public static final String PROMPT = "> ";
+    public static final String ERROR_PREFIX = "Error: ";
+
+    private static final String NAMED_PARAMETER_START = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    /**
+     * Sets up the application from the given parameters and executes the commands from standard input.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isPiped = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.equals(FLAG_PIPE)) {
+                isPiped = true;
+            } else if (arg.startsWith(NAMED_PARAMETER_START) && separatorIndex > 0) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                logger.warning("Ignoring unknown parameter " + arg);
+            }
+        }
+
+        logger.info("=============================[ Initializing StudyTracker ]=============================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        ExecutorService saveExecutor = AppComponents.createSaveExecutor();
+        Logic logic = new AppComponents(appParameters.getConfigPath(), saveExecutor).getLogic();
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, UTF_8)));
+        boolean isInteractive = !isPiped && System.console() != null;
+
+        boolean isSuccessful = false;
+        try {
+            isSuccessful = run(logic, in, out, isInteractive);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+        } finally {
+            // The changes of the commands that were executed are saved even if a command could not be handled.
+            isSuccessful &= stop(logic, saveExecutor);
+        }
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    /**
+     * Saves all the changes made through {@code logic} and shuts down {@code saveExecutor}.
+     *
+     * @return true if the changes were saved.
+     */
+    private static boolean stop(Logic logic, ExecutorService saveExecutor) {
+        logger.info("============================ [ Stopping Study Tracker ] =============================");
+        try {
+            logic.flush();
+            return true;
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            return false;
+        } finally {
+            saveExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code in} using {@code logic} until the input ends or a command exits the
+     * application, writing the result of each command to {@code out}.
+     * Blank lines are skipped. If {@code isInteractive}, a prompt is written before reading each command.
+     * A command that fails, even with an unexpected exception, is reported and the commands after it are executed.
+     *
+     * @return true if all the commands succeeded.
+     * @throws IOException If the commands could not be read.
+     */
+    static boolean run(Logic logic, BufferedReader in, PrintWriter out, boolean isInteractive) throws IOException {
+        boolean isSuccessful = true;
+        while (true) {
+            if (isInteractive) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String commandText = in.readLine();
+            if (commandText == null) {
+                break;
+            }
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(ERROR_PREFIX + e.getMessage());
+                isSuccessful = false;
+            } catch (RuntimeException e) {
+                // An unexpected failure of one command must not stop the commands after it from being executed.
+                logger.warning("Failed to execute " + commandText + " " + StringUtil.getDetails(e));
+                out.println(ERROR_PREFIX + e);
+                isSuccessful = false;
+            }
+
+            // Results are written out in bulk while more commands are already waiting to be executed.
+            if (!isInteractive && !in.ready()) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return isSuccessful;
+    }
+}
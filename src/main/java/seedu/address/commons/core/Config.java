@@ -10,11 +10,25 @@ import java.util.logging.Level;
  */
 public class Config {
 
+    /**
+     * Formats in which the study tracker data can be stored.
+     */
+    public enum DataFormat {
+        JSON, BINARY
+    }
+
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_STUDY_TRACKER_BACKUP_COUNT = 3;
+    public static final int DEFAULT_STUDY_TRACKER_JOURNAL_LIMIT = 100;
+    public static final int DEFAULT_COMMAND_HISTORY_CAPACITY = 1000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("data", "preferences.json");
+    private int studyTrackerBackupCount = DEFAULT_STUDY_TRACKER_BACKUP_COUNT;
+    private DataFormat studyTrackerFormat = DataFormat.JSON;
+    private int studyTrackerJournalLimit = DEFAULT_STUDY_TRACKER_JOURNAL_LIMIT;
+    private int commandHistoryCapacity = DEFAULT_COMMAND_HISTORY_CAPACITY;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +46,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getStudyTrackerBackupCount() {
+        return studyTrackerBackupCount;
+    }
+
+    public void setStudyTrackerBackupCount(int studyTrackerBackupCount) {
+        this.studyTrackerBackupCount = studyTrackerBackupCount;
+    }
+
+    public DataFormat getStudyTrackerFormat() {
+        return studyTrackerFormat;
+    }
+
+    public void setStudyTrackerFormat(DataFormat studyTrackerFormat) {
+        this.studyTrackerFormat = studyTrackerFormat;
+    }
+
+    /**
+     * Returns the number of changes journalled before the data file is saved in full again.
+     * Changes are not journalled if this is not positive.
+     */
+    public int getStudyTrackerJournalLimit() {
+        return studyTrackerJournalLimit;
+    }
+
+    public void setStudyTrackerJournalLimit(int studyTrackerJournalLimit) {
+        this.studyTrackerJournalLimit = studyTrackerJournalLimit;
+    }
+
+    /**
+     * Returns the number of commands kept in the command history, which is saved next to the data file.
+     * The command history is not saved if this is not positive.
+     */
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +98,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && studyTrackerBackupCount == o.studyTrackerBackupCount
+                && studyTrackerFormat == o.studyTrackerFormat
+                && studyTrackerJournalLimit == o.studyTrackerJournalLimit
+                && commandHistoryCapacity == o.commandHistoryCapacity;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, studyTrackerBackupCount, studyTrackerFormat,
+                studyTrackerJournalLimit, commandHistoryCapacity);
     }
 
     @Override
@@ -57,6 +116,10 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nNumber of data file backups : " + studyTrackerBackupCount);
+        sb.append("\nData file format : " + studyTrackerFormat);
+        sb.append("\nData file journal limit : " + studyTrackerJournalLimit);
+        sb.append("\nCommand history capacity : " + commandHistoryCapacity);
         return sb.toString();
     }
 
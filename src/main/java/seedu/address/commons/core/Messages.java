@@ -11,4 +11,5 @@ public class Messages {
     public static final String MESSAGE_INVALID_STUDYSPOT_DISPLAYED_INDEX = "The study spot index provided is invalid";
     public static final String MESSAGE_STUDYSPOT_LISTED_OVERVIEW = "%1$d study spot(s) listed!";
     public static final String MESSAGE_INVALID_NAME = "The name provided was not found!";
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %1$s?";
 }
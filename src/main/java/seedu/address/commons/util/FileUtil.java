@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -12,6 +21,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +86,108 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file through a buffered stream.
+     * Will create the file if it does not exist yet.
+     * The content is first written and synced to a temporary file in the same directory, which then replaces
+     * {@code file} in a single move, so {@code file} holds either its old or its new content even if the
+     * application stops partway through the write.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.write(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and syncs the file before returning.
+     * Will create the file if it does not exist yet.
+     * Unlike {@link #writeToFile(Path, String)}, the file is written in place, so only the appended content may be
+     * incomplete if the application stops partway through the write.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        byte[] bytes = content.getBytes(CHARSET);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            out.write(bytes);
+            out.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Copies {@code file} to its first backup file, after moving each existing backup file to the next one.
+     * At most {@code backupCount} backup files are kept, and the oldest one is discarded.
+     * Does nothing if {@code file} does not exist or {@code backupCount} is not positive.
+     */
+    public static void backUpFile(Path file, int backupCount) throws IOException {
+        if (!isFileExists(file) || backupCount <= 0) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFile(file, backupCount));
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backupFile = getBackupFile(file, i);
+            if (isFileExists(backupFile)) {
+                Files.move(backupFile, getBackupFile(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.copy(file, getBackupFile(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the existing backup files of {@code file} made by {@link #backUpFile(Path, int)},
+     * from the newest to the oldest.
+     */
+    public static List<Path> getBackupFiles(Path file, int backupCount) {
+        List<Path> backupFiles = new ArrayList<>();
+        for (int i = 1; i <= backupCount; i++) {
+            Path backupFile = getBackupFile(file, i);
+            if (isFileExists(backupFile)) {
+                backupFiles.add(backupFile);
+            }
+        }
+        return backupFiles;
+    }
+
+    /**
+     * Returns the path of the {@code index}-th backup file of {@code file}, where the first is the newest.
+     */
+    public static Path getBackupFile(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     * The stream must not be closed by the writer.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
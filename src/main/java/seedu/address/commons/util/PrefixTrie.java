@@ -0,0 +1,217 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Maps keys to values so that the values of the keys starting with a prefix can be found by following the prefix
+ * down the trie, one character at a time. Keys are matched ignoring case.
+ *
+ * Completions are ranked by a comparator, and only the best {@code maxCompletions} of them are returned. Every node
+ * counts the values below it. A node with more than {@link #CACHE_THRESHOLD} values below it keeps its best
+ * completions, which are worked out from those of its children when first needed and dropped when a key below it
+ * changes, so a short prefix of many keys does not go through all of them. The values below smaller nodes are few
+ * enough to be ranked on every call.
+ *
+ * @param <T> The type of the values.
+ */
+public class PrefixTrie<T> {
+
+    public static final String MESSAGE_INVALID_MAX_COMPLETIONS = "The number of completions must be positive";
+
+    /** Nodes with more values than this below them keep their best completions. */
+    static final int CACHE_THRESHOLD = 64;
+
+    private final Comparator<? super T> ranking;
+    private final int maxCompletions;
+    private Node root = new Node('\0');
+
+    /**
+     * Creates an empty {@code PrefixTrie} that returns at most {@code maxCompletions} values for a prefix, best
+     * ranked by {@code ranking} first.
+     */
+    public PrefixTrie(Comparator<? super T> ranking, int maxCompletions) {
+        requireNonNull(ranking);
+        checkArgument(maxCompletions > 0, MESSAGE_INVALID_MAX_COMPLETIONS);
+        this.ranking = ranking;
+        this.maxCompletions = maxCompletions;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing the value {@code key} was mapped to, if any.
+     * The value is ranked again, so a value whose ranking has changed is put again under the same key.
+     */
+    public void put(String key, T value) {
+        requireAllNonNull(key, value);
+        String foldedKey = key.toLowerCase();
+        List<Node> path = new ArrayList<>(foldedKey.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < foldedKey.length(); i++) {
+            node = node.getOrAddChild(foldedKey.charAt(i));
+            path.add(node);
+        }
+
+        boolean isNewKey = node.value == null;
+        node.value = value;
+        for (Node nodeOnPath : path) {
+            nodeOnPath.completions = null;
+            if (isNewKey) {
+                nodeOnPath.count++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code key} and its value, if it is in the trie.
+     */
+    public void remove(String key) {
+        requireNonNull(key);
+        String foldedKey = key.toLowerCase();
+        List<Node> path = new ArrayList<>(foldedKey.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < foldedKey.length() && node != null; i++) {
+            node = node.getChild(foldedKey.charAt(i));
+            path.add(node);
+        }
+        if (node == null || node.value == null) {
+            return;
+        }
+
+        node.value = null;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node nodeOnPath = path.get(i);
+            nodeOnPath.completions = null;
+            nodeOnPath.count--;
+            if (nodeOnPath.count == 0 && i > 0) {
+                path.get(i - 1).removeChild(nodeOnPath);
+            }
+        }
+    }
+
+    /**
+     * Removes all the keys.
+     */
+    public void clear() {
+        root = new Node('\0');
+    }
+
+    /**
+     * Returns the value {@code key} is mapped to, or null if it is not in the trie.
+     */
+    public T get(String key) {
+        Node node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the number of keys in the trie.
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * Returns the best ranked values of up to {@code maxCompletions} keys that start with {@code prefix}, ignoring
+     * case, best first.
+     */
+    public List<T> getCompletions(String prefix) {
+        Node node = findNode(prefix);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(getCompletionsBelow(node));
+    }
+
+    private Node findNode(String key) {
+        requireNonNull(key);
+        String foldedKey = key.toLowerCase();
+        Node node = root;
+        for (int i = 0; i < foldedKey.length() && node != null; i++) {
+            node = node.getChild(foldedKey.charAt(i));
+        }
+        return node;
+    }
+
+    private List<T> getCompletionsBelow(Node node) {
+        if (node.count <= CACHE_THRESHOLD) {
+            List<T> values = new ArrayList<>(node.count);
+            node.collectValues(values);
+            return getBest(values);
+        }
+        if (node.completions == null) {
+            List<T> candidates = new ArrayList<>();
+            if (node.value != null) {
+                candidates.add(node.value);
+            }
+            for (Node child : node.children) {
+                candidates.addAll(getCompletionsBelow(child));
+            }
+            node.completions = getBest(candidates);
+        }
+        return node.completions;
+    }
+
+    private List<T> getBest(List<T> values) {
+        values.sort(ranking);
+        return values.size() <= maxCompletions ? values : new ArrayList<>(values.subList(0, maxCompletions));
+    }
+
+    /**
+     * A character of one or more keys, following the characters before it in those keys.
+     * Nodes without any values below them are removed, so every leaf holds a value.
+     */
+    private class Node {
+        private final char character;
+        private List<Node> children = Collections.emptyList();
+        private T value;
+        private int count = 0;
+        private List<T> completions;
+
+        private Node(char character) {
+            this.character = character;
+        }
+
+        private Node getChild(char childCharacter) {
+            for (Node child : children) {
+                if (child.character == childCharacter) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(char childCharacter) {
+            Node child = getChild(childCharacter);
+            if (child == null) {
+                if (children.isEmpty()) {
+                    // Most nodes only ever have one child.
+                    children = new ArrayList<>(1);
+                }
+                child = new Node(childCharacter);
+                children.add(child);
+            }
+            return child;
+        }
+
+        private void removeChild(Node child) {
+            children.remove(child);
+        }
+
+        private void collectValues(List<T> values) {
+            if (value != null) {
+                values.add(value);
+            }
+            for (Node child : children) {
+                child.collectValues(values);
+            }
+        }
+    }
+}
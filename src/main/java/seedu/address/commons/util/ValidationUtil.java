@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for validating the values of the model.
+ *
+ * These check the simple character classes used by the model one character at a time, instead of going through
+ * {@link String#matches(String)}, which compiles its regex again on every call.
+ * Like the regex {@code \p{Alnum}}, only ASCII letters and digits are alphanumeric.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is not empty and only contains ASCII letters and digits,
+     * like the regex {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit and only contains ASCII letters, digits and
+     * spaces, like the regex {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and only contains ASCII digits, like the regex {@code [0-9]+}.
+     */
+    public static boolean isDigits(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The commands entered by the user, oldest first, up to a fixed number of commands.
+ *
+ * The commands are kept in a ring buffer, so once it is full, each command added takes the place of the oldest one
+ * without moving the others. Every command added gets the next sequence number, and a kept command is at the index
+ * of its sequence number less the number of commands dropped.
+ *
+ * For searching, the sequence numbers of the commands are indexed by every three consecutive characters in them,
+ * ignoring case. A command can only contain a query if it contains every three consecutive characters of the query,
+ * so only the commands indexed under the rarest three characters of the query are checked, newest first. Shorter
+ * queries are checked against every command, newest first.
+ */
+public class CommandHistory {
+
+    public static final String MESSAGE_INVALID_CAPACITY = "The command history capacity must be positive";
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final String[] commandTexts;
+    private final Map<String, SequenceList> sequencesByGram = new HashMap<>();
+    private int oldestPosition = 0;
+    private int size = 0;
+    private int droppedCount = 0;
+
+    /**
+     * Creates an empty {@code CommandHistory} that keeps the last {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        commandTexts = new String[capacity];
+    }
+
+    /**
+     * Creates a {@code CommandHistory} that keeps the last {@code capacity} commands, starting with
+     * {@code commandTexts}, oldest first.
+     */
+    public CommandHistory(int capacity, List<String> commandTexts) {
+        this(capacity);
+        requireNonNull(commandTexts);
+        commandTexts.forEach(this::add);
+    }
+
+    public int getCapacity() {
+        return commandTexts.length;
+    }
+
+    /**
+     * Returns the number of commands kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the command at {@code index}, where the oldest command kept is at index 0.
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return commandTexts[(oldestPosition + index) % commandTexts.length];
+    }
+
+    /**
+     * Adds {@code commandText} as the newest command, dropping the oldest command if the history is full.
+     */
+    public void add(String commandText) {
+        requireNonNull(commandText);
+        if (size == commandTexts.length) {
+            dropOldest();
+        }
+        int sequence = droppedCount + size;
+        commandTexts[(oldestPosition + size) % commandTexts.length] = commandText;
+        size++;
+
+        String foldedText = commandText.toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            SequenceList sequences = sequencesByGram.computeIfAbsent(
+                    foldedText.substring(i, i + GRAM_LENGTH), unused -> new SequenceList());
+            // A command that contains the same characters more than once is only indexed under them once.
+            if (sequences.isEmpty() || sequences.getLast() != sequence) {
+                sequences.add(sequence);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the newest command before {@code beforeIndex} that contains {@code query}, ignoring
+     * case, or -1 if there is none.
+     */
+    public int findLast(String query, int beforeIndex) {
+        requireNonNull(query);
+        int beforeSequence = droppedCount + Math.min(Math.max(beforeIndex, 0), size);
+        if (query.length() < GRAM_LENGTH) {
+            for (int sequence = beforeSequence - 1; sequence >= droppedCount; sequence--) {
+                if (contains(sequence, query)) {
+                    return sequence - droppedCount;
+                }
+            }
+            return -1;
+        }
+
+        String foldedQuery = query.toLowerCase();
+        SequenceList rarestSequences = null;
+        for (int i = 0; i + GRAM_LENGTH <= foldedQuery.length(); i++) {
+            SequenceList sequences = sequencesByGram.get(foldedQuery.substring(i, i + GRAM_LENGTH));
+            if (sequences == null) {
+                return -1;
+            }
+            if (rarestSequences == null || sequences.size() < rarestSequences.size()) {
+                rarestSequences = sequences;
+            }
+        }
+        for (int i = rarestSequences.indexBefore(beforeSequence); i >= 0; i--) {
+            int sequence = rarestSequences.get(i);
+            if (contains(sequence, query)) {
+                return sequence - droppedCount;
+            }
+        }
+        return -1;
+    }
+
+    private boolean contains(int sequence, String query) {
+        String commandText = get(sequence - droppedCount);
+        for (int start = 0; start + query.length() <= commandText.length(); start++) {
+            if (commandText.regionMatches(true, start, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the oldest command, which is the first command in the lists it is indexed under.
+     */
+    private void dropOldest() {
+        String foldedText = commandTexts[oldestPosition].toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            String gram = foldedText.substring(i, i + GRAM_LENGTH);
+            SequenceList sequences = sequencesByGram.get(gram);
+            if (sequences == null || sequences.get(0) != droppedCount) {
+                // Already dropped from this list, as the gram occurs earlier in the command.
+                continue;
+            }
+            sequences.removeFirst();
+            if (sequences.isEmpty()) {
+                sequencesByGram.remove(gram);
+            }
+        }
+        commandTexts[oldestPosition] = null;
+        oldestPosition = (oldestPosition + 1) % commandTexts.length;
+        size--;
+        droppedCount++;
+    }
+
+    /**
+     * Sequence numbers in increasing order, which are added at the end and removed from the front.
+     */
+    private static class SequenceList {
+        private int[] sequences = new int[2];
+        private int start = 0;
+        private int end = 0;
+
+        private int size() {
+            return end - start;
+        }
+
+        private boolean isEmpty() {
+            return start == end;
+        }
+
+        private int get(int index) {
+            return sequences[start + index];
+        }
+
+        private int getLast() {
+            return sequences[end - 1];
+        }
+
+        private void add(int sequence) {
+            if (end == sequences.length) {
+                // The space left by removed sequence numbers is reused before the array is grown.
+                int[] movedSequences = start > sequences.length / 2 ? sequences : new int[sequences.length * 2];
+                System.arraycopy(sequences, start, movedSequences, 0, size());
+                sequences = movedSequences;
+                end -= start;
+                start = 0;
+            }
+            sequences[end++] = sequence;
+        }
+
+        private void removeFirst() {
+            start++;
+        }
+
+        /**
+         * Returns the index of the last sequence number smaller than {@code sequence}, or -1 if there is none.
+         */
+        private int indexBefore(int sequence) {
+            int index = Arrays.binarySearch(sequences, start, end, sequence);
+            int insertionPoint = index >= 0 ? index : -index - 1;
+            return insertionPoint - 1 - start;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,39 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single command and returns a summary of the results.
+     * The changes made by the commands are saved together, and none of them are kept if any of the commands fails.
+     * @param commandTexts The commands as entered by the user, one per line.
+     * @return the result summarizing the commands executed.
+     * @throws CommandException If any of the commands could not be parsed or executed.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Returns the ways to complete the word being typed at the end of a command, each as the whole command.
+     * @param commandText The command as typed so far by the user.
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Returns the commands entered by the user, including those entered in earlier sessions.
+     * The command history is read when this is first called.
+     */
+    CommandHistory getCommandHistory();
+
+    /**
+     * Adds the command to the command history and saves it.
+     * @param commandText The command as entered by the user.
+     */
+    void addToCommandHistory(String commandText);
+
+    /**
+     * Saves any changes that have not been saved yet, and waits for all saves to complete.
+     * @throws IOException If the data could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the StudyTracker.
      *
@@ -46,6 +81,11 @@ public interface Logic {
      */
     ObservableList<StudySpot> getTopFiveStudySpotList();
 
+    /**
+     * Returns the total studied hours of all study spots
+     */
+    long getTotalStudiedHours();
+
     /**
      * Returns the user prefs' study tracker file path.
      */
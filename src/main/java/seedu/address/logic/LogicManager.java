@@ -2,23 +2,50 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.StudyTrackerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.studyspot.StudySpot;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StudyTrackerJournalEntry;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Data is only saved after commands that changed it. Saves are handed to a save executor as snapshots of the
+ * data, and a save that has not started yet writes the latest snapshot, so that a burst of commands results in
+ * a single write.
+ *
+ * If the storage journals changes to the study tracker, only the changes made by each command are saved, and a
+ * snapshot of the whole study tracker is saved instead once the journal is full, when the journal could not be
+ * written, when the saved study tracker did not hold the data it started with, and when flushing.
+ *
+ * The command history is only read from the storage when it is first needed. Each command added to it is then
+ * appended to the saved command history by the save executor.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
@@ -27,34 +54,261 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final StudyTrackerParser studyTrackerParser;
+    private final CommandCompleter commandCompleter;
+    private final Executor saveExecutor;
+
+    private final AtomicReference<PendingStudyTrackerChanges> pendingStudyTrackerChanges = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyUserPrefs> pendingUserPrefs = new AtomicReference<>();
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean isJournalFailed = new AtomicBoolean(false);
+
+    private final List<StudyTrackerJournalEntry> unqueuedJournalEntries = new ArrayList<>();
+    private boolean isStudyTrackerChanged = false;
+    private int journalSize;
+    private UserPrefs lastQueuedUserPrefs;
+    private CommandHistory commandHistory;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves on the thread executing the commands.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves using {@code saveExecutor}.
+     * {@code saveExecutor} should run its tasks one at a time.
+     */
+    public LogicManager(Model model, Storage storage, Executor saveExecutor) {
+        this(model, storage, saveExecutor, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves using {@code saveExecutor}.
+     * {@code saveExecutor} should run its tasks one at a time.
+     * If {@code isSnapshotNeeded} is true, the study tracker is saved in full at the next save instead of being
+     * journalled, as the saved study tracker does not hold the data in {@code model}.
+     */
+    public LogicManager(Model model, Storage storage, Executor saveExecutor, boolean isSnapshotNeeded) {
         this.model = model;
         this.storage = storage;
+        this.saveExecutor = saveExecutor;
         studyTrackerParser = new StudyTrackerParser();
+        commandCompleter = new CommandCompleter();
+
+        ListChangeListener<StudySpot> markChanged = change -> isStudyTrackerChanged = true;
+        model.getStudyTracker().getStudySpotList().addListener(markChanged);
+        model.getStudyTracker().getFavouriteStudySpotList().addListener(markChanged);
+        model.getStudyTracker().getStudySpotList().addListener((ListChangeListener<StudySpot>) change ->
+                unqueuedJournalEntries.addAll(StudyTrackerJournalEntry.fromChange(change)));
+        journalSize = storage.getStudyTrackerJournalSize();
+        isJournalFailed.set(isSnapshotNeeded);
+        lastQueuedUserPrefs = new UserPrefs(model.getUserPrefs());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = studyTrackerParser.parseCommand(commandText, model.getUserPrefs().getUserAliases());
-        commandResult = command.execute(model);
+        Command command = studyTrackerParser.parseCommand(commandText, model.getUserPrefs().getAliasTable());
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[BATCH COMMAND][" + commandTexts.size() + " lines]");
+        return executeAndSave(new BatchCommand(commandTexts));
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText, model);
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        if (commandHistory == null) {
+            commandHistory = readCommandHistory();
+        }
+        return commandHistory;
+    }
+
+    @Override
+    public void addToCommandHistory(String commandText) {
+        getCommandHistory().add(commandText);
+        if (storage.getCommandHistoryCapacity() > 0) {
+            saveExecutor.execute(() -> appendToCommandHistory(commandText));
+        }
+    }
+
+    /**
+     * Returns the command history read from the storage, or an empty command history if it is not saved or could
+     * not be read.
+     */
+    private CommandHistory readCommandHistory() {
+        int capacity = storage.getCommandHistoryCapacity();
+        if (capacity <= 0) {
+            return new CommandHistory(Config.DEFAULT_COMMAND_HISTORY_CAPACITY);
+        }
+        try {
+            return new CommandHistory(capacity, storage.readCommandHistory());
+        } catch (IOException ioe) {
+            logger.warning("Failed to read the command history: " + ioe);
+            return new CommandHistory(capacity);
+        }
+    }
 
+    /**
+     * Appends {@code commandText} to the saved command history.
+     * A command that could not be saved is only lost from the saved command history, so the failure is only logged.
+     */
+    private void appendToCommandHistory(String commandText) {
         try {
-            storage.saveStudyTracker(model.getStudyTracker());
-            storage.saveUserPrefs(model.getUserPrefs());
+            storage.appendToCommandHistory(commandText);
         } catch (IOException ioe) {
+            logger.warning("Failed to save the command history: " + ioe);
+        }
+    }
+
+    /**
+     * Executes {@code command} and saves the changes it made.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        if (queueChanges(false) && isSaveScheduled.compareAndSet(false, true)) {
+            saveExecutor.execute(this::savePendingChanges);
+        }
+
+        IOException ioe = saveFailure.getAndSet(null);
+        if (ioe != null) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flush() throws IOException {
+        queueChanges(true);
+        FutureTask<Void> flushTask = new FutureTask<>(this::savePendingChanges, null);
+        saveExecutor.execute(flushTask);
+        try {
+            flushTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not save data", e.getCause());
+        }
+
+        IOException ioe = saveFailure.getAndSet(null);
+        if (ioe != null) {
+            throw ioe;
+        }
+    }
+
+    /**
+     * Queues the changes to the study tracker and a snapshot of the user prefs made since they were last queued
+     * for saving, replacing any snapshots that have not been saved yet.
+     * The changes to the study tracker are queued as journal entries if they fit in the journal, and as a snapshot
+     * of the study tracker otherwise. If {@code isCompacting} is true, a snapshot is queued whenever the journal
+     * is not empty.
+     * Returns true if anything was queued.
+     */
+    private boolean queueChanges(boolean isCompacting) {
+        boolean isQueued = false;
+        int journalSizeWithChanges = journalSize + unqueuedJournalEntries.size();
+        boolean isSnapshotNeeded = isJournalFailed.getAndSet(false)
+                || (isStudyTrackerChanged && journalSizeWithChanges > storage.getStudyTrackerJournalLimit())
+                || (isCompacting && journalSizeWithChanges > 0);
+
+        if (isSnapshotNeeded) {
+            queueStudyTrackerChanges(new PendingStudyTrackerChanges(new StudyTrackerSnapshot(model.getStudyTracker()),
+                    new ArrayList<>()));
+            journalSize = 0;
+            isQueued = true;
+        } else if (isStudyTrackerChanged) {
+            queueStudyTrackerChanges(new PendingStudyTrackerChanges(null, new ArrayList<>(unqueuedJournalEntries)));
+            journalSize = journalSizeWithChanges;
+            isQueued = true;
+        }
+        unqueuedJournalEntries.clear();
+        isStudyTrackerChanged = false;
+
+        if (!lastQueuedUserPrefs.equals(model.getUserPrefs())) {
+            lastQueuedUserPrefs = new UserPrefs(model.getUserPrefs());
+            pendingUserPrefs.set(new UserPrefs(lastQueuedUserPrefs));
+            isQueued = true;
+        }
+        return isQueued;
+    }
+
+    /**
+     * Queues {@code changes} to be saved after the study tracker changes that are already queued.
+     */
+    private void queueStudyTrackerChanges(PendingStudyTrackerChanges changes) {
+        pendingStudyTrackerChanges.accumulateAndGet(changes, (pending, later) ->
+                pending == null ? later : pending.followedBy(later));
+    }
+
+    /**
+     * Saves the queued changes, if any.
+     * A snapshot that fails to save is queued again, together with the journal entries queued after it, unless a
+     * newer snapshot has been queued in the meantime. Journal entries that fail to save are dropped, and a
+     * snapshot of the study tracker is queued with the next changes instead.
+     */
+    private void savePendingChanges() {
+        isSaveScheduled.set(false);
+
+        PendingStudyTrackerChanges studyTrackerChanges = pendingStudyTrackerChanges.getAndSet(null);
+        if (studyTrackerChanges != null) {
+            saveStudyTrackerChanges(studyTrackerChanges);
+        }
+
+        ReadOnlyUserPrefs userPrefs = pendingUserPrefs.getAndSet(null);
+        if (userPrefs != null) {
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save user prefs: " + ioe);
+                pendingUserPrefs.compareAndSet(null, userPrefs);
+                saveFailure.set(ioe);
+            }
+        }
+    }
+
+    private void saveStudyTrackerChanges(PendingStudyTrackerChanges changes) {
+        if (changes.snapshot != null) {
+            try {
+                storage.saveStudyTracker(changes.snapshot);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save study tracker: " + ioe);
+                pendingStudyTrackerChanges.accumulateAndGet(changes, (pending, failed) ->
+                        pending == null ? failed : failed.followedBy(pending));
+                saveFailure.set(ioe);
+                return;
+            }
+        }
+
+        // Once the journal could not be written, it may end with an incomplete entry, so any further entries are
+        // left to the snapshot that replaces the journal.
+        if (changes.journalEntries.isEmpty() || isJournalFailed.get()) {
+            return;
+        }
+        try {
+            storage.appendToStudyTrackerJournal(changes.journalEntries);
+        } catch (IOException ioe) {
+            logger.warning("Failed to journal study tracker changes: " + ioe);
+            isJournalFailed.set(true);
+            saveFailure.set(ioe);
+        }
+    }
+
     @Override
     public ReadOnlyStudyTracker getStudyTracker() {
         return model.getStudyTracker();
@@ -94,4 +348,63 @@ public class LogicManager implements Logic {
     public ObservableList<StudySpot> getTopFiveStudySpotList() {
         return model.getTopFiveStudySpotList();
     }
+
+    @Override
+    public long getTotalStudiedHours() {
+        return model.getTotalStudiedHours();
+    }
+
+    /**
+     * A copy of the study spots and favourite study spots of a study tracker, which is all that is saved of it.
+     * Unlike a copy made with {@link StudyTracker#StudyTracker(ReadOnlyStudyTracker)}, it does not build the indexes
+     * of the study tracker, so it only takes copying the two lists on the thread executing the commands.
+     */
+    private static class StudyTrackerSnapshot implements ReadOnlyStudyTracker {
+        private final ObservableList<StudySpot> studySpots;
+        private final ObservableList<StudySpot> favouriteStudySpots;
+
+        StudyTrackerSnapshot(ReadOnlyStudyTracker studyTracker) {
+            studySpots = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(studyTracker.getStudySpotList()));
+            favouriteStudySpots = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(studyTracker.getFavouriteStudySpotList()));
+        }
+
+        @Override
+        public ObservableList<StudySpot> getStudySpotList() {
+            return studySpots;
+        }
+
+        @Override
+        public ObservableList<StudySpot> getFavouriteStudySpotList() {
+            return favouriteStudySpots;
+        }
+    }
+
+    /**
+     * Changes to the study tracker waiting to be saved: a snapshot of the whole study tracker, if one has to be
+     * saved, followed by journal entries of the changes made after it.
+     */
+    private static class PendingStudyTrackerChanges {
+        private final ReadOnlyStudyTracker snapshot;
+        private final List<StudyTrackerJournalEntry> journalEntries;
+
+        PendingStudyTrackerChanges(ReadOnlyStudyTracker snapshot, List<StudyTrackerJournalEntry> journalEntries) {
+            this.snapshot = snapshot;
+            this.journalEntries = journalEntries;
+        }
+
+        /**
+         * Returns these changes followed by {@code later} changes.
+         * A snapshot in {@code later} already holds these changes, so only {@code later} is kept then.
+         */
+        PendingStudyTrackerChanges followedBy(PendingStudyTrackerChanges later) {
+            if (later.snapshot != null) {
+                return later;
+            }
+            List<StudyTrackerJournalEntry> combinedEntries = new ArrayList<>(journalEntries);
+            combinedEntries.addAll(later.journalEntries);
+            return new PendingStudyTrackerChanges(snapshot, combinedEntries);
+        }
+    }
 }
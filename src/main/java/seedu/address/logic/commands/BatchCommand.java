@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.StudyTrackerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Executes a list of commands as a single command, so that they are saved together once all of them have run.
+ * If any of the commands fails, the changes made by the commands before it are undone.
+ *
+ * Blank lines and lines starting with {@value #COMMENT_START} are skipped.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s): %2$s";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands to run.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d failed: %2$s\n%3$s\nNo changes were made.";
+    public static final String MESSAGE_NESTED_BATCH = "Commands run together cannot run other commands.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final List<String> commandTexts;
+
+    /**
+     * @param commandTexts The commands to run, one per line, as entered by the user.
+     */
+    public BatchCommand(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.commandTexts = new ArrayList<>(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Executing Batch Command of " + commandTexts.size() + " lines...");
+        StudyTracker studyTrackerBefore = new StudyTracker(model.getStudyTracker());
+        UserPrefs userPrefsBefore = new UserPrefs(model.getUserPrefs());
+        StudyTrackerParser parser = new StudyTrackerParser();
+
+        Map<String, Integer> commandCounts = new LinkedHashMap<>();
+        int commandCount = 0;
+        boolean isLogHours = false;
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            CommandResult result;
+            try {
+                Command command = parser.parseCommand(commandText, model.getUserPrefs().getAliasTable());
+                if (command instanceof BatchCommand || command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_BATCH);
+                }
+                result = command.execute(model);
+            } catch (CommandException | ParseException e) {
+                logger.info("Undoing Batch Command after line " + (i + 1) + " failed");
+                model.setStudyTracker(studyTrackerBefore);
+                model.setUserPrefs(userPrefsBefore);
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, commandText, e.getMessage()),
+                        e);
+            } catch (RuntimeException e) {
+                // The earlier commands must not be saved along with a command that stopped partway.
+                logger.warning("Undoing Batch Command after line " + (i + 1) + " threw " + e);
+                model.setStudyTracker(studyTrackerBefore);
+                model.setUserPrefs(userPrefsBefore);
+                throw e;
+            }
+
+            commandCount++;
+            commandCounts.merge(commandText.split("\\s+", 2)[0], 1, Integer::sum);
+            isLogHours |= result.isLogHours();
+        }
+
+        if (commandCount == 0) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+        String summary = commandCounts.entrySet().stream()
+                .map(entry -> entry.getValue() + " " + entry.getKey())
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, summary), isLogHours, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commandTexts.equals(((BatchCommand) other).commandTexts));
+    }
+}
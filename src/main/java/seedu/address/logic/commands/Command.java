@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.studyspot.Name;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns {@code message} followed by the names of the study spots in {@code model} closest to {@code queries},
+     * if there are any, so that a mistyped name can be corrected.
+     */
+    protected static String withNameSuggestions(String message, Model model, List<String> queries) {
+        List<Name> suggestions = model.getSimilarStudySpotNames(queries);
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+        String suggestedNames = suggestions.stream().map(Name::toString).collect(Collectors.joining(", "));
+        return message + "\n" + String.format(Messages.MESSAGE_DID_YOU_MEAN, suggestedNames);
+    }
+
 }
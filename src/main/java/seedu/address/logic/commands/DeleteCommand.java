@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DELETE_SPOT;
 
+import java.util.Collections;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -39,7 +40,8 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         StudySpot studySpotToDelete = model.findStudySpot(name);
         if (studySpotToDelete == null) {
-            throw new CommandException(MESSAGE_INVALID_NAME);
+            throw new CommandException(withNameSuggestions(MESSAGE_INVALID_NAME, model,
+                    Collections.singletonList(name.fullName)));
         }
 
         if (studySpotToDelete.isFavourite()) {
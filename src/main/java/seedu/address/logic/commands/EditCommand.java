@@ -29,7 +29,6 @@ import seedu.address.model.studyspot.Favourite;
 import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.OperatingHours;
 import seedu.address.model.studyspot.Rating;
-import seedu.address.model.studyspot.StudiedHours;
 import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
@@ -94,7 +93,8 @@ public class EditCommand extends Command {
 
         StudySpot studySpotToEdit = model.findStudySpot(name);
         if (studySpotToEdit == null) {
-            throw new CommandException(MESSAGE_INVALID_NAME);
+            throw new CommandException(withNameSuggestions(MESSAGE_INVALID_NAME, model,
+                    Collections.singletonList(name.fullName)));
         }
 
         StudySpot editedStudySpot = createEditedStudySpot(studySpotToEdit, editStudySpotDescriptor);
@@ -122,16 +122,19 @@ public class EditCommand extends Command {
         OperatingHours updatedOperatingHours = editStudySpotDescriptor.getOperatingHours()
                 .orElse(studySpotToEdit.getOperatingHours());
         Address updatedAddress = editStudySpotDescriptor.getAddress().orElse(studySpotToEdit.getAddress());
-        //Studied hours should not be changeable via Edit, so return same value
-        StudiedHours studiedHours = studySpotToEdit.getStudiedHours();
         Set<Tag> updatedTags = editStudySpotDescriptor.updateTags(studySpotToEdit.getTags())
                 .getTags().orElse(studySpotToEdit.getTags());
         Set<Amenity> updatedAmenities = editStudySpotDescriptor.updateAmenities(studySpotToEdit.getAmenities())
                 .getAmenities().orElse(studySpotToEdit.getAmenities());
         Favourite updatedFavourite = editStudySpotDescriptor.getFavourite().orElse(studySpotToEdit.getFavourite());
 
-        return new StudySpot(updatedName, updatedRating, updatedOperatingHours, updatedAddress, studiedHours,
-                updatedFavourite, updatedTags, updatedAmenities);
+        return studySpotToEdit.withName(updatedName)
+                .withRating(updatedRating)
+                .withOperatingHours(updatedOperatingHours)
+                .withAddress(updatedAddress)
+                .withFavourite(updatedFavourite)
+                .withTags(updatedTags)
+                .withAmenities(updatedAmenities);
     }
 
     @Override
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.Collections;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -44,7 +45,8 @@ public class FavouriteCommand extends Command {
 
         StudySpot studySpotToFavourite = model.findStudySpot(name);
         if (studySpotToFavourite == null) {
-            throw new CommandException(MESSAGE_INVALID_NAME);
+            throw new CommandException(withNameSuggestions(MESSAGE_INVALID_NAME, model,
+                    Collections.singletonList(name.fullName)));
         }
 
         if (studySpotToFavourite.isFavourite()) {
@@ -8,19 +8,23 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.studyspot.NameContainsKeywordsPredicate;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
 
 /**
  * Finds and lists all study spots in study tracker whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and a keyword ending with {@code *} matches words starting with it.
+ * The study spots whose names contain the most keywords are listed first. If no study spot is found, the names
+ * closest to the keywords are suggested instead.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all study spots whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them.\n"
+            + "the specified keywords (case-insensitive) and displays them, best matches first.\n"
+            + "End a keyword with * to match words starting with it.\n"
             + "Parameters: KEYWORD MORE_KEYWORDS...\n"
-            + "Example: " + COMMAND_WORD + " com2 library biz ";
+            + "Example: " + COMMAND_WORD + " com2 lib* biz ";
 
     private static final Logger logger = LogsCenter.getLogger(AddCommand.class);
 
@@ -34,9 +38,14 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model) {
         logger.info("Executing Find Command...");
         requireNonNull(model);
-        model.updateFilteredStudySpotList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_STUDYSPOT_LISTED_OVERVIEW, model.getFilteredStudySpotList().size()));
+        StudySpotSearchIndex.Search search = model.createStudySpotSearch(predicate.getKeywords());
+        model.updateFilteredStudySpotList(search, search.byRelevance());
+        int foundCount = model.getFilteredStudySpotList().size();
+        String message = String.format(Messages.MESSAGE_STUDYSPOT_LISTED_OVERVIEW, foundCount);
+        if (foundCount == 0) {
+            message = withNameSuggestions(message, model, predicate.getKeywords());
+        }
+        return new CommandResult(message);
     }
 
     @Override
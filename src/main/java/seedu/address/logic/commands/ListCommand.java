@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_FAVOURITES;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,7 +51,6 @@ public class ListCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(ListCommand.class);
 
-    private final Predicate<StudySpot> predicate;
     private final boolean isFavFlagPresent;
     private final Set<Tag> tags;
     private final Set<Amenity> amenities;
@@ -57,13 +58,12 @@ public class ListCommand extends Command {
 
     /**
      * Creates a ListCommand.
-     * @param predicate Predicate that filters the study spots.
      * @param isFavFlagPresent Tracks if ListCommand lists favourites.
      * @param tags List of tags that study spots are being filtered by.
+     * @param amenities List of amenities that study spots are being filtered by.
+     * @param rating Rating that study spots are being filtered by.
      */
-    public ListCommand(Predicate<StudySpot> predicate, boolean isFavFlagPresent, Set<Tag> tags,
-                       Set<Amenity> amenities, Rating rating) {
-        this.predicate = predicate;
+    public ListCommand(boolean isFavFlagPresent, Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
         this.isFavFlagPresent = isFavFlagPresent;
         this.tags = tags;
         this.amenities = amenities;
@@ -74,7 +74,7 @@ public class ListCommand extends Command {
     public CommandResult execute(Model model) {
         logger.info("Executing List Command...");
         requireNonNull(model);
-        model.updateFilteredStudySpotList(predicate);
+        model.updateFilteredStudySpotList(createPredicate(model));
         StringBuilder sb = new StringBuilder();
         sb.append(MESSAGE_SUCCESS);
         String msg = getFilterMessage(isFavFlagPresent, tags, amenities, rating);
@@ -84,6 +84,21 @@ public class ListCommand extends Command {
         return new CommandResult(sb.toString());
     }
 
+    /**
+     * Returns the predicate that filters the study spots of {@code model}.
+     * Tags, amenities and rating are looked up in the study spot indexes of {@code model}, so that only the study
+     * spots with the rarest of them are checked against the rest.
+     */
+    private Predicate<StudySpot> createPredicate(Model model) {
+        Predicate<StudySpot> predicate = isFavFlagPresent ? PREDICATE_SHOW_FAVOURITES : PREDICATE_SHOW_ALL_STUDYSPOTS;
+        Set<Tag> filterTags = tags != null ? tags : Collections.emptySet();
+        Set<Amenity> filterAmenities = amenities != null ? amenities : Collections.emptySet();
+        if (filterTags.isEmpty() && filterAmenities.isEmpty() && rating == null) {
+            return predicate;
+        }
+        return predicate.and(model.createStudySpotFilter(filterTags, filterAmenities, rating));
+    }
+
     /**
      * Returns the string to be printed containing the filter currently set.
      * @param isFavFlag
@@ -132,48 +147,6 @@ public class ListCommand extends Command {
         return (rating != null) ? Optional.of(rating) : Optional.empty();
     }
 
-    /**
-     * Returns a Predicate that checks if a studySpot contains the tag queried.
-     * @param queryTag
-     */
-    public static Predicate<StudySpot> containsTag(Tag queryTag) {
-        Predicate<StudySpot> studySpotContainTag = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getTags().contains(queryTag);
-            }
-        };
-        return studySpotContainTag;
-    }
-
-    /**
-     * Returns a Predicate that checks if a studySpot contains the amenity queried.
-     * @param queryAmenity
-     */
-    public static Predicate<StudySpot> containsAmenity(Amenity queryAmenity) {
-        Predicate<StudySpot> studySpotContainAmenity = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getAmenities().contains(queryAmenity);
-            }
-        };
-        return studySpotContainAmenity;
-    }
-
-    /**
-     * Returns a Predicate that checks if a studySpot contains the rating queried.
-     * @param queryRating
-     */
-    public static Predicate<StudySpot> containsRating(Rating queryRating) {
-        Predicate<StudySpot> studySpotContainRating = new Predicate<StudySpot>() {
-            @Override
-            public boolean test(StudySpot studySpot) {
-                return studySpot.getRating().equals(queryRating);
-            }
-        };
-        return studySpotContainRating;
-    }
-
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -187,7 +160,6 @@ public class ListCommand extends Command {
         }
 
         // state check
-        // Predicate is not a condition for equals as different predicates may have same results
         ListCommand c = (ListCommand) other;
         return (isFavFlagPresent == c.isFavFlagPresent)
                 && getTags().equals(c.getTags())
@@ -5,22 +5,17 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.Set;
+import java.util.Collections;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.amenity.Amenity;
-import seedu.address.model.studyspot.Address;
-import seedu.address.model.studyspot.Favourite;
 import seedu.address.model.studyspot.Name;
-import seedu.address.model.studyspot.OperatingHours;
-import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudiedHours;
 import seedu.address.model.studyspot.StudySpot;
-import seedu.address.model.tag.Tag;
 
 
 /**
@@ -86,7 +81,8 @@ public class LogCommand extends Command {
         StudySpot studySpotToAddHours = model.findStudySpot(name);
 
         if (studySpotToAddHours == null) {
-            throw new CommandException(MESSAGE_INVALID_NAME);
+            throw new CommandException(withNameSuggestions(MESSAGE_INVALID_NAME, model,
+                    Collections.singletonList(name.fullName)));
         }
 
         if (isResetStudySpot) {
@@ -99,7 +95,7 @@ public class LogCommand extends Command {
 
         try {
             StudiedHours newHours = studySpotToAddHours.getStudiedHours().addHours(studiedHours);
-            StudySpot updatedStudySpot = setStudySpotHours(studySpotToAddHours, newHours);
+            StudySpot updatedStudySpot = studySpotToAddHours.withStudiedHours(newHours);
 
             model.setStudySpot(studySpotToAddHours, updatedStudySpot);
             model.updateFilteredStudySpotList(Model.PREDICATE_SHOW_ALL_STUDYSPOTS);
@@ -115,7 +111,7 @@ public class LogCommand extends Command {
      */
     private CommandResult handleReset(Model model, StudySpot studySpot) {
         StudiedHours newHours = new StudiedHours("0");
-        StudySpot newStudySpot = setStudySpotHours(studySpot, newHours);
+        StudySpot newStudySpot = studySpot.withStudiedHours(newHours);
         model.setStudySpot(studySpot, newStudySpot);
         model.updateFilteredStudySpotList(Model.PREDICATE_SHOW_ALL_STUDYSPOTS);
         return new CommandResult(String.format(MESSAGE_SUCCESS_RESET, name), true, false, false);
@@ -125,11 +121,9 @@ public class LogCommand extends Command {
      * Handles the execute case if the flag is a reset all flag
      */
     private CommandResult handleResetAll(Model model) {
-        for (StudySpot studySpot: model.getFullList()) {
-            StudiedHours newHours = new StudiedHours("0");
-            StudySpot newStudySpot = setStudySpotHours(studySpot, newHours);
-            model.setStudySpot(studySpot, newStudySpot);
-        }
+        StudiedHours newHours = new StudiedHours("0");
+        Predicate<StudySpot> hasStudiedHours = studySpot -> studySpot.getStudiedHours().getHours() != 0;
+        model.updateStudySpots(hasStudiedHours, studySpot -> studySpot.withStudiedHours(newHours));
         model.updateFilteredStudySpotList(Model.PREDICATE_SHOW_ALL_STUDYSPOTS);
         return new CommandResult(MESSAGE_SUCCESS_RESET_ALL, true, false, false);
     }
@@ -138,30 +132,13 @@ public class LogCommand extends Command {
      * Handles the execute case if the flag is an override flag
      */
     private CommandResult handleOverride(Model model, StudySpot studySpot, StudiedHours studiedHours) {
-        StudySpot newStudySpot = setStudySpotHours(studySpot, studiedHours);
+        StudySpot newStudySpot = studySpot.withStudiedHours(studiedHours);
         model.setStudySpot(studySpot, newStudySpot);
         model.updateFilteredStudySpotList(Model.PREDICATE_SHOW_ALL_STUDYSPOTS);
         return new CommandResult(String.format(MESSAGE_SUCCESS_OVERRIDE, studiedHours, studySpot.getName()),
                 true, false, false);
     }
 
-    /**
-     * Given a StudySpot and StudiedHours, return a StudySpot with the given StudiedHours
-     */
-    private static StudySpot setStudySpotHours(StudySpot studySpotToAddHours,
-                                               StudiedHours hoursAfterAddition) {
-        Name name = studySpotToAddHours.getName();
-        Rating rating = studySpotToAddHours.getRating();
-        OperatingHours operatingHours = studySpotToAddHours.getOperatingHours();
-        Address address = studySpotToAddHours.getAddress();
-        StudiedHours studiedHours = hoursAfterAddition;
-        Set<Tag> tags = studySpotToAddHours.getTags();
-        Set<Amenity> amenities = studySpotToAddHours.getAmenities();
-        Favourite favourite = studySpotToAddHours.getFavourite();
-
-        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities);
-    }
-
     public Name getName() {
         return this.name;
     }
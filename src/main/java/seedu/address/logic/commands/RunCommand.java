@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, as a single command.
+ * The changes made by the commands are saved together, and are undone if any of the commands fails.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line.\n"
+            + "If any command fails, none of the commands take effect.\n"
+            + "Blank lines and lines starting with " + BatchCommand.COMMENT_START + " are skipped.\n"
+            + "Parameters: "
+            + PREFIX_FILE + "FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/import.txt";
+
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read the file %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptFile;
+
+    /**
+     * @param scriptFile The file containing the commands to run.
+     */
+    public RunCommand(Path scriptFile) {
+        requireNonNull(scriptFile);
+        this.scriptFile = scriptFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Executing Run Command on " + scriptFile + "...");
+        List<String> commandTexts;
+        try {
+            commandTexts = FileUtil.readFromFile(scriptFile).lines().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, scriptFile, e), e);
+        }
+        return new BatchCommand(commandTexts).execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptFile.equals(((RunCommand) other).scriptFile));
+    }
+}
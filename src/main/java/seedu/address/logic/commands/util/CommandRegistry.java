@@ -0,0 +1,152 @@
+package seedu.address.logic.commands.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FavouriteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UnaliasCommand;
+import seedu.address.logic.commands.UnfavouriteCommand;
+import seedu.address.logic.parser.AddCommandParser;
+import seedu.address.logic.parser.AliasCommandParser;
+import seedu.address.logic.parser.DeleteCommandParser;
+import seedu.address.logic.parser.EditCommandParser;
+import seedu.address.logic.parser.FavouriteCommandParser;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.ListCommandParser;
+import seedu.address.logic.parser.LogCommandParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.RunCommandParser;
+import seedu.address.logic.parser.UnaliasCommandParser;
+import seedu.address.logic.parser.UnfavouriteCommandParser;
+
+/**
+ * Contains all the available commands, each with the parser for its arguments and its usage message.
+ *
+ * The parsers keep no state between commands, so a single instance of each is shared by every command parsed.
+ * A new command only has to be registered here to be parsed, listed in the help window and protected from being
+ * used as an alias.
+ */
+public class CommandRegistry {
+
+    /** Command words mapped to their commands, in the order they are listed in. */
+    private static final Map<String, RegisteredCommand> REGISTERED_COMMANDS = new LinkedHashMap<>();
+
+    static {
+        register(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE, new AddCommandParser());
+        register(AliasCommand.COMMAND_WORD, AliasCommand.MESSAGE_USAGE, new AliasCommandParser());
+        register(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE, arguments -> new ClearCommand());
+        register(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE, new DeleteCommandParser());
+        register(EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE, new EditCommandParser());
+        register(ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_USAGE, arguments -> new ExitCommand());
+        register(FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE, new FindCommandParser());
+        register(FavouriteCommand.COMMAND_WORD, FavouriteCommand.MESSAGE_USAGE, new FavouriteCommandParser());
+        register(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE, arguments -> new HelpCommand());
+        register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, new ListCommandParser());
+        register(LogCommand.COMMAND_WORD, LogCommand.MESSAGE_USAGE, new LogCommandParser());
+        register(RunCommand.COMMAND_WORD, RunCommand.MESSAGE_USAGE, new RunCommandParser());
+        register(UnaliasCommand.COMMAND_WORD, UnaliasCommand.MESSAGE_USAGE, new UnaliasCommandParser());
+        register(UnfavouriteCommand.COMMAND_WORD, UnfavouriteCommand.MESSAGE_USAGE, new UnfavouriteCommandParser());
+    }
+
+    /**
+     * Returns the list of {@code COMMAND_WORD}s as Strings
+     *
+     * The default COMMAND_WORD is in lowercase format. We do some cleaning here to capitalize the COMMAND_WORD.
+     */
+    public static final ObservableList<String> COMMANDS = FXCollections.unmodifiableObservableList(
+            FXCollections.observableArrayList(REGISTERED_COMMANDS.keySet().stream()
+                    .map(cmd -> cmd.substring(0, 1).toUpperCase() + cmd.substring(1))
+                    .collect(Collectors.toList())));
+
+    private static final Map<String, String> COMMAND_TO_USAGE;
+    private static final PrefixTrie<String> COMMAND_WORDS_BY_PREFIX =
+            new PrefixTrie<>(Comparator.naturalOrder(), REGISTERED_COMMANDS.size());
+
+    static {
+        Map<String, String> commandToUsage = new HashMap<>();
+        REGISTERED_COMMANDS.forEach((commandWord, command) -> commandToUsage.put(commandWord, command.usage));
+        COMMAND_TO_USAGE = Collections.unmodifiableMap(commandToUsage);
+        REGISTERED_COMMANDS.keySet().forEach(commandWord -> COMMAND_WORDS_BY_PREFIX.put(commandWord, commandWord));
+    }
+
+    private static void register(String commandWord, String usage, Parser<? extends Command> parser) {
+        assert !REGISTERED_COMMANDS.containsKey(commandWord) : commandWord + " is registered twice";
+        REGISTERED_COMMANDS.put(commandWord, new RegisteredCommand(usage, parser));
+    }
+
+    /**
+     * Returns true if {@code word} is the {@code COMMAND_WORD} of a command.
+     */
+    public static boolean isCommandWord(String word) {
+        requireNonNull(word);
+        return REGISTERED_COMMANDS.containsKey(word);
+    }
+
+    /**
+     * Returns the parser for the arguments of the command with {@code commandWord}, if there is such a command.
+     */
+    public static Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        RegisteredCommand command = REGISTERED_COMMANDS.get(commandWord);
+        return command == null ? Optional.empty() : Optional.of(command.parser);
+    }
+
+    /**
+     * Returns the {@code COMMAND_WORD}s of all the commands, in the order they are listed in.
+     */
+    public static List<String> getCommandWords() {
+        return Collections.unmodifiableList(new ArrayList<>(REGISTERED_COMMANDS.keySet()));
+    }
+
+    /**
+     * Returns the {@code COMMAND_WORD}s that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public static List<String> getCommandWordCompletions(String prefix) {
+        requireNonNull(prefix);
+        return COMMAND_WORDS_BY_PREFIX.getCompletions(prefix);
+    }
+
+    /**
+     * Returns an unmodifiable map of each COMMAND_WORD to the respective MESSAGE_USAGE
+     */
+    public static Map<String, String> getCommandToUsageMapping() {
+        return COMMAND_TO_USAGE;
+    }
+
+    /**
+     * A command in the registry.
+     */
+    private static class RegisteredCommand {
+        private final String usage;
+        private final Parser<? extends Command> parser;
+
+        private RegisteredCommand(String usage, Parser<? extends Command> parser) {
+            this.usage = usage;
+            this.parser = parser;
+        }
+    }
+}
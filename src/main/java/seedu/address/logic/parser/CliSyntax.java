@@ -20,5 +20,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ALIAS = new Prefix("al/");
     public static final Prefix PREFIX_ALIAS_COMMAND = new Prefix("cmd/");
     public static final Prefix PREFIX_HOURS = new Prefix("hr/");
+    public static final Prefix PREFIX_FILE = new Prefix("file/");
 
 }
@@ -0,0 +1,143 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EDIT_SPOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPERATING_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.util.CommandRegistry;
+import seedu.address.model.Model;
+import seedu.address.model.amenity.Amenity;
+
+/**
+ * Completes the word the user is typing at the end of a command.
+ *
+ * The first word of a command is completed with the command words and the aliases of the user. After it, the value
+ * of the last prefix is completed with the names of the study spots, tags, amenity types or command words, depending
+ * on the prefix. A last word that is not part of such a value is completed with the prefixes.
+ * Every completion is looked up in a {@link PrefixTrie}, so it does not depend on the number of study spots.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 5;
+
+    /** The prefixes that can be completed, and that the value after them is completed for. */
+    private static final Prefix[] PREFIXES = {
+        PREFIX_NAME, PREFIX_RATING, PREFIX_OPERATING_HOURS, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_REMOVE_TAG,
+        PREFIX_AMENITY, PREFIX_REMOVE_AMENITY, PREFIX_EDIT_SPOT, PREFIX_ALIAS, PREFIX_ALIAS_COMMAND, PREFIX_HOURS,
+        PREFIX_FILE
+    };
+
+    private static final PrefixTrie<String> PREFIXES_BY_PREFIX =
+            new PrefixTrie<>(Comparator.naturalOrder(), MAX_COMPLETIONS);
+    private static final PrefixTrie<String> AMENITY_TYPES_BY_PREFIX =
+            new PrefixTrie<>(Comparator.naturalOrder(), MAX_COMPLETIONS);
+
+    static {
+        for (Prefix prefix : PREFIXES) {
+            PREFIXES_BY_PREFIX.put(prefix.getPrefix(), prefix.getPrefix());
+        }
+        for (String amenityType : Amenity.VALID_TYPES) {
+            AMENITY_TYPES_BY_PREFIX.put(amenityType, amenityType);
+        }
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} ways to complete the last word of {@code commandText}, each as the whole
+     * command with that word completed. Completions of a prefix value come before completions of the prefixes.
+     */
+    public List<String> complete(String commandText, Model model) {
+        requireNonNull(commandText);
+        requireNonNull(model);
+        String trimmedText = commandText.stripLeading();
+        if (trimmedText.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> completions = new ArrayList<>();
+        int lastWordStart = commandText.lastIndexOf(' ') + 1;
+        if (trimmedText.indexOf(' ') < 0) {
+            addCompletions(completions, commandText, lastWordStart,
+                    getCommandWordCompletions(commandText.substring(lastWordStart), model));
+            return completions;
+        }
+
+        int valueStart = 0;
+        Prefix valuePrefix = null;
+        int argumentsStart = commandText.indexOf(' ', commandText.length() - trimmedText.length());
+        for (int position = argumentsStart + 1; position < commandText.length(); position++) {
+            Prefix prefix = commandText.charAt(position - 1) == ' '
+                    ? ArgumentTokenizer.findPrefixAt(commandText, position, PREFIXES)
+                    : null;
+            if (prefix != null) {
+                valuePrefix = prefix;
+                valueStart = position + prefix.getPrefix().length();
+            }
+        }
+        if (valuePrefix != null) {
+            addCompletions(completions, commandText, valueStart,
+                    getValueCompletions(valuePrefix, commandText.substring(valueStart), model));
+        }
+        if (lastWordStart < commandText.length() && lastWordStart >= valueStart) {
+            addCompletions(completions, commandText, lastWordStart,
+                    PREFIXES_BY_PREFIX.getCompletions(commandText.substring(lastWordStart)));
+        }
+        return completions;
+    }
+
+    private static List<String> getCommandWordCompletions(String commandWordPrefix, Model model) {
+        List<String> commandWords = new ArrayList<>(CommandRegistry.getCommandWordCompletions(commandWordPrefix));
+        commandWords.addAll(model.getUserPrefs().getAliasTable().getCompletions(commandWordPrefix));
+        return commandWords;
+    }
+
+    private static List<String> getValueCompletions(Prefix prefix, String valuePrefix, Model model) {
+        if (prefix.equals(PREFIX_NAME) || prefix.equals(PREFIX_EDIT_SPOT)) {
+            return model.getStudySpotNameCompletions(valuePrefix).stream()
+                    .map(name -> name.fullName)
+                    .collect(Collectors.toList());
+        } else if (prefix.equals(PREFIX_TAG) || prefix.equals(PREFIX_REMOVE_TAG)) {
+            return model.getTagCompletions(valuePrefix).stream()
+                    .map(tag -> tag.tagName)
+                    .collect(Collectors.toList());
+        } else if (prefix.equals(PREFIX_AMENITY) || prefix.equals(PREFIX_REMOVE_AMENITY)) {
+            return AMENITY_TYPES_BY_PREFIX.getCompletions(valuePrefix);
+        } else if (prefix.equals(PREFIX_ALIAS_COMMAND)) {
+            return CommandRegistry.getCommandWordCompletions(valuePrefix);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Adds to {@code completions} the commands made by replacing the end of {@code commandText} from
+     * {@code start} with each of {@code words}, leaving out those that do not change {@code commandText} or
+     * have been added already, until there are {@link #MAX_COMPLETIONS} of them.
+     */
+    private static void addCompletions(List<String> completions, String commandText, int start,
+            List<String> words) {
+        String commandStart = commandText.substring(0, start);
+        for (String word : words) {
+            String completion = commandStart + word;
+            if (completions.size() < MAX_COMPLETIONS && !completion.equals(commandText)
+                    && !completions.contains(completion)) {
+                completions.add(completion);
+            }
+        }
+    }
+}
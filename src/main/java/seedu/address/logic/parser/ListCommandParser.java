@@ -8,13 +8,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Rating;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -31,7 +29,6 @@ public class ListCommandParser implements Parser<ListCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FLAG, PREFIX_TAG, PREFIX_AMENITY,
                 PREFIX_RATING);
-        Predicate<StudySpot> predicate = ParserUtil.parseFlags(argMultimap);
         List<String> flagsList = argMultimap.getAllValues(PREFIX_FLAG);
 
         boolean isFavFlagPresent = ParserUtil.isFlagPresent(flagsList, ListCommand.FLAG_FAVOURITES);
@@ -43,7 +40,10 @@ public class ListCommandParser implements Parser<ListCommand> {
         Set<Amenity> amenityList = isAmenityFlagPresent
                 ? ParserUtil.parseAmenities(argMultimap.getAllValues(PREFIX_AMENITY))
                 : null;
-        Rating rating = isRatingFlagPresent ? ParserUtil.parseRating(argMultimap.getValue(PREFIX_RATING).get()) : null;
+        Rating rating = isRatingFlagPresent
+                ? ParserUtil.parseRating(argMultimap.getValue(PREFIX_RATING)
+                        .orElseThrow(() -> new ParseException(ListCommand.MESSAGE_MISSING_RATING)))
+                : null;
 
         if (isTagFlagPresent && tagList.isEmpty()) {
             throw new ParseException(ListCommand.MESSAGE_MISSING_TAGS);
@@ -56,6 +56,6 @@ public class ListCommandParser implements Parser<ListCommand> {
                 throw new ParseException(ListCommand.MESSAGE_UNKNOWN_FLAGS);
             }
         }
-        return new ListCommand(predicate, isFavFlagPresent, tagList, amenityList, rating);
+        return new ListCommand(isFavFlagPresent, tagList, amenityList, rating);
     }
 }
@@ -1,24 +1,15 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_FLAG;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
-import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.amenity.Amenity;
@@ -27,7 +18,6 @@ import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.OperatingHours;
 import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudiedHours;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -77,7 +67,7 @@ public class ParserUtil {
         if (!Rating.isValidRating(trimmedRating)) {
             throw new ParseException(Rating.MESSAGE_CONSTRAINTS);
         }
-        return new Rating(trimmedRating);
+        return Rating.of(trimmedRating);
     }
 
     /**
@@ -136,43 +126,6 @@ public class ParserUtil {
         return new StudiedHours(trimmedStudiedHours);
     }
 
-    /**
-     * Parses flags given in ArgumentMultimap into Predicate
-     *
-     * @throws ParseException if the given flags and parameters are invalid
-     */
-    public static Predicate<StudySpot> parseFlags(ArgumentMultimap argMultiMap) throws ParseException {
-        requireNonNull(argMultiMap);
-        List<String> flags = argMultiMap.getAllValues(PREFIX_FLAG);
-        List<Predicate<StudySpot>> predicateList = new ArrayList<>();
-        predicateList.add(PREDICATE_SHOW_ALL_STUDYSPOTS);
-        if (isFlagPresent(flags, ListCommand.FLAG_FAVOURITES)) {
-            predicateList.add(StudySpot::isFavourite);
-        }
-
-        if (isFlagPresent(flags, ListCommand.FLAG_TAGS)) {
-            Set<Tag> tags = parseTags(argMultiMap.getAllValues(PREFIX_TAG));
-            List<Predicate<StudySpot>> tagsPredicate =
-                    tags.stream().map(tag -> ListCommand.containsTag(tag)).collect(Collectors.toList());
-            predicateList.addAll(tagsPredicate);
-        }
-
-        if (isFlagPresent(flags, ListCommand.FLAG_AMENITIES)) {
-            Set<Amenity> amenities = parseAmenities(argMultiMap.getAllValues(PREFIX_AMENITY));
-            List<Predicate<StudySpot>> amenitiesPredicate =
-                    amenities.stream().map(amenity-> ListCommand.containsAmenity(amenity)).collect(Collectors.toList());
-            predicateList.addAll(amenitiesPredicate);
-        }
-
-        if (isFlagPresent(flags, ListCommand.FLAG_RATING)) {
-            Rating rating = parseRating(argMultiMap.getValue(PREFIX_RATING)
-                    .orElseThrow(() -> new ParseException(ListCommand.MESSAGE_MISSING_RATING)));
-            Predicate<StudySpot> ratingsPredicate = ListCommand.containsRating(rating);
-            predicateList.add(ratingsPredicate);
-        }
-        return predicateList.stream().reduce(Predicate::and).get();
-    }
-
     /**
      * Checks if a particular flag is present in the arguments.
      * @param args Arguments from MultiMap.
@@ -206,7 +159,7 @@ public class ParserUtil {
             }
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -234,7 +187,7 @@ public class ParserUtil {
             throw new ParseException(String.format(Amenity.MESSAGE_CONSTRAINTS,
                     Amenity.listAllAmenityTypes(Amenity.VALID_TYPES)));
         }
-        return new Amenity(trimmedAmenity);
+        return Amenity.of(trimmedAmenity);
     }
 
     /**
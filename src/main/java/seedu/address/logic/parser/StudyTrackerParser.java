@@ -4,30 +4,21 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.AliasCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FavouriteCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.LogCommand;
-import seedu.address.logic.commands.UnaliasCommand;
-import seedu.address.logic.commands.UnfavouriteCommand;
+import seedu.address.logic.commands.util.CommandRegistry;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasTable;
 
 /**
  * Parses user input.
+ * The command word of the input, or of the alias it starts with, picks the parser for its arguments from the
+ * {@link CommandRegistry}.
  */
 public class StudyTrackerParser {
     /**
@@ -44,6 +35,18 @@ public class StudyTrackerParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput, List<Alias> aliases) throws ParseException {
+        return parseCommand(userInput, new AliasTable(aliases));
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @param aliasTable the compiled aliases to check against
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput, AliasTable aliasTable) throws ParseException {
 
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
@@ -55,86 +58,15 @@ public class StudyTrackerParser {
         String commandWord = commandWordOrAlias;
 
         // extra steps if we're actually parsing an alias
-        if (isInvokingAlias(commandWordOrAlias, aliases)) {
-            String expandedAlias = expandAlias(commandWordOrAlias, aliases);
-            String expandedCommandWord = expandedAlias.split(" ")[0];
-            String expandedArgs = expandedAlias.replace(expandedCommandWord, "");
-
-            commandWord = expandedCommandWord;
-            arguments = expandedArgs + arguments;
+        Optional<Alias> alias = aliasTable.find(commandWordOrAlias);
+        if (alias.isPresent()) {
+            commandWord = alias.get().getCommandWord();
+            arguments = alias.get().getCommandArguments() + arguments;
         }
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case AliasCommand.COMMAND_WORD:
-            return new AliasCommandParser().parse(arguments);
-
-        case UnaliasCommand.COMMAND_WORD:
-            return new UnaliasCommandParser().parse(arguments);
-
-        case FavouriteCommand.COMMAND_WORD:
-            return new FavouriteCommandParser().parse(arguments);
-
-        case UnfavouriteCommand.COMMAND_WORD:
-            return new UnfavouriteCommandParser().parse(arguments);
-
-        case LogCommand.COMMAND_WORD:
-            return new LogCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
-    }
-
-
-    /**
-     * Checks if command word is an alias. If so, expands the alias.
-     *
-     * @@author JavaHelper
-     * Reused from https://stackoverflow.com/a/50349646
-     */
-    private boolean isInvokingAlias(String commandWordOrAlias, List<Alias> aliases) {
-        // Create a Map of key: userAlias, value: aliasCommandWord for each alias
-        Map<String, String> aliasMap = aliases.stream().collect(
-                Collectors.toMap(Alias::getUserAlias, Alias::getAliasCommandWord)
-        );
-        return aliasMap.containsKey(commandWordOrAlias);
-    }
-
-    /**
-     * Expands the provided alias.
-     * Assumption: provided {@code alias} is a valid alias in the list of Aliases
-     */
-    private String expandAlias(String alias, List<Alias> aliases) {
-        // Create a Map of key: userAlias, value: aliasCommandWord for each alias
-        Map<String, String> aliasMap = aliases.stream().collect(
-                Collectors.toMap(Alias::getUserAlias, Alias::getAliasCommandWord)
-        );
-        return aliasMap.get(alias);
+        Parser<? extends Command> parser = CommandRegistry.getParser(commandWord)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COMMAND));
+        return parser.parse(arguments);
     }
 
 }
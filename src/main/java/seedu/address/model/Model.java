@@ -1,13 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -80,6 +88,24 @@ public interface Model {
      */
     StudySpot findStudySpot(Name name);
 
+    /**
+     * Returns the names of the study spots in the study tracker that are closest to any of {@code queries}, which
+     * may be mistyped names or words in names, closest first.
+     */
+    List<Name> getSimilarStudySpotNames(List<String> queries);
+
+    /**
+     * Returns the names of the study spots in the study tracker that start with {@code prefix}, ignoring case.
+     * Recently used study spots come first, followed by those with the most studied hours.
+     */
+    List<Name> getStudySpotNameCompletions(String prefix);
+
+    /**
+     * Returns the tags of the study spots in the study tracker that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    List<Tag> getTagCompletions(String prefix);
+
     /**
      * Deletes the given study spot.
      * The study spot must exist in the study tracker.
@@ -100,6 +126,13 @@ public interface Model {
      */
     void setStudySpot(StudySpot target, StudySpot editedStudySpot);
 
+    /**
+     * Replaces every study spot that satisfies {@code predicate} with the study spot {@code updater} returns for it,
+     * as a single change to the study spot list.
+     * The updated study spots must not have the same identity as each other or as the other study spots.
+     */
+    void updateStudySpots(Predicate<StudySpot> predicate, UnaryOperator<StudySpot> updater);
+
     /**
      * Returns true if a study spot with the same identity as {@code studySpot} is a favourite in the study tracker.
      */
@@ -134,6 +167,30 @@ public interface Model {
      */
     void updateFilteredStudySpotList(Predicate<StudySpot> predicate);
 
+    /**
+     * Updates the filter of the filtered study spot list to filter by the given {@code predicate}, and orders the
+     * study spots in it by {@code comparator}.
+     * The study spots are kept in the order of the study tracker once the filter is updated again without a
+     * comparator.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStudySpotList(Predicate<StudySpot> predicate, Comparator<StudySpot> comparator);
+
+    /**
+     * Returns a predicate that matches the study spots in the study tracker that have all of {@code tags}, all of
+     * {@code amenities} and, unless {@code rating} is null, {@code rating}.
+     * The predicate is answered from an index of the study spots, and keeps matching the study tracker as it changes.
+     * @throws IllegalArgumentException if no tag, amenity or rating is given.
+     */
+    Predicate<StudySpot> createStudySpotFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating);
+
+    /**
+     * Returns a search for the study spots in the study tracker whose names contain any of {@code keywords}.
+     * The search is answered from an index of the words in the names of the study spots, and keeps matching the
+     * study tracker as it changes.
+     */
+    StudySpotSearchIndex.Search createStudySpotSearch(List<String> keywords);
+
     /**
      * Returns an unmodifiable view of the non filtered study spot list
      */
@@ -143,4 +200,9 @@ public interface Model {
      * Returns the top 5 {@code StudySpots} based off the studied hours
      */
     ObservableList<StudySpot> getTopFiveStudySpotList();
+
+    /**
+     * Returns the total studied hours of all {@code StudySpots}.
+     */
+    long getTotalStudiedHours();
 }
@@ -4,20 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the study tracker data.
@@ -28,6 +34,7 @@ public class ModelManager implements Model {
     private final StudyTracker studyTracker;
     private final UserPrefs userPrefs;
     private final FilteredList<StudySpot> filteredStudySpots;
+    private final SortedList<StudySpot> sortedStudySpots;
     private final FilteredList<StudySpot> favouriteStudySpots;
 
     /**
@@ -42,6 +49,7 @@ public class ModelManager implements Model {
         this.studyTracker = new StudyTracker(studyTracker);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudySpots = new FilteredList<>(this.studyTracker.getStudySpotList());
+        sortedStudySpots = new SortedList<>(filteredStudySpots);
         favouriteStudySpots = new FilteredList<>(this.studyTracker.getFavouriteStudySpotList());
     }
 
@@ -86,7 +94,7 @@ public class ModelManager implements Model {
 
     @Override
     public void addAlias(Alias aliasToAdd) {
-        List<Alias> aliases = userPrefs.getUserAliases();
+        List<Alias> aliases = new ArrayList<>(userPrefs.getUserAliases());
 
         // if alias already defined, replace command word with incoming aliasToAdd
         aliases.removeIf(al -> al.userAlias.equals(aliasToAdd.getUserAlias()));
@@ -97,12 +105,11 @@ public class ModelManager implements Model {
 
     @Override
     public void removeAlias(Alias aliasToRemove) {
-        List<Alias> aliases = userPrefs.getUserAliases();
-
-        // if alias already defined, replace command word with incoming aliasToAdd
-        // otherwise, do nothing
+        if (!userPrefs.getAliasTable().contains(aliasToRemove.getUserAlias())) {
+            return;
+        }
+        List<Alias> aliases = new ArrayList<>(userPrefs.getUserAliases());
         aliases.removeIf(al -> al.userAlias.equals(aliasToRemove.getUserAlias()));
-
         userPrefs.setUserAliases(aliases);
     }
 
@@ -110,9 +117,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasAlias(Alias alias) {
         requireNonNull(alias);
-        List<Alias> aliases = userPrefs.getUserAliases();
-
-        return aliases.stream().anyMatch(a -> a.isSameAlias(alias));
+        return userPrefs.getAliasTable().contains(alias.getUserAlias());
     }
 
     //=========== StudyTracker ================================================================================
@@ -144,6 +149,24 @@ public class ModelManager implements Model {
         return studyTracker.findStudySpot(name);
     }
 
+    @Override
+    public List<Name> getSimilarStudySpotNames(List<String> queries) {
+        requireNonNull(queries);
+        return studyTracker.getNameSuggestionIndex().getSuggestions(queries);
+    }
+
+    @Override
+    public List<Name> getStudySpotNameCompletions(String prefix) {
+        requireNonNull(prefix);
+        return studyTracker.getStudySpotCompletionIndex().getNameCompletions(prefix);
+    }
+
+    @Override
+    public List<Tag> getTagCompletions(String prefix) {
+        requireNonNull(prefix);
+        return studyTracker.getStudySpotCompletionIndex().getTagCompletions(prefix);
+    }
+
     @Override
     public void deleteStudySpot(StudySpot target) {
         studyTracker.removeStudySpot(target);
@@ -165,6 +188,13 @@ public class ModelManager implements Model {
         studyTracker.setStudySpot(target, editedStudySpot);
     }
 
+    @Override
+    public void updateStudySpots(Predicate<StudySpot> predicate, UnaryOperator<StudySpot> updater) {
+        requireAllNonNull(predicate, updater);
+
+        studyTracker.updateStudySpots(predicate, updater);
+    }
+
     /**
      * Returns true if a study spot with the same identity as {@code studySpot} is a favourite in the study tracker.
      */
@@ -203,43 +233,45 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<StudySpot> getFilteredStudySpotList() {
-        return filteredStudySpots;
+        return sortedStudySpots;
     }
 
     @Override
     public void updateFilteredStudySpotList(Predicate<StudySpot> predicate) {
         requireNonNull(predicate);
+        sortedStudySpots.setComparator(null);
+        filteredStudySpots.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredStudySpotList(Predicate<StudySpot> predicate, Comparator<StudySpot> comparator) {
+        requireAllNonNull(predicate, comparator);
         filteredStudySpots.setPredicate(predicate);
+        sortedStudySpots.setComparator(comparator);
+    }
+
+    @Override
+    public Predicate<StudySpot> createStudySpotFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        return studyTracker.getStudySpotIndex().createFilter(tags, amenities, rating);
+    }
+
+    @Override
+    public StudySpotSearchIndex.Search createStudySpotSearch(List<String> keywords) {
+        return studyTracker.getStudySpotSearchIndex().createSearch(keywords);
     }
 
     /**
-     * Returns an unmodifiable view of the list of the top 5 Studied {@code StudySpot}
+     * Returns an unmodifiable view of the list of the top 5 Studied {@code StudySpot}, backed by the top study
+     * spot index of {@code studyTracker}.
      */
     @Override
     public ObservableList<StudySpot> getTopFiveStudySpotList() {
-        int numOfSpots = 0;
-        ObservableList<StudySpot> result = FXCollections.observableArrayList();
-        Comparator<StudySpot> comparator = (spotA, spotB) -> {
-            int spotAStudiedHours = spotA.getStudiedHours().getHours();
-            int spotBStudiedHours = spotB.getStudiedHours().getHours();
-            return spotBStudiedHours - spotAStudiedHours;
-        };
-
-        //Priority queue based off studied hours, greater the studied hours the greater priority
-        PriorityQueue<StudySpot> queue = new PriorityQueue<>(5, comparator);
-        ObservableList<StudySpot> fullList = studyTracker.getStudySpotList();
-
-        //Add all elements from fullList into priority queue
-        queue.addAll(fullList);
-
-        while (!queue.isEmpty()) {
-            if (numOfSpots == 5) {
-                break;
-            }
-            result.add(queue.remove());
-            numOfSpots++;
-        }
-        return result;
+        return studyTracker.getTopStudySpotList();
+    }
+
+    @Override
+    public long getTotalStudiedHours() {
+        return studyTracker.getStudiedHoursTotal().getTotal();
     }
 
     //=========== Favourite StudySpots ===============================================================================
@@ -269,7 +301,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return studyTracker.equals(other.studyTracker)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudySpots.equals(other.filteredStudySpots);
+                && sortedStudySpots.equals(other.sortedStudySpots);
     }
 
     @Override
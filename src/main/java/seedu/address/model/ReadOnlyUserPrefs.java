@@ -5,6 +5,7 @@ import java.util.List;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasTable;
 
 /**
  * Unmodifiable view of user prefs.
@@ -17,4 +18,9 @@ public interface ReadOnlyUserPrefs {
 
     List<Alias> getUserAliases();
 
+    /**
+     * Returns the user aliases compiled for looking up the alias a command starts with.
+     */
+    AliasTable getAliasTable();
+
 }
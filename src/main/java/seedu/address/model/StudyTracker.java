@@ -1,14 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.studyspot.Favourite;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.NameSuggestionIndex;
+import seedu.address.model.studyspot.StudiedHoursTotal;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotCompletionIndex;
+import seedu.address.model.studyspot.StudySpotIndex;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
+import seedu.address.model.studyspot.TopStudySpotList;
 import seedu.address.model.studyspot.UniqueStudySpotList;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
 
 /**
  * Wraps all data at the study-tracker level
@@ -16,8 +31,16 @@ import seedu.address.model.studyspot.UniqueStudySpotList;
  */
 public class StudyTracker implements ReadOnlyStudyTracker {
 
+    public static final int TOP_STUDY_SPOTS_LIMIT = 5;
+
     private final UniqueStudySpotList studySpots;
     private final UniqueStudySpotList favouriteStudySpots;
+    private final TopStudySpotList topStudySpots;
+    private final StudiedHoursTotal studiedHoursTotal;
+    private final StudySpotIndex studySpotIndex;
+    private final StudySpotSearchIndex studySpotSearchIndex;
+    private final NameSuggestionIndex nameSuggestionIndex;
+    private final StudySpotCompletionIndex studySpotCompletionIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +52,12 @@ public class StudyTracker implements ReadOnlyStudyTracker {
     {
         studySpots = new UniqueStudySpotList();
         favouriteStudySpots = new UniqueStudySpotList();
+        topStudySpots = new TopStudySpotList(TOP_STUDY_SPOTS_LIMIT);
+        studiedHoursTotal = new StudiedHoursTotal();
+        studySpotIndex = new StudySpotIndex();
+        studySpotSearchIndex = new StudySpotSearchIndex();
+        nameSuggestionIndex = new NameSuggestionIndex();
+        studySpotCompletionIndex = new StudySpotCompletionIndex(studySpots.asUnmodifiableObservableList());
     }
 
     public StudyTracker() {}
@@ -48,7 +77,29 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      * {@code studySpots} must not contain duplicate study spots.
      */
     public void setStudySpots(List<StudySpot> studySpots) {
-        this.studySpots.setStudySpots(studySpots);
+        replaceStudySpots(studySpots);
+        studySpotCompletionIndex.reset();
+    }
+
+    /**
+     * Replaces the contents of the study spot list, and of every index but the completion index, with
+     * {@code studySpots}.
+     */
+    private void replaceStudySpots(List<StudySpot> studySpots) {
+        // The index is updated before the list, as filters backed by the index are tested as soon as the list
+        // changes. It is restored if the list rejects the change.
+        studySpotIndex.setStudySpots(studySpots);
+        studySpotSearchIndex.setStudySpots(studySpots);
+        try {
+            this.studySpots.setStudySpots(studySpots);
+        } catch (DuplicateStudySpotException e) {
+            studySpotIndex.setStudySpots(this.studySpots.asUnmodifiableObservableList());
+            studySpotSearchIndex.setStudySpots(this.studySpots.asUnmodifiableObservableList());
+            throw e;
+        }
+        topStudySpots.setStudySpots(studySpots);
+        studiedHoursTotal.setStudySpots(studySpots);
+        nameSuggestionIndex.setNames(studySpots.stream().map(StudySpot::getName).collect(Collectors.toList()));
     }
 
     /**
@@ -80,20 +131,16 @@ public class StudyTracker implements ReadOnlyStudyTracker {
     }
 
     /**
-     * Returns StudySpot with the specified {@code Name} in the study tracker.
+     * Returns StudySpot with the specified {@code Name} in the study tracker, ignoring case.
      * Otherwise, returns null.
+     * The lookup goes through the name index of the study spot list, so it does not depend on the number of
+     * study spots.
      *
      * @param name
      */
     public StudySpot findStudySpot(Name name) {
-        StudySpot studySpot = null;
-        for (StudySpot current: studySpots) {
-            if (current.isSameName(name)) {
-                studySpot = current;
-                break;
-            }
-        }
-        return studySpot;
+        requireNonNull(name);
+        return studySpots.find(name);
     }
 
     /**
@@ -101,7 +148,20 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      * The study spot must not already exist in the study tracker.
      */
     public void addStudySpot(StudySpot p) {
-        studySpots.add(p);
+        studySpotIndex.add(p);
+        studySpotSearchIndex.add(p);
+        try {
+            studySpots.add(p);
+        } catch (DuplicateStudySpotException e) {
+            studySpotIndex.remove(p);
+            studySpotSearchIndex.remove(p);
+            throw e;
+        }
+        topStudySpots.add(p);
+        studiedHoursTotal.add(p);
+        nameSuggestionIndex.add(p.getName());
+        studySpotCompletionIndex.add(p);
+        studySpotCompletionIndex.markUsed(p.getName());
     }
 
     /**
@@ -113,18 +173,91 @@ public class StudyTracker implements ReadOnlyStudyTracker {
     public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
         requireNonNull(editedStudySpot);
 
-        studySpots.setStudySpot(target, editedStudySpot);
+        // The stored instance is looked up as the top study spots and the studied hours total depend on
+        // its studied hours, which may differ from those of target, and the indexes keep study spots by identity.
+        StudySpot replacedStudySpot = studySpots.find(target.getName());
+        if (replacedStudySpot == null) {
+            throw new StudySpotNotFoundException();
+        }
+        studySpotIndex.setStudySpot(replacedStudySpot, editedStudySpot);
+        studySpotSearchIndex.setStudySpot(replacedStudySpot, editedStudySpot);
+        try {
+            studySpots.setStudySpot(target, editedStudySpot);
+        } catch (DuplicateStudySpotException | StudySpotNotFoundException e) {
+            studySpotIndex.setStudySpot(editedStudySpot, replacedStudySpot);
+            studySpotSearchIndex.setStudySpot(editedStudySpot, replacedStudySpot);
+            throw e;
+        }
+        topStudySpots.setStudySpot(replacedStudySpot, editedStudySpot);
+        studiedHoursTotal.setStudySpot(replacedStudySpot, editedStudySpot);
+        if (!replacedStudySpot.getName().equals(editedStudySpot.getName())) {
+            nameSuggestionIndex.remove(replacedStudySpot.getName());
+            nameSuggestionIndex.add(editedStudySpot.getName());
+        }
+        studySpotCompletionIndex.setStudySpot(replacedStudySpot, editedStudySpot);
+        studySpotCompletionIndex.markUsed(editedStudySpot.getName());
         if (editedStudySpot.isFavourite() && favouriteStudySpots.contains(target)) {
             favouriteStudySpots.setStudySpot(target, editedStudySpot);
         }
     }
 
+    /**
+     * Replaces every study spot that satisfies {@code predicate} with the study spot {@code updater} returns for it.
+     * The study spots are updated in a single pass and the study spot list changes once, however many study spots
+     * are updated. As in {@link #setStudySpot(StudySpot, StudySpot)}, an updated favourite stays a favourite if the
+     * study spot it is replaced with is a favourite.
+     *
+     * @throws DuplicateStudySpotException if the updated study spots would contain duplicate study spots, in which
+     *     case the study tracker is left unchanged.
+     */
+    public void updateStudySpots(Predicate<StudySpot> predicate, UnaryOperator<StudySpot> updater) {
+        requireAllNonNull(predicate, updater);
+        List<StudySpot> updatedStudySpots = new ArrayList<>(studySpots.asUnmodifiableObservableList().size());
+        List<StudySpot> replacedStudySpots = new ArrayList<>();
+        Map<Name, StudySpot> updatesByName = new HashMap<>();
+        for (StudySpot studySpot : studySpots) {
+            if (!predicate.test(studySpot)) {
+                updatedStudySpots.add(studySpot);
+                continue;
+            }
+            StudySpot updatedStudySpot = requireNonNull(updater.apply(studySpot));
+            updatedStudySpots.add(updatedStudySpot);
+            replacedStudySpots.add(studySpot);
+            updatesByName.put(studySpot.getName(), updatedStudySpot);
+        }
+        if (updatesByName.isEmpty()) {
+            return;
+        }
+
+        replaceStudySpots(updatedStudySpots);
+        // The completion index is updated in place instead of being reset, so that it keeps its tries and the
+        // order of the recently used names, which a bulk update does not change.
+        for (StudySpot replacedStudySpot : replacedStudySpots) {
+            studySpotCompletionIndex.setStudySpot(replacedStudySpot, updatesByName.get(replacedStudySpot.getName()));
+        }
+        List<StudySpot> updatedFavouriteStudySpots = new ArrayList<>();
+        for (StudySpot favouriteStudySpot : favouriteStudySpots) {
+            StudySpot updatedStudySpot = updatesByName.get(favouriteStudySpot.getName());
+            updatedFavouriteStudySpots.add(updatedStudySpot != null && updatedStudySpot.isFavourite()
+                    ? updatedStudySpot
+                    : favouriteStudySpot);
+        }
+        favouriteStudySpots.setStudySpots(updatedFavouriteStudySpots);
+    }
+
     /**
      * Removes {@code key} from this {@code StudyTracker}.
      * {@code key} must exist in the study tracker.
      */
     public void removeStudySpot(StudySpot key) {
+        StudySpot removedStudySpot = studySpots.find(key.getName());
         studySpots.remove(key);
+        topStudySpots.remove(removedStudySpot);
+        studiedHoursTotal.remove(removedStudySpot);
+        studySpotIndex.remove(removedStudySpot);
+        studySpotSearchIndex.remove(removedStudySpot);
+        nameSuggestionIndex.remove(removedStudySpot.getName());
+        studySpotCompletionIndex.remove(removedStudySpot);
     }
 
     //// Favourite study spot-level operations
@@ -146,9 +279,7 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      */
     public StudySpot addStudySpotToFavourites(StudySpot studySpot) {
         assert(hasStudySpot(studySpot) == true);
-        StudySpot favouriteStudySpot = new StudySpot(studySpot.getName(), studySpot.getRating(),
-                studySpot.getOperatingHours(), studySpot.getAddress(), studySpot.getStudiedHours(),
-                new Favourite(true), studySpot.getTags(), studySpot.getAmenities());
+        StudySpot favouriteStudySpot = studySpot.withFavourite(Favourite.FAVOURITE);
         setStudySpot(studySpot, favouriteStudySpot);
         favouriteStudySpots.add(favouriteStudySpot);
         return favouriteStudySpot;
@@ -163,9 +294,7 @@ public class StudyTracker implements ReadOnlyStudyTracker {
      */
     public StudySpot removeStudySpotFromFavourites(StudySpot studySpot) {
         assert(hasStudySpot(studySpot) == true);
-        StudySpot unfavouriteStudySpot = new StudySpot(studySpot.getName(), studySpot.getRating(),
-                studySpot.getOperatingHours(), studySpot.getAddress(), studySpot.getStudiedHours(),
-                new Favourite(false), studySpot.getTags(), studySpot.getAmenities());
+        StudySpot unfavouriteStudySpot = studySpot.withFavourite(Favourite.NOT_FAVOURITE);
         setStudySpot(studySpot, unfavouriteStudySpot);
         favouriteStudySpots.remove(studySpot);
         return unfavouriteStudySpot;
@@ -173,6 +302,15 @@ public class StudyTracker implements ReadOnlyStudyTracker {
 
     //// util methods
 
+    /**
+     * Returns true if the name indexes of both the study spot list and the favourites list agree with
+     * the contents of the lists.
+     * This walks every study spot and is meant for verifying the indexes in tests.
+     */
+    public boolean isNameIndexConsistent() {
+        return studySpots.isIndexConsistent() && favouriteStudySpots.isIndexConsistent();
+    }
+
     @Override
     public String toString() {
         return studySpots.asUnmodifiableObservableList().size() + " study spots";
@@ -189,6 +327,50 @@ public class StudyTracker implements ReadOnlyStudyTracker {
         return favouriteStudySpots.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the study spots with the most studied hours, in descending order of studied hours, as an
+     * unmodifiable {@code ObservableList}.
+     * The same list is returned on every call and is updated as study spots are added, edited or removed.
+     */
+    public ObservableList<StudySpot> getTopStudySpotList() {
+        return topStudySpots.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the running totals of studied hours of the study spots in the study tracker.
+     */
+    public StudiedHoursTotal getStudiedHoursTotal() {
+        return studiedHoursTotal;
+    }
+
+    /**
+     * Returns the index of the study spots in the study tracker by tag, amenity and rating.
+     */
+    public StudySpotIndex getStudySpotIndex() {
+        return studySpotIndex;
+    }
+
+    /**
+     * Returns the index of the study spots in the study tracker by the words in their names.
+     */
+    public StudySpotSearchIndex getStudySpotSearchIndex() {
+        return studySpotSearchIndex;
+    }
+
+    /**
+     * Returns the index of the names of the study spots in the study tracker by their spelling.
+     */
+    public NameSuggestionIndex getNameSuggestionIndex() {
+        return nameSuggestionIndex;
+    }
+
+    /**
+     * Returns the index of the names and tags of the study spots in the study tracker by their prefixes.
+     */
+    public StudySpotCompletionIndex getStudySpotCompletionIndex() {
+        return studySpotCompletionIndex;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
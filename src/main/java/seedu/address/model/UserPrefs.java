@@ -11,6 +11,7 @@ import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasTable;
 
 /**
  * Represents User's preferences.
@@ -29,6 +30,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     // We want the aliases to be editable, so we need to wrap with ArrayList
     // https://stackoverflow.com/questions/2965747
     private List<Alias> userAliases = new ArrayList<>(DEFAULT_PROGRAM_ALIASES);
+    // JsonUtil saves every field, but the table is compiled from the aliases and is not meant to be saved.
+    private transient AliasTable aliasTable = new AliasTable(userAliases);
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -50,7 +53,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudyTrackerFilePath(newUserPrefs.getStudyTrackerFilePath());
-        setUserAliases(newUserPrefs.getUserAliases());
+        setUserAliases(new ArrayList<>(newUserPrefs.getUserAliases()));
     }
 
     public GuiSettings getGuiSettings() {
@@ -71,15 +74,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.studyTrackerFilePath = studyTrackerFilePath;
     }
 
+    /**
+     * Replaces the user aliases with {@code aliases}, and compiles them into a new alias table.
+     */
     public void setUserAliases(List<Alias> aliases) {
         requireNonNull(aliases);
         this.userAliases = aliases;
+        this.aliasTable = new AliasTable(aliases);
     }
 
     public List<Alias> getUserAliases() {
         return userAliases;
     }
 
+    @Override
+    public AliasTable getAliasTable() {
+        return aliasTable;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
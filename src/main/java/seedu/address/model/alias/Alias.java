@@ -2,12 +2,13 @@ package seedu.address.model.alias;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 import java.util.Objects;
 
 import seedu.address.logic.commands.AliasCommand;
 import seedu.address.logic.commands.UnaliasCommand;
-import seedu.address.logic.commands.util.CommandList;
+import seedu.address.logic.commands.util.CommandRegistry;
 
 /**
  * Represents an Alias in the study tracker program.
@@ -28,6 +29,10 @@ public class Alias {
     public final String userAlias;
     public final String aliasCommandWord;
 
+    /** The command word that {@code aliasCommandWord} starts with, and the arguments that follow it. */
+    private final String commandWord;
+    private final String commandArguments;
+
     /**
      * Constructs as {@code Alias}.
      *
@@ -42,6 +47,10 @@ public class Alias {
         checkArgument(isValidCommandWord(aliasCommandWord), MESSAGE_COMMAND_CONSTRAINTS);
         this.userAlias = userAlias;
         this.aliasCommandWord = aliasCommandWord;
+
+        int commandWordEnd = aliasCommandWord.indexOf(' ');
+        this.commandWord = commandWordEnd < 0 ? aliasCommandWord : aliasCommandWord.substring(0, commandWordEnd);
+        this.commandArguments = aliasCommandWord.substring(commandWord.length());
     }
 
     public String getUserAlias() {
@@ -52,13 +61,27 @@ public class Alias {
         return aliasCommandWord;
     }
 
+    /**
+     * Returns the command word of the command this alias expands to, e.g. {@code log} for {@code log -o}.
+     */
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /**
+     * Returns the arguments of the command this alias expands to, including the space before them,
+     * e.g. {@code " -o"} for {@code log -o}.
+     */
+    public String getCommandArguments() {
+        return commandArguments;
+    }
+
     /**
      * Checks if provided userAlias String matches the validity rules
      * @param userAlias provided in constructor.
      */
     public static boolean isValidUserAlias(String userAlias) {
-        return userAlias != null && !userAlias.isBlank()
-                && userAlias.matches(VALIDATION_REGEX) && !CommandList.COMMAND_WORDS_LIST.contains(userAlias);
+        return userAlias != null && isAlphanumeric(userAlias) && !CommandRegistry.isCommandWord(userAlias);
     }
 
     /**
@@ -68,7 +91,7 @@ public class Alias {
     public static boolean isValidCommandWord(String commandWord) {
         if (commandWord != null) {
             String firstWord = commandWord.split(" ")[0];
-            return CommandList.COMMAND_WORDS_LIST.contains(firstWord);
+            return CommandRegistry.isCommandWord(firstWord);
         }
 
         return false;
@@ -0,0 +1,62 @@
+package seedu.address.model.alias;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.PrefixTrie;
+
+/**
+ * The aliases of the user, compiled so that the alias a command starts with can be found with a single lookup.
+ * The names of the aliases are also kept in a {@link PrefixTrie}, so that they can be completed from what the user
+ * has typed of them. Of the names that only differ in case, the last is completed.
+ * Guarantees: immutable.
+ */
+public class AliasTable {
+
+    public static final int MAX_COMPLETIONS = 5;
+
+    private final Map<String, Alias> aliasesByUserAlias = new HashMap<>();
+    private final PrefixTrie<String> userAliasesByPrefix =
+            new PrefixTrie<>(Comparator.comparing(String::toLowerCase), MAX_COMPLETIONS);
+
+    /**
+     * Compiles {@code aliases} into a table. If several aliases share a name, the last of them is kept.
+     */
+    public AliasTable(List<Alias> aliases) {
+        requireNonNull(aliases);
+        for (Alias alias : aliases) {
+            aliasesByUserAlias.put(alias.getUserAlias(), alias);
+            userAliasesByPrefix.put(alias.getUserAlias(), alias.getUserAlias());
+        }
+    }
+
+    /**
+     * Returns the alias named {@code userAlias}, if there is one.
+     */
+    public Optional<Alias> find(String userAlias) {
+        requireNonNull(userAlias);
+        return Optional.ofNullable(aliasesByUserAlias.get(userAlias));
+    }
+
+    /**
+     * Returns true if there is an alias named {@code userAlias}.
+     */
+    public boolean contains(String userAlias) {
+        requireNonNull(userAlias);
+        return aliasesByUserAlias.containsKey(userAlias);
+    }
+
+    /**
+     * Returns the names of up to {@link #MAX_COMPLETIONS} aliases that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix) {
+        requireNonNull(prefix);
+        return userAliasesByPrefix.getCompletions(prefix);
+    }
+}
@@ -3,29 +3,48 @@ package seedu.address.model.amenity;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Represents an Amenity in the study tracker.
- * Guarantees: immutable; type is valid as declared in {@link #isValidAmenityType(String)}
+ * Guarantees: immutable; type is valid as declared in {@link #isValidAmenityType(String)};
+ *     there is only one instance of each amenity type, see {@link #of(String)}
+ *
+ * Each amenity type has its own bit, so a set of amenities can be kept as a single {@code int} and checked with a
+ * mask test, see {@link #toFlags(Collection)}.
  */
 public class Amenity {
 
     public static final String MESSAGE_CONSTRAINTS = "Amenities should only be of the types: %s.";
     public static final String[] VALID_TYPES = {"wifi", "charger", "food", "aircon"};
 
+    private static final Amenity[] AMENITIES = new Amenity[VALID_TYPES.length];
+
+    static {
+        for (int typeIndex = 0; typeIndex < VALID_TYPES.length; typeIndex++) {
+            AMENITIES[typeIndex] = new Amenity(typeIndex);
+        }
+    }
+
     public final String amenityType;
+    private final int flag;
+
+    private Amenity(int typeIndex) {
+        this.amenityType = VALID_TYPES[typeIndex];
+        this.flag = 1 << typeIndex;
+    }
 
     /**
-     * Constructs a {@code Amenity}.
+     * Returns the {@code Amenity} of {@code amenityType}.
+     * The amenity type is matched ignoring case and stored as listed in {@link #VALID_TYPES}.
      *
      * @param amenityType A valid amenity type.
      */
-    public Amenity(String amenityType) {
+    public static Amenity of(String amenityType) {
         requireNonNull(amenityType);
-        checkArgument(isValidAmenityType(amenityType),
-                String.format(MESSAGE_CONSTRAINTS, listAllAmenityTypes(VALID_TYPES)));
-        this.amenityType = amenityType;
+        int typeIndex = indexOfAmenityType(amenityType);
+        checkArgument(typeIndex != -1, String.format(MESSAGE_CONSTRAINTS, listAllAmenityTypes(VALID_TYPES)));
+        return AMENITIES[typeIndex];
     }
 
     /**
@@ -33,7 +52,38 @@ public class Amenity {
      */
     public static boolean isValidAmenityType(String test) {
         requireNonNull(test);
-        return Arrays.asList(VALID_TYPES).stream().anyMatch(test::equalsIgnoreCase);
+        return indexOfAmenityType(test) != -1;
+    }
+
+    /**
+     * Returns the position of {@code test} in {@link #VALID_TYPES} ignoring case, or -1 if it is not a valid type.
+     */
+    private static int indexOfAmenityType(String test) {
+        for (int i = 0; i < VALID_TYPES.length; i++) {
+            if (VALID_TYPES[i].equalsIgnoreCase(test)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the bit of this amenity type.
+     */
+    public int getFlag() {
+        return flag;
+    }
+
+    /**
+     * Returns the bits of all of {@code amenities} combined.
+     */
+    public static int toFlags(Collection<Amenity> amenities) {
+        requireNonNull(amenities);
+        int flags = 0;
+        for (Amenity amenity : amenities) {
+            flags |= amenity.flag;
+        }
+        return flags;
     }
 
     /**
@@ -57,7 +107,7 @@ public class Amenity {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof seedu.address.model.amenity.Amenity // instanceof handles nulls
-                && amenityType.equals(((seedu.address.model.amenity.Amenity) other).amenityType)); // state check
+                && flag == ((seedu.address.model.amenity.Amenity) other).flag); // state check
     }
 
     @Override
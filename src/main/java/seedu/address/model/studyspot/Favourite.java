@@ -1,28 +1,32 @@
 package seedu.address.model.studyspot;
 
-import static java.util.Objects.requireNonNull;
-
 /**
  * Represents if a StudySpot is a favourite in the study tracker.
- * Guarantees: immutable;
+ * Guarantees: immutable; there are only the two instances {@link #FAVOURITE} and {@link #NOT_FAVOURITE}
  */
 public class Favourite {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Favourite should only be true or false, and it should not be blank";
 
+    public static final Favourite FAVOURITE = new Favourite(true);
+    public static final Favourite NOT_FAVOURITE = new Favourite(false);
+
     public final boolean isFavourite;
     public final String value;
 
+    private Favourite(boolean isFavourite) {
+        this.isFavourite = isFavourite;
+        this.value = String.valueOf(isFavourite);
+    }
+
     /**
-     * Constructs a {@code Favourite}.
+     * Returns the {@code Favourite} for {@code isFavourite}.
      *
      * @param isFavourite represents if a Study Spot is a favourite.
      */
-    public Favourite(boolean isFavourite) {
-        requireNonNull(isFavourite);
-        this.isFavourite = isFavourite;
-        this.value = String.valueOf(isFavourite);
+    public static Favourite of(boolean isFavourite) {
+        return isFavourite ? FAVOURITE : NOT_FAVOURITE;
     }
 
     /**
@@ -2,6 +2,9 @@ package seedu.address.model.studyspot;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
+
+import java.util.Locale;
 
 /**
  * Represents a StudySpot's name in the study tracker.
@@ -13,8 +16,9 @@ public class Name {
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
 
     /*
-     * The first character of the address must not be a whitespace,
+     * The first character of the name must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
+     * Names are checked with ValidationUtil#isAlphanumericWords, which accepts the same names as this regex.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
@@ -35,7 +39,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
 
@@ -64,8 +68,8 @@ public class Name {
      * @return true if they are the same
      */
     public boolean isSameNameCaseInsensitive(Name other) {
-        String fullNameCaseInsensitive = this.fullName.toLowerCase();
-        String otherNameCaseInsensitive = other.fullName.toLowerCase();
+        String fullNameCaseInsensitive = this.fullName.toLowerCase(Locale.ROOT);
+        String otherNameCaseInsensitive = other.fullName.toLowerCase(Locale.ROOT);
         return fullNameCaseInsensitive.equals(otherNameCaseInsensitive);
     }
 
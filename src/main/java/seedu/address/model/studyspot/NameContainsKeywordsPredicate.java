@@ -1,24 +1,47 @@
 package seedu.address.model.studyspot;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
-
-import seedu.address.commons.util.StringUtil;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code StudySpot}'s {@code Name} matches any of the keywords given.
+ * Keywords are matched as by {@link StudySpotSearchIndex}, which answers the same question for every study spot in
+ * the study tracker at once.
  */
 public class NameContainsKeywordsPredicate implements Predicate<StudySpot> {
     private final List<String> keywords;
+    private final List<String> preparedKeywords;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.preparedKeywords = keywords.stream()
+                .map(StudySpotSearchIndex::prepareKeyword)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an unmodifiable view of the keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     @Override
     public boolean test(StudySpot studySpot) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(studySpot.getName().fullName, keyword));
+        List<String> words = StudySpotSearchIndex.toWords(studySpot.getName().fullName);
+        for (String preparedKeyword : preparedKeywords) {
+            for (String word : words) {
+                if (StudySpotSearchIndex.matches(word, preparedKeyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
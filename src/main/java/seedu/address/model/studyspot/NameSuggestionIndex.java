@@ -0,0 +1,269 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the names of study spots that are close to a possibly mistyped name, so that the user can be told which
+ * study spot they may have meant.
+ *
+ * The words in the names of the study spots are kept in a BK-tree, where each child of a word is stored under its
+ * edit distance to the word. As edit distance is a metric, the words within {@code k} edits of a query can only be
+ * under the children whose distance differs by at most {@code k} from the distance of the query to the word, so
+ * most of the tree is skipped.
+ *
+ * The tree is only built when it is first searched, so that loading many study spots does not pay for it. Words
+ * that no name has any more stay in the tree to guide searches past them, until they outnumber the other words and
+ * the tree is built again.
+ */
+public class NameSuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 3;
+    public static final int MAX_DISTANCE = 2;
+    public static final int MAX_CANDIDATES = 100;
+
+    /** Query words are allowed one edit for every this many characters, up to {@link #MAX_DISTANCE}. */
+    private static final int CHARACTERS_PER_EDIT = 4;
+
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+    private Node root;
+    private int treeWordCount = 0;
+
+    /**
+     * Adds {@code name} to the names that can be suggested.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String word : StudySpotSearchIndex.toWords(name.fullName)) {
+            Set<Name> names = namesByWord.computeIfAbsent(word, unused -> new LinkedHashSet<>());
+            if (names.isEmpty() && root != null) {
+                addToTree(word);
+            }
+            names.add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the names that can be suggested.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String word : StudySpotSearchIndex.toWords(name.fullName)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names == null) {
+                continue;
+            }
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByWord.remove(word);
+            }
+        }
+        if (treeWordCount > 2 * namesByWord.size()) {
+            clearTree();
+        }
+    }
+
+    /**
+     * Replaces the names that can be suggested with {@code names}.
+     */
+    public void setNames(List<Name> names) {
+        requireNonNull(names);
+        namesByWord.clear();
+        clearTree();
+        names.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} names that contain words close to the words in {@code queries}.
+     * Names close to more of the words come first, followed by the names that are fewer edits away.
+     * Each query word is allowed an edit for every few characters in it, so short words are only matched exactly.
+     *
+     * Only up to {@link #MAX_CANDIDATES} names are ranked. They are taken from the names of the rarest matching words
+     * first, as a word that many names share says little about which of them was meant.
+     */
+    public List<Name> getSuggestions(List<String> queries) {
+        requireNonNull(queries);
+        if (root == null) {
+            namesByWord.keySet().forEach(this::addToTree);
+        }
+
+        List<String> queryWords = new ArrayList<>();
+        queries.forEach(query -> queryWords.addAll(StudySpotSearchIndex.toWords(query)));
+        List<Set<Name>> matchingNames = new ArrayList<>();
+        if (root != null) {
+            for (String queryWord : queryWords) {
+                Consumer<String> addNames = word -> matchingNames.add(namesByWord.get(word));
+                root.search(queryWord, getMaxDistance(queryWord), namesByWord, addNames);
+            }
+        }
+        matchingNames.sort(Comparator.comparingInt(Set::size));
+
+        Set<Name> candidates = new LinkedHashSet<>();
+        for (Set<Name> names : matchingNames) {
+            for (Name name : names) {
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    break;
+                }
+                candidates.add(name);
+            }
+        }
+
+        Map<Name, Closeness> closenesses = new HashMap<>();
+        candidates.forEach(candidate -> closenesses.put(candidate, new Closeness(candidate, queryWords)));
+        return closenesses.entrySet().stream()
+                .sorted(Map.Entry.<Name, Closeness>comparingByValue()
+                        .thenComparing(entry -> entry.getKey().fullName, Comparator.naturalOrder()))
+                .limit(MAX_SUGGESTIONS)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private void addToTree(String word) {
+        if (root == null) {
+            root = new Node(word);
+            treeWordCount++;
+            return;
+        }
+        Node node = root;
+        while (!node.word.equals(word)) {
+            int distance = getEditDistance(node.word, word, Integer.MAX_VALUE);
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(word));
+                treeWordCount++;
+                return;
+            }
+            node = child;
+        }
+        // The word was left in the tree after its last name was removed, and is in use again.
+    }
+
+    private void clearTree() {
+        root = null;
+        treeWordCount = 0;
+    }
+
+    /**
+     * Returns the number of edits allowed between {@code queryWord} and a word of a suggested name.
+     */
+    static int getMaxDistance(String queryWord) {
+        return Math.min(MAX_DISTANCE, queryWord.length() / CHARACTERS_PER_EDIT);
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions and substitutions that turn {@code first} into
+     * {@code second}, or a number larger than {@code limit} if it is larger than {@code limit}.
+     * The distance is worked out a row at a time and given up on once every entry of a row exceeds {@code limit},
+     * as the smallest entry never decreases from one row to the next.
+     */
+    static int getEditDistance(String first, String second, int limit) {
+        int lengthDifference = Math.abs(first.length() - second.length());
+        if (lengthDifference > limit) {
+            return lengthDifference;
+        }
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previousRow[j - 1] + (firstChar == second.charAt(j - 1) ? 0 : 1);
+                currentRow[j] = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > limit) {
+                return rowMinimum;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * How close a name is to the query words, as the number of query words it has a close word for and the total
+     * number of edits to those words. Closer names are ordered first.
+     */
+    private static class Closeness implements Comparable<Closeness> {
+        private int matchedWordCount = 0;
+        private int totalDistance = 0;
+
+        private Closeness(Name name, List<String> queryWords) {
+            List<String> words = StudySpotSearchIndex.toWords(name.fullName);
+            for (String queryWord : queryWords) {
+                int maxDistance = getMaxDistance(queryWord);
+                int closestDistance = maxDistance + 1;
+                for (String word : words) {
+                    closestDistance = Math.min(closestDistance, getEditDistance(word, queryWord, maxDistance));
+                }
+                if (closestDistance <= maxDistance) {
+                    matchedWordCount++;
+                    totalDistance += closestDistance;
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(Closeness other) {
+            if (matchedWordCount != other.matchedWordCount) {
+                return Integer.compare(other.matchedWordCount, matchedWordCount);
+            }
+            return Integer.compare(totalDistance, other.totalDistance);
+        }
+    }
+
+    /**
+     * A word in the BK-tree.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private int maxChildDistance = 0;
+
+        private Node(String word) {
+            this.word = word;
+        }
+
+        private void addChild(int distance, Node child) {
+            children.put(distance, child);
+            maxChildDistance = Math.max(maxChildDistance, distance);
+        }
+
+        /**
+         * Passes to {@code action} the words in the subtree of this node that are within {@code maxDistance} edits
+         * of {@code queryWord} and are in {@code namesByWord}.
+         */
+        private void search(String queryWord, int maxDistance, Map<String, Set<Name>> namesByWord,
+                Consumer<String> action) {
+            List<Node> toVisit = new ArrayList<>();
+            toVisit.add(this);
+            while (!toVisit.isEmpty()) {
+                Node node = toVisit.remove(toVisit.size() - 1);
+                // Beyond this limit, neither the node nor any of its children can be within maxDistance.
+                int distance = getEditDistance(node.word, queryWord, maxDistance + node.maxChildDistance);
+                if (distance <= maxDistance && namesByWord.containsKey(node.word)) {
+                    action.accept(node.word);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        toVisit.add(child.getValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.studyspot;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a StudySpot's operating hours in the study tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidOperatingHours(String)}
@@ -18,6 +20,7 @@ public class OperatingHours {
     /** Ensures the time provided is valid and in the format hh:mm. */
     public static final String TIME_VALIDATION_REGEX = "([01]?[0-9]|2[0-3])[0-5][0-9]";
     public static final int TIME_LENGTH = 4;
+    private static final Pattern TIME_VALIDATION_PATTERN = Pattern.compile(TIME_VALIDATION_REGEX);
 
     public final String value;
     public final String weekdaysValue;
@@ -79,9 +82,9 @@ public class OperatingHours {
         String openingHours = separatedOperatingHour[0].trim();
         String closingHours = separatedOperatingHour[1].trim();
         return openingHours.length() == TIME_LENGTH
-                && openingHours.matches(TIME_VALIDATION_REGEX)
+                && TIME_VALIDATION_PATTERN.matcher(openingHours).matches()
                 && closingHours.length() == TIME_LENGTH
-                && closingHours.matches(TIME_VALIDATION_REGEX);
+                && TIME_VALIDATION_PATTERN.matcher(closingHours).matches();
     }
 
     @Override
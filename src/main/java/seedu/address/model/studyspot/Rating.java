@@ -5,7 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a StudySpot's rating in the study tracker.
- * Guarantees: immutable; is valid as declared in {@link #isValidRating(String)}
+ * Guarantees: immutable; is valid as declared in {@link #isValidRating(String)};
+ *     there is only one instance of each rating, see {@link #of(String)}
  */
 public class Rating {
 
@@ -13,24 +14,46 @@ public class Rating {
     public static final String MESSAGE_CONSTRAINTS =
             "Ratings should only contain numbers, and it should only be a digit from 1 to 5";
     public static final String VALIDATION_REGEX = "^[0-5]$";
+    public static final int MAX_SCORE = 5;
+    private static final Rating[] RATINGS = new Rating[MAX_SCORE + 1];
+
+    static {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            RATINGS[score] = new Rating(score);
+        }
+    }
+
     public final String value;
+    private final int score;
+
+    private Rating(int score) {
+        this.value = String.valueOf(score);
+        this.score = score;
+    }
 
     /**
-     * Constructs a {@code Rating}.
+     * Returns the {@code Rating} for {@code rating}.
      *
      * @param rating A valid rating number.
      */
-    public Rating(String rating) {
+    public static Rating of(String rating) {
         requireNonNull(rating);
         checkArgument(isValidRating(rating), MESSAGE_CONSTRAINTS);
-        value = rating;
+        return RATINGS[rating.charAt(0) - '0'];
     }
 
     /**
      * Returns true if a given string is a valid rating.
      */
     public static boolean isValidRating(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 1 && test.charAt(0) >= '0' && test.charAt(0) <= '0' + MAX_SCORE;
+    }
+
+    /**
+     * Returns the rating as a number, so that ratings can be compared without comparing strings.
+     */
+    public int getScore() {
+        return score;
     }
 
     @Override
@@ -42,12 +65,12 @@ public class Rating {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Rating // instanceof handles nulls
-                && value.equals(((Rating) other).value)); // state check
+                && score == ((Rating) other).score); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(score);
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.model.studyspot;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -43,7 +44,7 @@ public class StudiedHours {
      */
     public static boolean isValidLoggedHours(String str) {
         requireNonNull(str);
-        return str.matches(VALIDATION_REGEX);
+        return isDigits(str);
     }
 
     /**
@@ -0,0 +1,119 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps running totals of the studied hours of a collection of study spots, overall as well as per tag and
+ * per amenity, so that they can be read without going through every study spot.
+ * Totals are kept as {@code long}s, so they do not overflow even if every study spot is at the hours limit.
+ *
+ * Study spots passed to {@link #remove(StudySpot)} and {@link #setStudySpot(StudySpot, StudySpot)} must be the
+ * instances that were added, as their studied hours are the ones subtracted from the totals.
+ */
+public class StudiedHoursTotal {
+
+    private final Map<Tag, Long> totalByTag = new HashMap<>();
+    private final Map<Amenity, Long> totalByAmenity = new HashMap<>();
+    private long total = 0;
+
+    /**
+     * Adds the studied hours of {@code toAdd} to the totals.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        update(toAdd, toAdd.getStudiedHours().getHours());
+    }
+
+    /**
+     * Replaces the studied hours of {@code target} with those of {@code editedStudySpot} in the totals.
+     */
+    public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        remove(target);
+        add(editedStudySpot);
+    }
+
+    /**
+     * Subtracts the studied hours of {@code toRemove} from the totals.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        update(toRemove, -toRemove.getStudiedHours().getHours());
+    }
+
+    /**
+     * Replaces the totals with those of {@code studySpots}.
+     */
+    public void setStudySpots(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        total = 0;
+        totalByTag.clear();
+        totalByAmenity.clear();
+        studySpots.forEach(this::add);
+    }
+
+    /**
+     * Returns the total studied hours of all study spots.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the total studied hours of the study spots tagged with {@code tag}.
+     */
+    public long getTotal(Tag tag) {
+        requireNonNull(tag);
+        return totalByTag.getOrDefault(tag, 0L);
+    }
+
+    /**
+     * Returns the total studied hours of the study spots with {@code amenity}.
+     */
+    public long getTotal(Amenity amenity) {
+        requireNonNull(amenity);
+        return totalByAmenity.getOrDefault(amenity, 0L);
+    }
+
+    private void update(StudySpot studySpot, long hours) {
+        if (hours == 0) {
+            return;
+        }
+        total += hours;
+        updateTotals(totalByTag, studySpot.getTags(), hours);
+        updateTotals(totalByAmenity, studySpot.getAmenities(), hours);
+    }
+
+    /**
+     * Adds {@code hours} to the totals of each of {@code keys}, dropping totals that reach zero so that
+     * the maps only hold keys of study spots with studied hours.
+     */
+    private static <K> void updateTotals(Map<K, Long> totals, Set<K> keys, long hours) {
+        for (K key : keys) {
+            totals.merge(key, hours, (oldTotal, change) -> oldTotal + change == 0 ? null : oldTotal + change);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudiedHoursTotal // instanceof handles nulls
+                && total == ((StudiedHoursTotal) other).total
+                && totalByTag.equals(((StudiedHoursTotal) other).totalByTag)
+                && totalByAmenity.equals(((StudiedHoursTotal) other).totalByAmenity));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(total);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.studyspot;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -13,6 +14,9 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a StudySpot in StudyTracker
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * To change a field, use the {@code with} method of the field, e.g. {@link #withFavourite(Favourite)}. The copy it
+ * returns shares the other fields with this study spot, including the tag and amenity sets, which are not copied.
  */
 public class StudySpot {
 
@@ -24,8 +28,9 @@ public class StudySpot {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Amenity> amenities = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Amenity> amenities;
+    private final int amenityFlags;
 
     //Statistic fields
     private final StudiedHours studiedHours;
@@ -35,15 +40,7 @@ public class StudySpot {
      */
     public StudySpot(Name name, Rating rating, OperatingHours operatingHours, Address address,
                      StudiedHours studiedHours, Set<Tag> tags, Set<Amenity> amenities) {
-        requireAllNonNull(name, rating, operatingHours, address, tags, amenities);
-        this.name = name;
-        this.rating = rating;
-        this.operatingHours = operatingHours;
-        this.address = address;
-        this.studiedHours = studiedHours;
-        this.tags.addAll(tags);
-        this.amenities.addAll(amenities);
-        this.favourite = new Favourite(false);
+        this(name, rating, operatingHours, address, studiedHours, Favourite.NOT_FAVOURITE, tags, amenities);
     }
 
     /**
@@ -58,11 +55,28 @@ public class StudySpot {
         this.operatingHours = operatingHours;
         this.address = address;
         this.studiedHours = studiedHours;
-        this.tags.addAll(tags);
-        this.amenities.addAll(amenities);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.amenities = Collections.unmodifiableSet(new HashSet<>(amenities));
+        this.amenityFlags = Amenity.toFlags(amenities);
         this.favourite = favourite;
     }
 
+    /**
+     * Constructs a study spot that shares the immutable {@code tags} and {@code amenities} of another study spot.
+     */
+    private StudySpot(Name name, Rating rating, OperatingHours operatingHours, Address address,
+                      StudiedHours studiedHours, Favourite favourite, Set<Tag> tags, Set<Amenity> amenities,
+                      int amenityFlags) {
+        this.name = name;
+        this.rating = rating;
+        this.operatingHours = operatingHours;
+        this.address = address;
+        this.studiedHours = studiedHours;
+        this.tags = tags;
+        this.amenities = amenities;
+        this.amenityFlags = amenityFlags;
+        this.favourite = favourite;
+    }
 
     public Name getName() {
         return name;
@@ -97,7 +111,7 @@ public class StudySpot {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -105,7 +119,107 @@ public class StudySpot {
      * if modification is attempted.
      */
     public Set<Amenity> getAmenities() {
-        return Collections.unmodifiableSet(amenities);
+        return amenities;
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code name}.
+     */
+    public StudySpot withName(Name name) {
+        requireNonNull(name);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code rating}.
+     */
+    public StudySpot withRating(Rating rating) {
+        requireNonNull(rating);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code operatingHours}.
+     */
+    public StudySpot withOperatingHours(OperatingHours operatingHours) {
+        requireNonNull(operatingHours);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code address}.
+     */
+    public StudySpot withAddress(Address address) {
+        requireNonNull(address);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code studiedHours}.
+     */
+    public StudySpot withStudiedHours(StudiedHours studiedHours) {
+        requireNonNull(studiedHours);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code favourite}.
+     */
+    public StudySpot withFavourite(Favourite favourite) {
+        requireNonNull(favourite);
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code tags}.
+     * The tags are only copied if {@code tags} is not the tag set of this study spot.
+     */
+    public StudySpot withTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Tag> newTags = tags == this.tags ? this.tags : Collections.unmodifiableSet(new HashSet<>(tags));
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, newTags, amenities,
+                amenityFlags);
+    }
+
+    /**
+     * Returns a copy of this study spot with {@code amenities}.
+     * The amenities are only copied if {@code amenities} is not the amenity set of this study spot.
+     */
+    public StudySpot withAmenities(Set<Amenity> amenities) {
+        requireNonNull(amenities);
+        Set<Amenity> newAmenities = amenities == this.amenities
+                ? this.amenities
+                : Collections.unmodifiableSet(new HashSet<>(amenities));
+        return new StudySpot(name, rating, operatingHours, address, studiedHours, favourite, tags, newAmenities,
+                Amenity.toFlags(newAmenities));
+    }
+
+    /**
+     * Returns true if the study spot is tagged with {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Returns true if the study spot has {@code amenity}.
+     */
+    public boolean hasAmenity(Amenity amenity) {
+        return hasAmenities(amenity.getFlag());
+    }
+
+    /**
+     * Returns true if the study spot has every amenity in {@code amenityFlags}, as combined by
+     * {@link Amenity#toFlags(java.util.Collection)}.
+     */
+    public boolean hasAmenities(int amenityFlags) {
+        return (this.amenityFlags & amenityFlags) == amenityFlags;
     }
 
     /**
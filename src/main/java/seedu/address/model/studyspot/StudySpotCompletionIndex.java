@@ -0,0 +1,181 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes the names of the study spots and their tags from what the user has typed of them, ignoring case.
+ *
+ * Names are kept in a {@link PrefixTrie} ranked by studied hours, most first, after the names of the study spots
+ * that were last added or changed, most recent first. Tags are kept in a trie of their own in alphabetical order,
+ * along with the number of study spots that have each of them, so that a tag is only completed while some study
+ * spot has it. Of the tags that only differ in case, one is completed.
+ *
+ * The tries are only built when they are first searched, from the study spots given at construction, so that
+ * loading many study spots does not pay for them. From then on, they are updated along with the study spots.
+ * Study spots passed to {@link #remove(StudySpot)} and {@link #setStudySpot(StudySpot, StudySpot)} must be the
+ * instances that were added.
+ */
+public class StudySpotCompletionIndex {
+
+    public static final int MAX_COMPLETIONS = 5;
+    public static final int MAX_RECENT_NAMES = 10;
+
+    private static final Comparator<Tag> BY_TAG_NAME = Comparator.comparing(tag -> tag.tagName.toLowerCase());
+
+    private final List<StudySpot> studySpots;
+    private final PrefixTrie<StudySpot> studySpotsByName =
+            new PrefixTrie<>(TopStudySpotList.BY_STUDIED_HOURS_DESCENDING, MAX_COMPLETIONS);
+    private final PrefixTrie<Tag> tagsByName = new PrefixTrie<>(BY_TAG_NAME, MAX_COMPLETIONS);
+    private final Map<Tag, Integer> studySpotCountByTag = new HashMap<>();
+    private final Deque<Name> recentNames = new ArrayDeque<>();
+    private boolean isBuilt = false;
+
+    /**
+     * Creates a {@code StudySpotCompletionIndex} of {@code studySpots}, which must be a live view of the study
+     * spots that the index is updated with.
+     */
+    public StudySpotCompletionIndex(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        this.studySpots = studySpots;
+    }
+
+    /**
+     * Adds {@code toAdd} to the names and tags that can be completed.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        if (!isBuilt) {
+            return;
+        }
+        studySpotsByName.put(toAdd.getName().fullName, toAdd);
+        toAdd.getTags().forEach(this::addTag);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudySpot} in the names and tags that can be completed.
+     */
+    public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        remove(target);
+        add(editedStudySpot);
+    }
+
+    /**
+     * Removes {@code toRemove} from the names and tags that can be completed.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        if (!isBuilt) {
+            return;
+        }
+        studySpotsByName.remove(toRemove.getName().fullName);
+        toRemove.getTags().forEach(this::removeTag);
+    }
+
+    /**
+     * Drops the tries, as all the study spots have been replaced. They are built again when next searched.
+     */
+    public void reset() {
+        studySpotsByName.clear();
+        tagsByName.clear();
+        studySpotCountByTag.clear();
+        isBuilt = false;
+    }
+
+    /**
+     * Records that the study spot named {@code name} has just been used, so that its name is completed first.
+     */
+    public void markUsed(Name name) {
+        requireNonNull(name);
+        recentNames.remove(name);
+        recentNames.addFirst(name);
+        if (recentNames.size() > MAX_RECENT_NAMES) {
+            recentNames.removeLast();
+        }
+    }
+
+    /**
+     * Returns the names of up to {@link #MAX_COMPLETIONS} study spots that start with {@code prefix}.
+     * Recently used study spots come first, followed by those with the most studied hours.
+     */
+    public List<Name> getNameCompletions(String prefix) {
+        requireNonNull(prefix);
+        build();
+        String foldedPrefix = prefix.toLowerCase();
+        List<Name> completions = new ArrayList<>(MAX_COMPLETIONS);
+        for (Name recentName : recentNames) {
+            if (completions.size() >= MAX_COMPLETIONS || !recentName.fullName.toLowerCase().startsWith(foldedPrefix)) {
+                continue;
+            }
+            // Recently used study spots may have been renamed or removed since.
+            StudySpot recentStudySpot = studySpotsByName.get(recentName.fullName);
+            if (recentStudySpot != null && recentStudySpot.getName().equals(recentName)) {
+                completions.add(recentName);
+            }
+        }
+        for (StudySpot studySpot : studySpotsByName.getCompletions(prefix)) {
+            if (completions.size() < MAX_COMPLETIONS && !completions.contains(studySpot.getName())) {
+                completions.add(studySpot.getName());
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} tags of the study spots that start with {@code prefix}, in
+     * alphabetical order.
+     */
+    public List<Tag> getTagCompletions(String prefix) {
+        requireNonNull(prefix);
+        build();
+        return tagsByName.getCompletions(prefix);
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        studySpots.forEach(this::add);
+    }
+
+    private void addTag(Tag tag) {
+        if (studySpotCountByTag.merge(tag, 1, Integer::sum) == 1 && tagsByName.get(tag.tagName) == null) {
+            tagsByName.put(tag.tagName, tag);
+        }
+    }
+
+    private void removeTag(Tag tag) {
+        Integer count = studySpotCountByTag.get(tag);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            studySpotCountByTag.put(tag, count - 1);
+            return;
+        }
+
+        studySpotCountByTag.remove(tag);
+        if (!tag.equals(tagsByName.get(tag.tagName))) {
+            return;
+        }
+        tagsByName.remove(tag.tagName);
+        // Tags that only differ in case share a key, so another of them takes the place of the removed tag.
+        studySpotCountByTag.keySet().stream()
+                .filter(otherTag -> otherTag.tagName.equalsIgnoreCase(tag.tagName))
+                .findFirst()
+                .ifPresent(otherTag -> tagsByName.put(otherTag.tagName, otherTag));
+    }
+}
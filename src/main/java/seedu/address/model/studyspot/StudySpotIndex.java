@@ -0,0 +1,190 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps, for every tag, amenity and rating, the set of study spots that have it, so that the study spots matching
+ * a combination of them can be found without going through every study spot.
+ * The study spots matching a combination are found by going through the smallest of their sets and checking each
+ * study spot in it against the rest of the combination, so the cost depends on the size of the smallest set rather
+ * than on the total number of study spots. Amenities and ratings are checked with a mask test and an {@code int}
+ * comparison.
+ *
+ * Study spots are kept by identity. Study spots passed to {@link #remove(StudySpot)} and
+ * {@link #setStudySpot(StudySpot, StudySpot)} must be the instances that were added.
+ */
+public class StudySpotIndex {
+
+    public static final String MESSAGE_NO_CRITERIA = "At least one tag, amenity or rating must be given";
+
+    /** The score in criteria that have no rating, which no rating has. */
+    private static final int NO_SCORE = -1;
+
+    private final Map<Tag, Set<StudySpot>> studySpotsByTag = new HashMap<>();
+    private final List<Set<StudySpot>> studySpotsByAmenity = new ArrayList<>();
+    private final List<Set<StudySpot>> studySpotsByRating = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code StudySpotIndex}.
+     */
+    public StudySpotIndex() {
+        for (int i = 0; i < Amenity.VALID_TYPES.length; i++) {
+            studySpotsByAmenity.add(newIdentitySet());
+        }
+        for (int i = 0; i <= Rating.MAX_SCORE; i++) {
+            studySpotsByRating.add(newIdentitySet());
+        }
+    }
+
+    /**
+     * Adds {@code toAdd} to the sets of its tags, amenities and rating.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        toAdd.getTags().forEach(tag -> studySpotsByTag.computeIfAbsent(tag, unused -> newIdentitySet()).add(toAdd));
+        toAdd.getAmenities().forEach(amenity -> getSetOf(amenity).add(toAdd));
+        getSetOf(toAdd.getRating()).add(toAdd);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudySpot} in the sets.
+     */
+    public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        remove(target);
+        add(editedStudySpot);
+    }
+
+    /**
+     * Removes {@code toRemove} from the sets of its tags, amenities and rating.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        toRemove.getTags().forEach(tag -> removeTagged(tag, toRemove));
+        toRemove.getAmenities().forEach(amenity -> getSetOf(amenity).remove(toRemove));
+        getSetOf(toRemove.getRating()).remove(toRemove);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code studySpots}.
+     */
+    public void setStudySpots(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        studySpotsByTag.clear();
+        studySpotsByAmenity.forEach(Set::clear);
+        studySpotsByRating.forEach(Set::clear);
+        studySpots.forEach(this::add);
+    }
+
+    /**
+     * Returns the study spots that have all of {@code tags}, all of {@code amenities} and, unless {@code rating}
+     * is null, {@code rating}. The returned set compares study spots by identity.
+     * At least one tag, amenity or rating must be given.
+     */
+    public Set<StudySpot> getStudySpotsWith(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        requireAllNonNull(tags, amenities);
+        checkArgument(!tags.isEmpty() || !amenities.isEmpty() || rating != null, MESSAGE_NO_CRITERIA);
+
+        Set<StudySpot> candidates = null;
+        for (Tag tag : tags) {
+            candidates = smaller(candidates, studySpotsByTag.getOrDefault(tag, Collections.emptySet()));
+        }
+        for (Amenity amenity : amenities) {
+            candidates = smaller(candidates, getSetOf(amenity));
+        }
+        if (rating != null) {
+            candidates = smaller(candidates, getSetOf(rating));
+        }
+
+        int amenityFlags = Amenity.toFlags(amenities);
+        int score = rating == null ? NO_SCORE : rating.getScore();
+        Set<StudySpot> matches = newIdentitySet();
+        for (StudySpot studySpot : candidates) {
+            if (meetsCriteria(studySpot, tags, amenityFlags, score)) {
+                matches.add(studySpot);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether a study spot in the index has all of {@code tags}, all of
+     * {@code amenities} and, unless {@code rating} is null, {@code rating}.
+     * Each study spot is checked with a mask test and a score comparison, and only one that passes them is looked
+     * up in the index, in the set of its rating, so that testing every study spot does not build the set of
+     * matching study spots that {@link #getStudySpotsWith(Set, Set, Rating)} returns.
+     */
+    public Predicate<StudySpot> createFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        requireAllNonNull(tags, amenities);
+        checkArgument(!tags.isEmpty() || !amenities.isEmpty() || rating != null, MESSAGE_NO_CRITERIA);
+        Set<Tag> filterTags = new HashSet<>(tags);
+        int amenityFlags = Amenity.toFlags(amenities);
+        int score = rating == null ? NO_SCORE : rating.getScore();
+        return studySpot -> meetsCriteria(studySpot, filterTags, amenityFlags, score)
+                && getSetOf(studySpot.getRating()).contains(studySpot);
+    }
+
+    private Set<StudySpot> getSetOf(Amenity amenity) {
+        return studySpotsByAmenity.get(Integer.numberOfTrailingZeros(amenity.getFlag()));
+    }
+
+    private Set<StudySpot> getSetOf(Rating rating) {
+        return studySpotsByRating.get(rating.getScore());
+    }
+
+    /**
+     * Removes {@code studySpot} from the set of {@code tag}, dropping the set once it is empty so that the map only
+     * holds tags that some study spot has.
+     */
+    private void removeTagged(Tag tag, StudySpot studySpot) {
+        Set<StudySpot> studySpots = studySpotsByTag.get(tag);
+        if (studySpots == null) {
+            return;
+        }
+        studySpots.remove(studySpot);
+        if (studySpots.isEmpty()) {
+            studySpotsByTag.remove(tag);
+        }
+    }
+
+    private static Set<StudySpot> smaller(Set<StudySpot> current, Set<StudySpot> other) {
+        return current == null || other.size() < current.size() ? other : current;
+    }
+
+    /**
+     * Returns true if {@code studySpot} has all of {@code tags}, all of {@code amenityFlags} and, unless
+     * {@code score} is {@link #NO_SCORE}, a rating of {@code score}.
+     */
+    private static boolean meetsCriteria(StudySpot studySpot, Set<Tag> tags, int amenityFlags, int score) {
+        return studySpot.hasAmenities(amenityFlags) && (score == NO_SCORE || studySpot.getRating().getScore() == score)
+                && hasAllTags(studySpot, tags);
+    }
+
+    private static boolean hasAllTags(StudySpot studySpot, Set<Tag> tags) {
+        for (Tag tag : tags) {
+            if (!studySpot.hasTag(tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<StudySpot> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
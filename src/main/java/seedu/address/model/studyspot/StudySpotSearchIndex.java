@@ -0,0 +1,203 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Keeps, for every word in the names of the study spots, the set of study spots whose name contains it, so that
+ * the study spots whose names contain some keywords can be found without going through every study spot.
+ *
+ * Words and keywords are compared ignoring case. A keyword ending with {@value #PREFIX_WILDCARD} matches every
+ * word that starts with the rest of the keyword, e.g. {@code lib*} matches {@code Library}.
+ * As the words are kept in order, the words starting with a prefix are next to each other and are found without
+ * going through the other words.
+ *
+ * Study spots are kept by identity. Study spots passed to {@link #remove(StudySpot)} and
+ * {@link #setStudySpot(StudySpot, StudySpot)} must be the instances that were added.
+ */
+public class StudySpotSearchIndex {
+
+    public static final char PREFIX_WILDCARD = '*';
+
+    private final NavigableMap<String, Set<StudySpot>> studySpotsByWord = new TreeMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code toAdd} to the sets of the words in its name.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        for (String word : toWords(toAdd.getName().fullName)) {
+            studySpotsByWord.computeIfAbsent(word, unused -> newIdentitySet()).add(toAdd);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudySpot} in the sets.
+     */
+    public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        remove(target);
+        add(editedStudySpot);
+    }
+
+    /**
+     * Removes {@code toRemove} from the sets of the words in its name.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        for (String word : toWords(toRemove.getName().fullName)) {
+            Set<StudySpot> studySpots = studySpotsByWord.get(word);
+            if (studySpots == null) {
+                continue;
+            }
+            studySpots.remove(toRemove);
+            if (studySpots.isEmpty()) {
+                studySpotsByWord.remove(word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code studySpots}.
+     */
+    public void setStudySpots(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        studySpotsByWord.clear();
+        modificationCount++;
+        studySpots.forEach(this::add);
+    }
+
+    /**
+     * Returns, for every study spot whose name contains any of {@code keywords}, the number of keywords its name
+     * contains. The returned map compares study spots by identity.
+     */
+    public Map<StudySpot, Integer> getMatchCounts(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<StudySpot, Integer> matchCounts = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            Set<StudySpot> keywordMatches = newIdentitySet();
+            String preparedKeyword = prepareKeyword(keyword);
+            if (isPrefix(preparedKeyword)) {
+                String prefix = preparedKeyword.substring(0, preparedKeyword.length() - 1);
+                for (Map.Entry<String, Set<StudySpot>> entry : studySpotsByWord.tailMap(prefix, true).entrySet()) {
+                    if (!entry.getKey().startsWith(prefix)) {
+                        break;
+                    }
+                    keywordMatches.addAll(entry.getValue());
+                }
+            } else {
+                keywordMatches.addAll(studySpotsByWord.getOrDefault(preparedKeyword, Collections.emptySet()));
+            }
+            keywordMatches.forEach(studySpot -> matchCounts.merge(studySpot, 1, Integer::sum));
+        }
+        return matchCounts;
+    }
+
+    /**
+     * Returns a search for the study spots in the index whose names contain any of {@code keywords}.
+     * The search looks up the matching study spots with {@link #getMatchCounts(List)} the first time it is used
+     * after the index changes.
+     */
+    public Search createSearch(List<String> keywords) {
+        requireNonNull(keywords);
+        return new Search(new ArrayList<>(keywords));
+    }
+
+    /**
+     * Returns the words in {@code text} in lower case, where words are separated by whitespace.
+     */
+    public static List<String> toWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSeparator = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSeparator && wordStart != -1) {
+                words.add(text.substring(wordStart, i).toLowerCase());
+                wordStart = -1;
+            } else if (!isSeparator && wordStart == -1) {
+                wordStart = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code keyword} in the form it is compared to the words in the index.
+     */
+    public static String prepareKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase();
+    }
+
+    /**
+     * Returns true if {@code word}, as returned by {@link #toWords(String)}, is matched by {@code preparedKeyword},
+     * as returned by {@link #prepareKeyword(String)}.
+     */
+    public static boolean matches(String word, String preparedKeyword) {
+        requireAllNonNull(word, preparedKeyword);
+        if (isPrefix(preparedKeyword)) {
+            return word.startsWith(preparedKeyword.substring(0, preparedKeyword.length() - 1));
+        }
+        return word.equals(preparedKeyword);
+    }
+
+    private static boolean isPrefix(String preparedKeyword) {
+        return !preparedKeyword.isEmpty() && preparedKeyword.charAt(preparedKeyword.length() - 1) == PREFIX_WILDCARD;
+    }
+
+    private static Set<StudySpot> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A search for the study spots in the index whose names contain any of some keywords.
+     * Tests whether a study spot in the index is found, and orders the study spots found by the number of keywords
+     * their names contain.
+     */
+    public class Search implements Predicate<StudySpot> {
+
+        private final List<String> keywords;
+        private Map<StudySpot, Integer> matchCounts;
+        private int matchCountsModificationCount;
+
+        private Search(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(StudySpot studySpot) {
+            return getMatchCounts().containsKey(studySpot);
+        }
+
+        /**
+         * Returns a comparator that puts the study spots whose names contain more of the keywords first.
+         * Study spots whose names contain as many keywords keep their order.
+         */
+        public Comparator<StudySpot> byRelevance() {
+            return Comparator.comparingInt(studySpot -> -getMatchCounts().getOrDefault(studySpot, 0));
+        }
+
+        private Map<StudySpot, Integer> getMatchCounts() {
+            if (matchCounts == null || matchCountsModificationCount != modificationCount) {
+                matchCounts = StudySpotSearchIndex.this.getMatchCounts(keywords);
+                matchCountsModificationCount = modificationCount;
+            }
+            return matchCounts;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.studyspot;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the study spots with the most studied hours, in descending order of studied hours.
+ * Study spots with the same studied hours are ordered by name, ignoring case.
+ *
+ * All study spots are kept in a sorted tree, so that adding, removing or replacing a study spot takes
+ * O(log n) time. Only the first {@code limit} study spots are exposed through an {@code ObservableList},
+ * which is the same instance for the lifetime of this object and only fires a change when its contents change.
+ *
+ * Study spots passed to {@link #remove(StudySpot)} and {@link #setStudySpot(StudySpot, StudySpot)} must be the
+ * instances that were added, as their studied hours determine where they are kept.
+ */
+public class TopStudySpotList {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of top study spots must be positive";
+
+    static final Comparator<StudySpot> BY_STUDIED_HOURS_DESCENDING =
+            Comparator.comparingInt((StudySpot spot) -> spot.getStudiedHours().getHours()).reversed()
+                    .thenComparing(spot -> spot.getName().fullName.toLowerCase());
+
+    private final int limit;
+    private final TreeSet<StudySpot> rankedStudySpots = new TreeSet<>(BY_STUDIED_HOURS_DESCENDING);
+    private final ObservableList<StudySpot> topStudySpots = FXCollections.observableArrayList();
+    private final ObservableList<StudySpot> topStudySpotsUnmodifiable =
+            FXCollections.unmodifiableObservableList(topStudySpots);
+
+    /**
+     * Creates an empty {@code TopStudySpotList} that exposes at most {@code limit} study spots.
+     */
+    public TopStudySpotList(int limit) {
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Adds a study spot.
+     */
+    public void add(StudySpot toAdd) {
+        requireNonNull(toAdd);
+        rankedStudySpots.add(toAdd);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Replaces the study spot {@code target} with {@code editedStudySpot}.
+     */
+    public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+        requireAllNonNull(target, editedStudySpot);
+        rankedStudySpots.remove(target);
+        rankedStudySpots.add(editedStudySpot);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Removes a study spot.
+     */
+    public void remove(StudySpot toRemove) {
+        requireNonNull(toRemove);
+        rankedStudySpots.remove(toRemove);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Replaces all study spots with {@code studySpots}.
+     */
+    public void setStudySpots(List<StudySpot> studySpots) {
+        requireNonNull(studySpots);
+        rankedStudySpots.clear();
+        rankedStudySpots.addAll(studySpots);
+        refreshTopStudySpots();
+    }
+
+    /**
+     * Returns the top study spots as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<StudySpot> asUnmodifiableObservableList() {
+        return topStudySpotsUnmodifiable;
+    }
+
+    /**
+     * Updates the exposed list to hold the first {@code limit} study spots.
+     * The exposed list is left untouched, and so fires no change, if it already holds exactly those instances.
+     */
+    private void refreshTopStudySpots() {
+        List<StudySpot> updatedTopStudySpots = new ArrayList<>(limit);
+        Iterator<StudySpot> iterator = rankedStudySpots.iterator();
+        while (iterator.hasNext() && updatedTopStudySpots.size() < limit) {
+            updatedTopStudySpots.add(iterator.next());
+        }
+
+        if (!isSameInstances(updatedTopStudySpots, topStudySpots)) {
+            topStudySpots.setAll(updatedTopStudySpots);
+        }
+    }
+
+    /**
+     * Returns true if both lists hold the same instances in the same order.
+     * {@code StudySpot#equals(Object)} is not used as it ignores studied hours.
+     */
+    private static boolean isSameInstances(List<StudySpot> first, List<StudySpot> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TopStudySpotList // instanceof handles nulls
+                && limit == ((TopStudySpotList) other).limit
+                && topStudySpots.equals(((TopStudySpotList) other).topStudySpots));
+    }
+
+    @Override
+    public int hashCode() {
+        return topStudySpots.hashCode();
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.studyspot;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +26,9 @@ import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the backing {@code ObservableList}, a hash index maps each study spot's case-folded name to its
+ * position in the list, so that identity checks, additions and replacements take constant time.
+ *
  * @see StudySpot#isSameStudySpot(StudySpot)
  */
 public class UniqueStudySpotList implements Iterable<StudySpot> {
@@ -28,13 +36,24 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     private final ObservableList<StudySpot> internalList = FXCollections.observableArrayList();
     private final ObservableList<StudySpot> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Integer> positionByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent study spot as the given argument.
      */
     public boolean contains(StudySpot toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudySpot);
+        return positionByName.containsKey(toKey(toCheck));
+    }
+
+    /**
+     * Returns the study spot in the list whose name matches {@code name}, ignoring case.
+     * Returns null if there is no such study spot.
+     */
+    public StudySpot find(Name name) {
+        requireNonNull(name);
+        Integer index = positionByName.get(toKey(name));
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -46,6 +65,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
         if (contains(toAdd)) {
             throw new DuplicateStudySpotException();
         }
+        positionByName.put(toKey(toAdd), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -58,7 +78,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
         requireAllNonNull(target, editedStudySpot);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudySpotNotFoundException();
         }
@@ -67,6 +87,8 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
             throw new DuplicateStudySpotException();
         }
 
+        positionByName.remove(toKey(target));
+        positionByName.put(toKey(editedStudySpot), index);
         internalList.set(index, editedStudySpot);
     }
 
@@ -76,14 +98,24 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
      */
     public void remove(StudySpot toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudySpotNotFoundException();
         }
+
+        internalList.remove(index);
+        positionByName.remove(toKey(toRemove));
+        // study spots after the removed one have each shifted one position to the left
+        for (int i = index; i < internalList.size(); i++) {
+            positionByName.put(toKey(internalList.get(i)), i);
+        }
     }
 
     public void setStudySpots(UniqueStudySpotList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionByName.clear();
+        positionByName.putAll(replacement.positionByName);
     }
 
     /**
@@ -92,11 +124,11 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
      */
     public void setStudySpots(List<StudySpot> studySpots) {
         requireAllNonNull(studySpots);
-        if (!studySpotsAreUnique(studySpots)) {
-            throw new DuplicateStudySpotException();
-        }
+        Map<String, Integer> replacementIndex = buildIndex(studySpots);
 
         internalList.setAll(studySpots);
+        positionByName.clear();
+        positionByName.putAll(replacementIndex);
     }
 
     /**
@@ -108,7 +140,7 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
 
     @Override
     public Iterator<StudySpot> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -124,16 +156,67 @@ public class UniqueStudySpotList implements Iterable<StudySpot> {
     }
 
     /**
-     * Returns true if {@code studySpots} contains only unique study spots.
+     * Returns true if the name index agrees with the backing list, i.e. it holds exactly one entry for every
+     * study spot in the list and that entry records the study spot's position.
+     * This walks the whole list and is meant for verifying the index in tests.
      */
-    private boolean studySpotsAreUnique(List<StudySpot> studySpots) {
-        for (int i = 0; i < studySpots.size() - 1; i++) {
-            for (int j = i + 1; j < studySpots.size(); j++) {
-                if (studySpots.get(i).isSameStudySpot(studySpots.get(j))) {
-                    return false;
-                }
+    public boolean isIndexConsistent() {
+        if (positionByName.size() != internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            Integer index = positionByName.get(toKey(internalList.get(i)));
+            if (index == null || index != i) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the study spot that is equal to {@code studySpot} in the list, or -1 if there is none.
+     * As study spots in the list are unique by name, only the study spot sharing its name needs to be compared.
+     */
+    private int indexOf(StudySpot studySpot) {
+        Integer index = positionByName.get(toKey(studySpot));
+        if (index == null || !internalList.get(index).equals(studySpot)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the key of {@code studySpot} in the name index.
+     * Two study spots have the same key if and only if {@code StudySpot#isSameStudySpot(StudySpot)} holds.
+     */
+    private static String toKey(StudySpot studySpot) {
+        return toKey(studySpot.getName());
+    }
+
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a name index of {@code studySpots}, built in a single pass.
+     *
+     * @throws DuplicateStudySpotException listing every duplicated name if {@code studySpots} contains
+     *     duplicate study spots.
+     */
+    private static Map<String, Integer> buildIndex(List<StudySpot> studySpots) {
+        Map<String, Integer> index = new HashMap<>();
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        int position = 0;
+        for (StudySpot studySpot : studySpots) {
+            if (index.putIfAbsent(toKey(studySpot), position) != null) {
+                duplicateNames.add(studySpot.getName().fullName);
+            }
+            position++;
+        }
+
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateStudySpotException(duplicateNames);
+        }
+        return index;
+    }
 }
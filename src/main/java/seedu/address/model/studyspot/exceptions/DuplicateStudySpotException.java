@@ -1,5 +1,7 @@
 package seedu.address.model.studyspot.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate StudySpots
  * (StudySpots are considered duplicates if they have the same identity).
@@ -8,4 +10,11 @@ public class DuplicateStudySpotException extends RuntimeException {
     public DuplicateStudySpotException() {
         super("Operation would result in duplicate StudySpots");
     }
+
+    /**
+     * @param duplicateNames names of all the StudySpots that would be duplicated.
+     */
+    public DuplicateStudySpotException(Collection<String> duplicateNames) {
+        super("Operation would result in duplicate StudySpots: " + String.join(", ", duplicateNames));
+    }
 }
@@ -2,10 +2,18 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Tag in the study tracker.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)};
+ *     there is only one instance of each tag name, see {@link #of(String)}
+ *
+ * Tags are kept in a pool once created, so the study spots with the same tag share it. As tag names come from the
+ * user, the pool grows with the number of different tag names ever used, which stays small in practice.
  */
 public class Tag {
     public static final int TAG_LENGTH = 50;
@@ -15,25 +23,35 @@ public class Tag {
     public static final String MESSAGE_NO_SPACE = "Tags names should not have spaces, e.g. t/veryCrowded.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, Tag> TAGS = new ConcurrentHashMap<>();
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} named {@code tagName}.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
+        Tag tag = TAGS.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         checkArgument(isValidTagLength(tagName), MESSAGE_LENGTH);
-        this.tagName = tagName;
+        return TAGS.computeIfAbsent(tagName, Tag::new);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumeric(test);
     }
 
     /**
@@ -23,42 +23,42 @@ public class SampleDataUtil {
     public static StudySpot[] getSampleStudySpots() {
         return new StudySpot[] {
             new StudySpot(new Name("Starbucks UTown"),
-                    new Rating("4"),
+                    Rating.of("4"),
                     new OperatingHours("0900-2200, 0900-2200"),
                     new Address("University Town, ERC, 138608"),
                     new StudiedHours("5"),
-                    new Favourite(true),
+                    Favourite.of(true),
                     getTagSet("coffee", "tea", "smellsGood"), getAmenitySet("wifi", "charger", "food", "aircon")),
             new StudySpot(new Name("COM1 Tech Hangout"),
-                    new Rating("4"),
+                    Rating.of("4"),
                     new OperatingHours("-"),
                     new Address("B1-01, COM1"),
                     new StudiedHours("3"),
                     getTagSet("friendly", "noisy", "crowdedOnThursdays"),
                     getAmenitySet("wifi", "charger", "aircon")),
             new StudySpot(new Name("Central Library"),
-                    new Rating("3"),
+                    Rating.of("3"),
                     new OperatingHours("0900-2200, 0900-2200"),
                     new Address("Next to FASS"),
                     new StudiedHours("2"),
                     getTagSet("quiet", "cold"),
                     getAmenitySet("wifi", "charger", "aircon")),
             new StudySpot(new Name("Outside cool spot"),
-                    new Rating("2"),
+                    Rating.of("2"),
                     new OperatingHours("-"),
                     new Address("COM2"),
                     new StudiedHours("10"),
                     getTagSet("drinks", "warm"),
                     getAmenitySet("wifi", "charger", "food")),
             new StudySpot(new Name("Medicine library"),
-                    new Rating("5"),
+                    Rating.of("5"),
                     new OperatingHours("-"),
                     new Address("NUS Medicine"),
                     new StudiedHours("4"),
                     getTagSet("awesome"),
                     getAmenitySet("wifi", "charger", "aircon")),
             new StudySpot(new Name("Home Sweet Home"),
-                    new Rating("1"),
+                    Rating.of("1"),
                     new OperatingHours("-"),
                     new Address("42 Wallaby Way"),
                     new StudiedHours("0"),
@@ -83,7 +83,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -92,7 +92,7 @@ public class SampleDataUtil {
      */
     public static Set<Amenity> getAmenitySet(String... strings) {
         return Arrays.stream(strings)
-                .map(Amenity::new)
+                .map(Amenity::of)
                 .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.StorageUtil.toModelValue;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.studyspot.Address;
+import seedu.address.model.studyspot.Favourite;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.OperatingHours;
+import seedu.address.model.studyspot.Rating;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access StudyTracker data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a table of every distinct
+ * string in the data, such as names, addresses, tags and amenities. Each string is stored once as its length
+ * followed by its UTF-8 bytes. The study spots follow as a count and then, for each study spot, the table indexes
+ * of its strings, its studied hours, whether it is a favourite, and the counts and table indexes of its tags and
+ * amenities.
+ */
+public class BinaryStudyTrackerStorage implements StudyTrackerStorage {
+
+    public static final int MAGIC_NUMBER = 0x53545452; // "STTR"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "The file is not a binary study tracker file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary study tracker version: %d";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Invalid string table index: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudyTrackerStorage.class);
+
+    private Path filePath;
+    private DataFileBackups backups;
+
+    public BinaryStudyTrackerStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryStudyTrackerStorage} that keeps up to {@code backupCount} previous versions of the
+     * data file, one from the start of each session in which it is saved.
+     */
+    public BinaryStudyTrackerStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backups = new DataFileBackups(filePath, backupCount);
+    }
+
+    @Override
+    public Path getStudyTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getStudyTrackerBackupFilePaths() {
+        return backups.getFilePaths();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker() throws DataConversionException {
+        return readStudyTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudyTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath);
+                DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in))) {
+            return Optional.of(readStudyTrackerData(dataIn));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            backups.onReadFailure(filePath);
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            backups.onReadFailure(filePath);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
+        saveStudyTracker(studyTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudyTracker(ReadOnlyStudyTracker)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
+        requireNonNull(studyTracker);
+        requireNonNull(filePath);
+
+        backups.beforeSave(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            writeStudyTracker(dataOut, studyTracker);
+            dataOut.flush();
+        });
+    }
+
+    private static StudyTracker readStudyTrackerData(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // Strings are read into growing containers, so that a corrupted count or length fails at the end of the
+        // file instead of allocating memory for it up front.
+        int stringCount = readCount(in);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            int length = readCount(in);
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        StudyTracker studyTracker = new StudyTracker();
+        int studySpotCount = readCount(in);
+        for (int i = 0; i < studySpotCount; i++) {
+            StudySpot studySpot = readStudySpot(in, strings);
+            if (studyTracker.hasStudySpot(studySpot)) {
+                throw new IllegalValueException(JsonSerializableStudyTracker.MESSAGE_DUPLICATE_STUDYSPOT);
+            }
+            studyTracker.addStudySpot(studySpot);
+            if (studySpot.isFavourite()) {
+                studyTracker.addStudySpotToFavourites(studySpot);
+            }
+        }
+        return studyTracker;
+    }
+
+    private static StudySpot readStudySpot(DataInputStream in, List<String> strings)
+            throws IOException, IllegalValueException {
+        String name = readString(in, strings);
+        String rating = readString(in, strings);
+        String operatingHours = readString(in, strings);
+        String address = readString(in, strings);
+        int studiedHours = in.readInt();
+        boolean isFavourite = in.readBoolean();
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(toModelValue(Tag::of, readString(in, strings)));
+        }
+
+        Set<Amenity> amenities = new HashSet<>();
+        int amenityCount = readCount(in);
+        for (int i = 0; i < amenityCount; i++) {
+            amenities.add(toModelValue(Amenity::of, readString(in, strings)));
+        }
+
+        Name modelName = toModelValue(Name::new, name);
+        Rating modelRating = toModelValue(Rating::of, rating);
+        OperatingHours modelOperatingHours = toModelValue(OperatingHours::new, operatingHours);
+        Address modelAddress = toModelValue(Address::new, address);
+        if (studiedHours < 0) {
+            throw new IllegalValueException(StudiedHours.MESSAGE_CONSTRAINTS);
+        }
+
+        return new StudySpot(modelName, modelRating, modelOperatingHours, modelAddress,
+                new StudiedHours(String.valueOf(studiedHours)), Favourite.of(isFavourite), tags, amenities);
+    }
+
+    private static void writeStudyTracker(DataOutputStream out, ReadOnlyStudyTracker studyTracker)
+            throws IOException {
+        List<StudySpot> studySpots = studyTracker.getStudySpotList();
+
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (StudySpot studySpot : studySpots) {
+            stringTable.putIfAbsent(studySpot.getName().fullName, stringTable.size());
+            stringTable.putIfAbsent(studySpot.getRating().value, stringTable.size());
+            stringTable.putIfAbsent(studySpot.getOperatingHours().value, stringTable.size());
+            stringTable.putIfAbsent(studySpot.getAddress().value, stringTable.size());
+            studySpot.getTags().forEach(tag -> stringTable.putIfAbsent(tag.tagName, stringTable.size()));
+            studySpot.getAmenities().forEach(amenity ->
+                    stringTable.putIfAbsent(amenity.amenityType, stringTable.size()));
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(studySpots.size());
+        for (StudySpot studySpot : studySpots) {
+            out.writeInt(stringTable.get(studySpot.getName().fullName));
+            out.writeInt(stringTable.get(studySpot.getRating().value));
+            out.writeInt(stringTable.get(studySpot.getOperatingHours().value));
+            out.writeInt(stringTable.get(studySpot.getAddress().value));
+            out.writeInt(studySpot.getStudiedHours().getHours());
+            out.writeBoolean(studySpot.isFavourite());
+
+            out.writeInt(studySpot.getTags().size());
+            for (Tag tag : studySpot.getTags()) {
+                out.writeInt(stringTable.get(tag.tagName));
+            }
+            out.writeInt(studySpot.getAmenities().size());
+            for (Amenity amenity : studySpot.getAmenities()) {
+                out.writeInt(stringTable.get(amenity.amenityType));
+            }
+        }
+    }
+
+    /**
+     * Reads a count or length, which cannot be negative.
+     */
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in, List<String> strings)
+            throws IOException, IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= strings.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+        }
+        return strings.get(index);
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An append-only file of the commands entered by the user, one per line, oldest first.
+ *
+ * Entering a command only appends its line. Only the last {@code capacity} commands are read back, so the file is
+ * rewritten with just those commands once it holds twice as many lines, which keeps it from growing without bound
+ * while only rewriting it once every {@code capacity} commands.
+ */
+public class CommandHistoryFile {
+
+    public static final String HISTORY_FILE_NAME = "commandhistory.txt";
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "The command history capacity must be positive.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistoryFile.class);
+
+    private final Path filePath;
+    private final int capacity;
+    private int lineCount = 0;
+
+    /**
+     * Creates a {@code CommandHistoryFile} kept in {@code filePath} that keeps the last {@code capacity} commands.
+     * The file is taken to be empty until it is read.
+     */
+    public CommandHistoryFile(Path filePath, int capacity) {
+        requireNonNull(filePath);
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.filePath = filePath;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the path of the command history for the study tracker data file at {@code dataFilePath}.
+     */
+    public static Path toCommandHistoryFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(HISTORY_FILE_NAME);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of commands kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the last {@code capacity} commands in the file, oldest first.
+     * Returns an empty list if there is no file.
+     */
+    public List<String> read() throws IOException {
+        Deque<String> commandTexts = new ArrayDeque<>(capacity);
+        int readLineCount = 0;
+        if (FileUtil.isFileExists(filePath)) {
+            try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    readLineCount++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (commandTexts.size() == capacity) {
+                        commandTexts.removeFirst();
+                    }
+                    commandTexts.addLast(line);
+                }
+            }
+        }
+
+        lineCount = readLineCount;
+        return new ArrayList<>(commandTexts);
+    }
+
+    /**
+     * Appends {@code commandText} to the end of the file, and drops the commands that are no longer kept once the
+     * file holds twice as many commands as are kept.
+     * A command that spans several lines is appended as a single line.
+     */
+    public void append(String commandText) throws IOException {
+        requireNonNull(commandText);
+        FileUtil.appendToFile(filePath, commandText.replace('\n', ' ').replace('\r', ' ') + '\n');
+        lineCount++;
+        if (lineCount >= 2 * capacity) {
+            List<String> keptCommandTexts = read();
+            FileUtil.writeToFile(filePath, toLines(keptCommandTexts));
+            lineCount = keptCommandTexts.size();
+            logger.fine("Dropped the older commands from " + filePath);
+        }
+    }
+
+    private static String toLines(List<String> commandTexts) {
+        StringBuilder lines = new StringBuilder();
+        for (String commandText : commandTexts) {
+            lines.append(commandText).append('\n');
+        }
+        return lines.toString();
+    }
+}
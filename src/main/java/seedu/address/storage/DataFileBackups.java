@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The rolling backups of a data file, which keep one version of the data file from the start of each session in
+ * which it is saved.
+ *
+ * The data file is backed up before it is first saved in a session, and not again until the next session. A data
+ * file that could not be read is not backed up at all, so that it does not push out the backups it can be restored
+ * from.
+ */
+class DataFileBackups {
+
+    private final Path filePath;
+    private final int backupCount;
+    /** Whether the data file is still to be backed up in this session. */
+    private boolean isBackupDue = true;
+
+    /**
+     * Creates the backups of the data file at {@code filePath}, of which up to {@code backupCount} are kept.
+     */
+    DataFileBackups(Path filePath, int backupCount) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the paths of the existing backups, from the newest to the oldest.
+     */
+    List<Path> getFilePaths() {
+        return FileUtil.getBackupFiles(filePath, backupCount);
+    }
+
+    /**
+     * Backs up the data file before {@code savedFilePath} is saved, if it is the data file and has not been backed
+     * up in this session.
+     */
+    void beforeSave(Path savedFilePath) throws IOException {
+        if (!isBackupDue || !savedFilePath.equals(filePath)) {
+            return;
+        }
+        FileUtil.backUpFile(filePath, backupCount);
+        isBackupDue = false;
+    }
+
+    /**
+     * Stops the data file from being backed up in this session if it is {@code unreadableFilePath}.
+     */
+    void onReadFailure(Path unreadableFilePath) {
+        if (unreadableFilePath.equals(filePath)) {
+            isBackupDue = false;
+        }
+    }
+}
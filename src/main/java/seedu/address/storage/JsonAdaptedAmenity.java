@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.storage.StorageUtil.toModelValue;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
@@ -39,11 +41,11 @@ class JsonAdaptedAmenity {
      * @throws IllegalValueException if there were any data constraints violated in the adapted amenity.
      */
     public Amenity toModelType() throws IllegalValueException {
-        if (!Amenity.isValidAmenityType(amenityType)) {
+        if (amenityType == null) {
             throw new IllegalValueException(String.format(Amenity.MESSAGE_CONSTRAINTS,
                     Amenity.listAllAmenityTypes(Amenity.VALID_TYPES)));
         }
-        return new Amenity(amenityType);
+        return toModelValue(Amenity::of, amenityType);
     }
 
 }
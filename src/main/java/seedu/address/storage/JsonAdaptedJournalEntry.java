@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.StorageUtil.toModelValue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudySpot;
+
+/**
+ * Jackson-friendly version of {@link StudyTrackerJournalEntry}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_EMPTY_ENTRY = "Journal entry has neither a target nor a study spot!";
+
+    private final String target;
+    private final JsonAdaptedStudySpot studySpot;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("target") String target,
+            @JsonProperty("studySpot") JsonAdaptedStudySpot studySpot) {
+        this.target = target;
+        this.studySpot = studySpot;
+    }
+
+    /**
+     * Converts a given {@code StudyTrackerJournalEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(StudyTrackerJournalEntry source) {
+        target = source.getTargetName() == null ? null : source.getTargetName().fullName;
+        studySpot = source.getStudySpot() == null ? null : new JsonAdaptedStudySpot(source.getStudySpot());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into a {@code StudyTrackerJournalEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public StudyTrackerJournalEntry toModelType() throws IllegalValueException {
+        Name modelTarget = target == null ? null : toModelValue(Name::new, target);
+        StudySpot modelStudySpot = studySpot == null ? null : studySpot.toModelType();
+
+        if (modelStudySpot == null) {
+            if (modelTarget == null) {
+                throw new IllegalValueException(MESSAGE_EMPTY_ENTRY);
+            }
+            return StudyTrackerJournalEntry.remove(modelTarget);
+        }
+        return modelTarget == null
+                ? StudyTrackerJournalEntry.add(modelStudySpot)
+                : StudyTrackerJournalEntry.replace(modelTarget, modelStudySpot);
+    }
+
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.storage.StorageUtil.toModelValue;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -96,44 +98,29 @@ class JsonAdaptedStudySpot {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelValue(Name::new, name);
 
         if (rating == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Rating.class.getSimpleName()));
         }
-        if (!Rating.isValidRating(rating)) {
-            throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
-        }
-        final Rating modelRating = new Rating(rating);
+        final Rating modelRating = toModelValue(Rating::of, rating);
 
         if (operatingHours == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     OperatingHours.class.getSimpleName()));
         }
-        if (!OperatingHours.isValidOperatingHours(operatingHours)) {
-            throw new IllegalValueException(OperatingHours.MESSAGE_CONSTRAINTS);
-        }
-        final OperatingHours modelOperatingHours = new OperatingHours(operatingHours);
+        final OperatingHours modelOperatingHours = toModelValue(OperatingHours::new, operatingHours);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelValue(Address::new, address);
 
         if (studiedHours == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     StudiedHours.class.getSimpleName()));
         }
-        if (!StudiedHours.isValidLoggedHours(studiedHours)) {
-            throw new IllegalValueException(StudiedHours.MESSAGE_CONSTRAINTS);
-        }
-        final StudiedHours modelStudiedHours = new StudiedHours(studiedHours);
+        final StudiedHours modelStudiedHours = toModelValue(StudiedHours::new, studiedHours);
 
         if (favourite == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -142,7 +129,7 @@ class JsonAdaptedStudySpot {
         if (!Favourite.isValidFavourite(favourite)) {
             throw new IllegalValueException(Favourite.MESSAGE_CONSTRAINTS);
         }
-        final Favourite modelFavourite = new Favourite(Boolean.parseBoolean(favourite));
+        final Favourite modelFavourite = Favourite.of(Boolean.parseBoolean(favourite));
 
         final Set<Tag> modelTags = new HashSet<>(studySpotTags);
         final Set<Amenity> modelAmenities = new HashSet<>(studySpotAmenities);
@@ -49,16 +49,28 @@ class JsonSerializableStudyTracker {
     public StudyTracker toModelType() throws IllegalValueException {
         StudyTracker studyTracker = new StudyTracker();
         for (JsonAdaptedStudySpot jsonAdaptedStudySpot : studySpots) {
-            StudySpot spot = jsonAdaptedStudySpot.toModelType();
-            if (studyTracker.hasStudySpot(spot)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDYSPOT);
-            }
-            studyTracker.addStudySpot(spot);
-            if (spot.isFavourite()) {
-                studyTracker.addStudySpotToFavourites(spot);
-            }
+            addToStudyTracker(studyTracker, jsonAdaptedStudySpot);
         }
         return studyTracker;
     }
 
+    /**
+     * Converts {@code jsonAdaptedStudySpot} into the model's {@code StudySpot} object and adds it to
+     * {@code studyTracker}, and to its favourites if it is a favourite.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the study spot is
+     *     already in {@code studyTracker}.
+     */
+    static void addToStudyTracker(StudyTracker studyTracker, JsonAdaptedStudySpot jsonAdaptedStudySpot)
+            throws IllegalValueException {
+        StudySpot spot = jsonAdaptedStudySpot.toModelType();
+        if (studyTracker.hasStudySpot(spot)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDYSPOT);
+        }
+        studyTracker.addStudySpot(spot);
+        if (spot.isFavourite()) {
+            studyTracker.addStudySpotToFavourites(spot);
+        }
+    }
+
 }
@@ -3,34 +3,63 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.StudySpot;
 
 /**
  * A class to access StudyTracker data stored as a json file on the hard disk.
+ * The file is read and written as a stream, one study spot at a time, so that only the model itself is held
+ * in memory in full.
  */
 public class JsonStudyTrackerStorage implements StudyTrackerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonStudyTrackerStorage.class);
 
+    private static final String STUDY_SPOTS_FIELD = "studySpots";
+
     private Path filePath;
+    private DataFileBackups backups;
 
     public JsonStudyTrackerStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonStudyTrackerStorage} that keeps up to {@code backupCount} previous versions of the
+     * data file, one from the start of each session in which it is saved.
+     */
+    public JsonStudyTrackerStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backups = new DataFileBackups(filePath, backupCount);
     }
 
     public Path getStudyTrackerFilePath() {
         return filePath;
     }
 
+    @Override
+    public List<Path> getStudyTrackerBackupFilePaths() {
+        return backups.getFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyStudyTracker> readStudyTracker() throws DataConversionException {
         return readStudyTracker(filePath);
@@ -45,20 +74,52 @@ public class JsonStudyTrackerStorage implements StudyTrackerStorage {
     public Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableStudyTracker> jsonStudyTracker = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStudyTracker.class);
-        if (jsonStudyTracker.isEmpty()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonStudyTracker.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(readStudyTracker(parser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            backups.onReadFailure(filePath);
             throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            backups.onReadFailure(filePath);
+            throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Reads a study tracker from {@code parser}, converting each study spot as soon as it is read.
+     * Fields other than the list of study spots are skipped.
+     */
+    private static StudyTracker readStudyTracker(JsonParser parser) throws IOException, IllegalValueException {
+        StudyTracker studyTracker = new StudyTracker();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the study tracker to be a json object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!STUDY_SPOTS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the study spots to be a json array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonSerializableStudyTracker.addToStudyTracker(studyTracker,
+                        parser.readValueAs(JsonAdaptedStudySpot.class));
+            }
+        }
+        return studyTracker;
+    }
+
     @Override
     public void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException {
         saveStudyTracker(studyTracker, filePath);
@@ -73,8 +134,26 @@ public class JsonStudyTrackerStorage implements StudyTrackerStorage {
         requireNonNull(studyTracker);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudyTracker(studyTracker), filePath);
+        backups.beforeSave(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                writeStudyTracker(generator, studyTracker);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code studyTracker} to {@code generator}, converting each study spot only as it is written.
+     */
+    private static void writeStudyTracker(JsonGenerator generator, ReadOnlyStudyTracker studyTracker)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(STUDY_SPOTS_FIELD);
+        for (StudySpot studySpot : studyTracker.getStudySpotList()) {
+            generator.writeObject(new JsonAdaptedStudySpot(studySpot));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -29,4 +30,51 @@ public interface Storage extends StudyTrackerStorage, UserPrefsStorage {
     @Override
     void saveStudyTracker(ReadOnlyStudyTracker studyTracker) throws IOException;
 
+    /**
+     * Returns the number of changes that can be journalled before the study tracker has to be saved in full again,
+     * or 0 if changes to the study tracker are not journalled.
+     */
+    int getStudyTrackerJournalLimit();
+
+    /**
+     * Returns the number of changes journalled since the study tracker was last saved in full.
+     */
+    int getStudyTrackerJournalSize();
+
+    /**
+     * Returns true if the journal of the study tracker could not be applied when the study tracker was read and was
+     * set aside, so the study tracker read is missing the changes in it.
+     */
+    boolean isStudyTrackerJournalSetAside();
+
+    /**
+     * Records {@code entries} in the journal of the study tracker, so that they are applied to the saved study
+     * tracker whenever it is read, until the study tracker is next saved in full.
+     * Must only be called if {@link #getStudyTrackerJournalLimit()} is positive.
+     * @throws IOException if there was any problem writing to the journal.
+     * @throws IllegalStateException if changes to the study tracker are not journalled.
+     */
+    void appendToStudyTrackerJournal(List<StudyTrackerJournalEntry> entries) throws IOException;
+
+    /**
+     * Returns the number of commands kept in the saved command history, or 0 if the command history is not saved.
+     */
+    int getCommandHistoryCapacity();
+
+    /**
+     * Returns the commands in the saved command history, oldest first, or an empty list if the command history is
+     * not saved.
+     * @throws IOException if there was any problem reading the command history.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the saved command history.
+     * The command history must have been read before, and must only be appended to if
+     * {@link #getCommandHistoryCapacity()} is positive.
+     * @throws IOException if there was any problem writing to the command history.
+     * @throws IllegalStateException if the command history is not saved.
+     */
+    void appendToCommandHistory(String commandText) throws IOException;
+
 }
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,24 +11,54 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyTracker;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of StudyTracker data in local storage.
+ * If a {@link StudyTrackerJournal} is given, changes to the study tracker can be journalled between saves of the
+ * full study tracker, and the journal is applied whenever the study tracker data file is read. A journal that
+ * cannot be applied is set aside, and the data file is read without it.
+ * If a {@link CommandHistoryFile} is given, the commands entered by the user are saved in it.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private StudyTrackerStorage studyTrackerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private StudyTrackerJournal studyTrackerJournal;
+    private CommandHistoryFile commandHistoryFile;
+    private boolean isStudyTrackerJournalSetAside = false;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code StudyTrackerStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code StudyTrackerStorage} and {@code UserPrefStorage}
+     * that does not journal changes to the study tracker.
      */
     public StorageManager(StudyTrackerStorage studyTrackerStorage, UserPrefsStorage userPrefsStorage) {
+        this(studyTrackerStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code StudyTrackerStorage} and {@code UserPrefStorage}
+     * that journals changes to the study tracker in {@code studyTrackerJournal}, which may be null.
+     */
+    public StorageManager(StudyTrackerStorage studyTrackerStorage, UserPrefsStorage userPrefsStorage,
+            StudyTrackerJournal studyTrackerJournal) {
+        this(studyTrackerStorage, userPrefsStorage, studyTrackerJournal, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code StudyTrackerStorage} and {@code UserPrefStorage}
+     * that journals changes to the study tracker in {@code studyTrackerJournal} and saves the commands entered in
+     * {@code commandHistoryFile}, either of which may be null.
+     */
+    public StorageManager(StudyTrackerStorage studyTrackerStorage, UserPrefsStorage userPrefsStorage,
+            StudyTrackerJournal studyTrackerJournal, CommandHistoryFile commandHistoryFile) {
         super();
         this.studyTrackerStorage = studyTrackerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.studyTrackerJournal = studyTrackerJournal;
+        this.commandHistoryFile = commandHistoryFile;
     }
 
     // ================ UserPrefs methods ==============================
@@ -54,6 +86,11 @@ public class StorageManager implements Storage {
         return studyTrackerStorage.getStudyTrackerFilePath();
     }
 
+    @Override
+    public List<Path> getStudyTrackerBackupFilePaths() {
+        return studyTrackerStorage.getStudyTrackerBackupFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyStudyTracker> readStudyTracker() throws DataConversionException, IOException {
         return readStudyTracker(studyTrackerStorage.getStudyTrackerFilePath());
@@ -62,7 +99,23 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyStudyTracker> readStudyTracker(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return studyTrackerStorage.readStudyTracker(filePath);
+        Optional<ReadOnlyStudyTracker> studyTrackerOptional = studyTrackerStorage.readStudyTracker(filePath);
+        if (!isJournalled(filePath) || !studyTrackerJournal.exists()) {
+            return studyTrackerOptional;
+        }
+
+        logger.fine("Attempting to apply journal: " + studyTrackerJournal.getFilePath());
+        StudyTracker studyTracker = new StudyTracker(studyTrackerOptional.orElseGet(StudyTracker::new));
+        try {
+            studyTrackerJournal.replay(studyTracker);
+        } catch (DataConversionException dce) {
+            logger.warning("Journal " + studyTrackerJournal.getFilePath() + " could not be applied, moving it to "
+                    + studyTrackerJournal.getSetAsideFilePath() + ": " + dce.getMessage());
+            studyTrackerJournal.setAside();
+            isStudyTrackerJournalSetAside = true;
+            return studyTrackerOptional;
+        }
+        return Optional.of(studyTracker);
     }
 
     @Override
@@ -74,6 +127,65 @@ public class StorageManager implements Storage {
     public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         studyTrackerStorage.saveStudyTracker(studyTracker, filePath);
+        if (isJournalled(filePath)) {
+            studyTrackerJournal.clear();
+        }
+    }
+
+    @Override
+    public int getStudyTrackerJournalLimit() {
+        return studyTrackerJournal == null ? 0 : studyTrackerJournal.getLimit();
+    }
+
+    @Override
+    public int getStudyTrackerJournalSize() {
+        return studyTrackerJournal == null ? 0 : studyTrackerJournal.getSize();
+    }
+
+    @Override
+    public boolean isStudyTrackerJournalSetAside() {
+        return isStudyTrackerJournalSetAside;
+    }
+
+    @Override
+    public void appendToStudyTrackerJournal(List<StudyTrackerJournalEntry> entries) throws IOException {
+        if (studyTrackerJournal == null) {
+            throw new IllegalStateException("Changes to the study tracker are not journalled");
+        }
+        logger.fine("Attempting to append " + entries.size() + " entries to journal: "
+                + studyTrackerJournal.getFilePath());
+        studyTrackerJournal.append(entries);
+    }
+
+    // ================ Command history methods ==============================
+
+    @Override
+    public int getCommandHistoryCapacity() {
+        return commandHistoryFile == null ? 0 : commandHistoryFile.getCapacity();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (commandHistoryFile == null) {
+            return new ArrayList<>();
+        }
+        logger.fine("Attempting to read command history: " + commandHistoryFile.getFilePath());
+        return commandHistoryFile.read();
+    }
+
+    @Override
+    public void appendToCommandHistory(String commandText) throws IOException {
+        if (commandHistoryFile == null) {
+            throw new IllegalStateException("The command history is not saved");
+        }
+        commandHistoryFile.append(commandText);
+    }
+
+    /**
+     * Returns true if changes to the study tracker data file at {@code filePath} are journalled.
+     */
+    private boolean isJournalled(Path filePath) {
+        return studyTrackerJournal != null && filePath.equals(studyTrackerStorage.getStudyTrackerFilePath());
     }
 
 }
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for converting stored data into the model.
+ */
+class StorageUtil {
+
+    /**
+     * Returns the model value that {@code constructor} creates from the stored {@code value}.
+     * The constructor validates {@code value} itself, so the value does not have to be checked beforehand, which
+     * would validate every stored value twice.
+     *
+     * @throws IllegalValueException with the message of the constructor if {@code value} is not valid.
+     */
+    static <T> T toModelValue(Function<String, T> constructor, String value) throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+}
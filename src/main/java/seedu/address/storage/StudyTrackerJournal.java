@@ -0,0 +1,284 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
+
+/**
+ * An append-only journal of the changes made to a study tracker since it was last saved in full.
+ *
+ * Each {@link StudyTrackerJournalEntry} is stored as a single line of json, so recording a change only writes that
+ * change instead of the whole study tracker. The entries are applied in order on top of the saved study tracker
+ * when it is read, and the journal is cleared once the study tracker is saved in full again.
+ *
+ * The first line of the journal records the length and checksum of the data file the entries were appended on top
+ * of. If the data file has changed since, it was saved in full after the entries but the application stopped before
+ * the journal was cleared, so the journal is dropped instead of being applied again.
+ */
+public class StudyTrackerJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String SET_ASIDE_FILE_SUFFIX = ".bad";
+    public static final String MESSAGE_LIMIT_CONSTRAINTS = "The journal limit must be positive.";
+
+    private static final String BASE_HEADER_PREFIX = "#base ";
+    private static final String MISSING_DATA_FILE = "none";
+
+    private static final Logger logger = LogsCenter.getLogger(StudyTrackerJournal.class);
+
+    private final Path filePath;
+    private final Path dataFilePath;
+    private final int limit;
+    private volatile int size = 0;
+
+    /**
+     * Creates a {@code StudyTrackerJournal} kept in {@code filePath} of the changes to the data file at
+     * {@code dataFilePath}, that holds up to {@code limit} entries before the study tracker should be saved in full.
+     * The journal is taken to be empty until it is replayed.
+     */
+    public StudyTrackerJournal(Path filePath, Path dataFilePath, int limit) {
+        requireNonNull(filePath);
+        requireNonNull(dataFilePath);
+        checkArgument(limit > 0, MESSAGE_LIMIT_CONSTRAINTS);
+        this.filePath = filePath;
+        this.dataFilePath = dataFilePath;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the path of the journal for the study tracker data file at {@code dataFilePath}.
+     */
+    public static Path toJournalFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public Path getDataFilePath() {
+        return dataFilePath;
+    }
+
+    /**
+     * Returns the path the journal is moved to when it is set aside.
+     */
+    public Path getSetAsideFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + SET_ASIDE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the number of entries the journal holds before the study tracker should be saved in full.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of entries in the journal.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns true if there is a journal file.
+     */
+    public boolean exists() {
+        return FileUtil.isFileExists(filePath);
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal.
+     * A new journal starts with the length and checksum of the data file, which the entries apply on top of.
+     */
+    public void append(List<StudyTrackerJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!exists()) {
+            lines.append(getBaseHeader(dataFilePath)).append('\n');
+        }
+        for (StudyTrackerJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(entry))).append('\n');
+        }
+        FileUtil.appendToFile(filePath, lines.toString());
+        size += entries.size();
+    }
+
+    /**
+     * Applies the entries in the journal to {@code studyTracker} in the order they were appended.
+     * An entry that is not valid json ends the replay, as it can only have been left by an append that was cut
+     * short. It is cut off the journal, so that the entries appended next are not lost behind it.
+     * A journal that was not appended on top of the current data file is dropped without being applied.
+     *
+     * @throws DataConversionException if the journal could not be read, or an entry does not fit the data
+     *     constraints or does not apply to {@code studyTracker}.
+     */
+    public void replay(StudyTracker studyTracker) throws DataConversionException {
+        requireNonNull(studyTracker);
+        size = 0;
+        if (!exists()) {
+            return;
+        }
+
+        int replayedCount = 0;
+        long replayedLength = 0;
+        try {
+            boolean isStale;
+            try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                String header = reader.readLine();
+                isStale = header == null || !header.equals(getBaseHeader(dataFilePath));
+                if (!isStale) {
+                    replayedLength += getLineLength(header);
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            JsonAdaptedJournalEntry entry;
+                            try {
+                                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                            } catch (JsonProcessingException jpe) {
+                                logger.warning("Cutting off the rest of journal " + filePath
+                                        + " after an incomplete entry: " + jpe.getMessage());
+                                break;
+                            }
+                            entry.toModelType().applyTo(studyTracker);
+                            replayedCount++;
+                        }
+                        replayedLength += getLineLength(line);
+                    }
+                }
+            }
+
+            if (isStale) {
+                logger.info("Dropping journal " + filePath + " as it was not appended on top of " + dataFilePath);
+                clear();
+                return;
+            }
+            endAfter(replayedLength);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateStudySpotException | StudySpotNotFoundException e) {
+            logger.info("Journal " + filePath + " does not apply to the saved study tracker: " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        logger.info("Replayed " + replayedCount + " journal entries from " + filePath);
+        size = replayedCount;
+    }
+
+    /**
+     * Records that the journal applies on top of the data file, which has just been converted from the data file at
+     * {@code sourceFilePath} that the journal was appended on top of.
+     * Does nothing if there is no journal, or it was not appended on top of {@code sourceFilePath}.
+     */
+    public void rebase(Path sourceFilePath) throws IOException {
+        requireNonNull(sourceFilePath);
+        if (!exists()) {
+            return;
+        }
+        String content = FileUtil.readFromFile(filePath);
+        String sourceHeader = getBaseHeader(sourceFilePath) + '\n';
+        if (content.startsWith(sourceHeader)) {
+            FileUtil.writeToFile(filePath, getBaseHeader(dataFilePath) + '\n'
+                    + content.substring(sourceHeader.length()));
+        }
+    }
+
+    /**
+     * Cuts the journal after the first {@code length} bytes, which hold the replayed lines, and ends it with a line
+     * break if the last of them has none.
+     */
+    private void endAfter(long length) throws IOException {
+        long fileLength = Files.size(filePath);
+        if (fileLength == length) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            if (fileLength > length) {
+                channel.truncate(length);
+            } else {
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}), fileLength);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the number of bytes taken by {@code line} and the line break after it.
+     */
+    private static long getLineLength(String line) {
+        return line.getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+
+    /**
+     * Returns the first line of a journal appended on top of the data file at {@code dataFilePath}.
+     */
+    private static String getBaseHeader(Path dataFilePath) throws IOException {
+        if (!FileUtil.isFileExists(dataFilePath)) {
+            return BASE_HEADER_PREFIX + MISSING_DATA_FILE;
+        }
+        CRC32 checksum = new CRC32();
+        long length = 0;
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(dataFilePath)) {
+            int readCount;
+            while ((readCount = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, readCount);
+                length += readCount;
+            }
+        }
+        return BASE_HEADER_PREFIX + length + ":" + Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * Moves the journal to {@link #getSetAsideFilePath()}, replacing any journal set aside before, so that its entries
+     * are kept but no longer applied, and the entries appended next start a new journal.
+     */
+    public void setAside() throws IOException {
+        if (exists()) {
+            Files.move(filePath, getSetAsideFilePath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        size = 0;
+    }
+
+    /**
+     * Removes all entries from the journal.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        size = 0;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudySpot;
+
+/**
+ * A single change to the study spots of a {@code StudyTracker}, as recorded in a {@link StudyTrackerJournal}.
+ * Guarantees: immutable.
+ *
+ * An entry either adds a study spot, replaces the study spot with a given name, or removes the study spot with a
+ * given name. Entries are only applied to the study tracker they were recorded on top of, as applying them again to
+ * a study tracker that already holds them may fail; {@link StudyTrackerJournal} drops a journal whose entries have
+ * been saved in full.
+ */
+public class StudyTrackerJournalEntry {
+
+    private final Name targetName;
+    private final StudySpot studySpot;
+
+    /**
+     * Either {@code targetName} or {@code studySpot} may be null, but not both.
+     */
+    private StudyTrackerJournalEntry(Name targetName, StudySpot studySpot) {
+        assert targetName != null || studySpot != null;
+        this.targetName = targetName;
+        this.studySpot = studySpot;
+    }
+
+    /**
+     * Returns an entry that adds {@code studySpot}.
+     */
+    public static StudyTrackerJournalEntry add(StudySpot studySpot) {
+        requireNonNull(studySpot);
+        return new StudyTrackerJournalEntry(null, studySpot);
+    }
+
+    /**
+     * Returns an entry that replaces the study spot named {@code targetName} with {@code studySpot}.
+     */
+    public static StudyTrackerJournalEntry replace(Name targetName, StudySpot studySpot) {
+        requireNonNull(targetName);
+        requireNonNull(studySpot);
+        return new StudyTrackerJournalEntry(targetName, studySpot);
+    }
+
+    /**
+     * Returns an entry that removes the study spot named {@code targetName}.
+     */
+    public static StudyTrackerJournalEntry remove(Name targetName) {
+        requireNonNull(targetName);
+        return new StudyTrackerJournalEntry(targetName, null);
+    }
+
+    /**
+     * Returns the entries that redo {@code change} to a list of study spots.
+     * A single study spot being replaced, or study spots being replaced by study spots with the same names, are
+     * recorded as replacements, so that the study spots keep their positions when the entries are applied. Study
+     * spots replaced by themselves are left out. Any other change is recorded as the removed study spots followed by
+     * the added ones.
+     */
+    public static List<StudyTrackerJournalEntry> fromChange(ListChangeListener.Change<? extends StudySpot> change) {
+        List<StudyTrackerJournalEntry> entries = new ArrayList<>();
+        while (change.next()) {
+            List<? extends StudySpot> removed = change.getRemoved();
+            List<? extends StudySpot> added = change.getAddedSubList();
+            if (removed.size() == added.size() && (removed.size() == 1 || isSameStudySpots(removed, added))) {
+                for (int i = 0; i < removed.size(); i++) {
+                    if (removed.get(i) != added.get(i)) {
+                        entries.add(replace(removed.get(i).getName(), added.get(i)));
+                    }
+                }
+                continue;
+            }
+            removed.forEach(studySpot -> entries.add(remove(studySpot.getName())));
+            added.forEach(studySpot -> entries.add(add(studySpot)));
+        }
+        return entries;
+    }
+
+    private static boolean isSameStudySpots(List<? extends StudySpot> studySpots,
+            List<? extends StudySpot> otherStudySpots) {
+        for (int i = 0; i < studySpots.size(); i++) {
+            if (!studySpots.get(i).isSameStudySpot(otherStudySpots.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Name getTargetName() {
+        return targetName;
+    }
+
+    public StudySpot getStudySpot() {
+        return studySpot;
+    }
+
+    /**
+     * Applies this entry to {@code studyTracker}, keeping its favourites in line with the study spot of this entry.
+     */
+    public void applyTo(StudyTracker studyTracker) {
+        requireNonNull(studyTracker);
+        StudySpot target = targetName == null ? null : studyTracker.findStudySpot(targetName);
+
+        if (studySpot == null) {
+            if (target == null) {
+                return;
+            }
+            if (studyTracker.isFavouriteStudySpot(target)) {
+                target = studyTracker.removeStudySpotFromFavourites(target);
+            }
+            studyTracker.removeStudySpot(target);
+            return;
+        }
+
+        if (target == null) {
+            target = studyTracker.findStudySpot(studySpot.getName());
+        }
+        if (target == null) {
+            studyTracker.addStudySpot(studySpot);
+        } else {
+            if (!studySpot.isFavourite() && studyTracker.isFavouriteStudySpot(target)) {
+                target = studyTracker.removeStudySpotFromFavourites(target);
+            }
+            studyTracker.setStudySpot(target, studySpot);
+        }
+
+        if (studySpot.isFavourite() && !studyTracker.isFavouriteStudySpot(studySpot)) {
+            studyTracker.addStudySpotToFavourites(studySpot);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudyTrackerJournalEntry // instanceof handles nulls
+                && Objects.equals(targetName, ((StudyTrackerJournalEntry) other).targetName)
+                && Objects.equals(studySpot, ((StudyTrackerJournalEntry) other).studySpot));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetName, studySpot);
+    }
+
+    @Override
+    public String toString() {
+        if (studySpot == null) {
+            return "Remove " + targetName;
+        }
+        return targetName == null ? "Add " + studySpot : "Replace " + targetName + " with " + studySpot;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -18,6 +19,11 @@ public interface StudyTrackerStorage {
      */
     Path getStudyTrackerFilePath();
 
+    /**
+     * Returns the file paths of the existing backups of the data file, from the newest to the oldest.
+     */
+    List<Path> getStudyTrackerBackupFilePaths();
+
     /**
      * Returns StudyTracker data as a {@link ReadOnlyStudyTracker}.
      *   Returns {@code Optional.empty()} if storage file is not found.
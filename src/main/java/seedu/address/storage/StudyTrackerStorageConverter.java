@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyStudyTracker;
+
+/**
+ * Converts StudyTracker data between storage formats.
+ * Data is converted through the model, so every format holding all the fields of a {@code StudySpot}
+ * converts losslessly to every other such format.
+ */
+public class StudyTrackerStorageConverter {
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    /**
+     * Reads the data from {@code source} and saves it to {@code target}.
+     * Returns false, and saves nothing, if {@code source} has no data file.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(StudyTrackerStorage source, StudyTrackerStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyStudyTracker> studyTracker = source.readStudyTracker();
+        if (studyTracker.isEmpty()) {
+            return false;
+        }
+        target.saveStudyTracker(studyTracker.get());
+        return true;
+    }
+
+    /**
+     * Returns the path of the binary data file that goes with the json data file at {@code jsonFilePath},
+     * which is the same path with a {@code .bin} extension.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+}
@@ -1,13 +1,16 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.ListIterator;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -20,21 +23,37 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
-    private List<String> commandHistory = new ArrayList<>();
-    private ListIterator<String> scroller;
-    private int lastCommandIndex = -1;
+    private static final String SEARCH_PROMPT = "(reverse-i-search)`%s':";
+    private static final String FAILED_SEARCH_PROMPT = "(failed reverse-i-search)`%s':";
+
+    /** The index of the command from the history in the command box, or -1 if the history is not being browsed. */
+    private int historyIndex = -1;
+    private List<String> completions = Collections.emptyList();
+    private int completionIndex = 0;
+    private boolean isSearching = false;
+    private String searchQuery = "";
+    private String textBeforeSearch = "";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionFinder completionFinder;
+    private final HistoryProvider historyProvider;
+
+    @FXML
+    private Label searchLabel;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CompletionFinder} and
+     * {@code HistoryProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionFinder completionFinder,
+            HistoryProvider historyProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionFinder = completionFinder;
+        this.historyProvider = historyProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         handleKeyboardShortcuts();
@@ -45,14 +64,14 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        endSearch();
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
         }
 
         try {
-            scroller = null;
-            commandHistory.add(commandText);
+            historyIndex = -1;
             commandExecutor.execute(commandText);
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
@@ -82,71 +101,167 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles keyboard shortcuts in the Input box.
-     * Shortcuts: Up arrow toggles between last-entered commands.
+     * Shortcuts: Up and Down arrows browse the last-entered commands, including those of earlier sessions.
+     * Tab completes the last word. Ctrl-R searches the last-entered commands as the query is typed.
      *
      * @@author qreoct-reused
      * Reused from https://github.com/qreoct/ip/blob/master/src/main/java/duke/controllers/AppWindow.java
      */
     private void handleKeyboardShortcuts() {
-        commandTextField.setOnKeyReleased(event -> {
-            String key = event.getCode().toString();
-            cycleThroughCommandHistory(key);
+        // Keys are handled as they are pressed, as Tab would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (isSearching && handleSearchKey(event)) {
+                event.consume();
+            } else if (event.isShortcutDown() && event.getCode() == KeyCode.R) {
+                event.consume();
+                startSearch();
+            } else if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                completeCommand();
+            } else if (event.getCode() == KeyCode.UP || event.getCode() == KeyCode.DOWN) {
+                event.consume();
+                cycleThroughCommandHistory(event.getCode() == KeyCode.UP);
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, event -> {
+            if (!isSearching) {
+                return;
+            }
+            // While searching, the characters typed go to the query instead of the command.
+            event.consume();
+            String character = event.getCharacter();
+            if (!event.isShortcutDown() && !character.isEmpty() && !Character.isISOControl(character.charAt(0))) {
+                searchQuery += character;
+                // The match stays while it still contains the longer query.
+                search(historyIndex + 1);
+            }
         });
     }
 
     /**
-     * Cycles through the history of commands.
+     * Completes the last word of the command with the first of its completions. While the command is left as the
+     * last completion, each Tab replaces it with the next completion instead, going back to the first after the
+     * last.
+     */
+    private void completeCommand() {
+        String commandText = commandTextField.getText();
+        boolean isCompleted = !completions.isEmpty() && commandText.equals(completions.get(completionIndex));
+        if (isCompleted) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = completionFinder.getCompletions(commandText);
+            completionIndex = 0;
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+        commandTextField.setText(completions.get(completionIndex));
+        commandTextField.end();
+    }
+
+    /**
+     * Cycles through the history of commands, stopping at the oldest and the newest command.
+     * Browsing starts again from the newest command once the command box is cleared.
      *
-     * @param key To check if the key pressed is UP or DOWN
+     * @param isUp Whether to show the older command instead of the newer one.
      * Adapted from https://stackoverflow.com/questions/41604430/implement-command-history-within-java-program
      */
-    private void cycleThroughCommandHistory(String key) {
-        boolean isUpArrow = key.equals("UP");
-        boolean isDownArrow = key.equals("DOWN");
-        if (scroller == null || commandTextField.getText().equals("")) {
-            lastCommandIndex = commandHistory.size();
-            scroller = commandHistory.listIterator(lastCommandIndex);
-        }
-        if (scroller.hasPrevious() && isUpArrow) {
-            scrollUp();
+    private void cycleThroughCommandHistory(boolean isUp) {
+        CommandHistory commandHistory = getCommandHistory();
+        if (historyIndex < 0 || historyIndex >= commandHistory.size() || commandTextField.getText().equals("")) {
+            historyIndex = commandHistory.size();
         }
-        if (scroller.hasNext() && isDownArrow) {
-            scrollDown();
+        int nextIndex = isUp ? historyIndex - 1 : historyIndex + 1;
+        if (nextIndex < 0 || nextIndex >= commandHistory.size()) {
+            return;
         }
+        historyIndex = nextIndex;
+        commandTextField.setText(commandHistory.get(historyIndex));
+        commandTextField.end();
+    }
+
+    /**
+     * Starts searching the history of commands, from the newest command.
+     */
+    private void startSearch() {
+        isSearching = true;
+        searchQuery = "";
+        textBeforeSearch = commandTextField.getText();
+        historyIndex = getCommandHistory().size();
+        searchLabel.setVisible(true);
+        searchLabel.setManaged(true);
+        showSearchPrompt(true);
     }
 
-    private void scrollUp() {
-        if (scroller.hasPrevious()) {
-            int prevIndex = scroller.previousIndex();
-            String prevCommand = scroller.previous();
-            if (scroller.hasPrevious() && prevIndex == lastCommandIndex) {
-                prevIndex = scroller.previousIndex();
-                prevCommand = scroller.previous();
+    /**
+     * Handles a key pressed while searching the history of commands.
+     * Ctrl-R searches for an older match and Backspace removes the last character of the query. Escape puts back
+     * the command from before the search. Any other shortcut, or any key that moves the caret or enters the command,
+     * keeps the match in the command box and ends the search before the key is handled as usual.
+     *
+     * @return Whether the key has been handled.
+     */
+    private boolean handleSearchKey(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (event.isShortcutDown() && code == KeyCode.R) {
+            search(historyIndex);
+            return true;
+        } else if (code == KeyCode.BACK_SPACE) {
+            if (!searchQuery.isEmpty()) {
+                searchQuery = searchQuery.substring(0, searchQuery.length() - 1);
+                search(getCommandHistory().size());
             }
-            lastCommandIndex = prevIndex;
-            commandTextField.setText(prevCommand);
+            return true;
+        } else if (code == KeyCode.ESCAPE) {
+            endSearch();
+            commandTextField.setText(textBeforeSearch);
             commandTextField.end();
-            if (!scroller.hasPrevious()) {
-                scroller.next();
-            }
+            return true;
+        } else if (!code.isModifierKey() && (event.isShortcutDown() || code == KeyCode.ENTER || code == KeyCode.TAB
+                || code.isArrowKey() || code.isNavigationKey())) {
+            endSearch();
         }
+        return false;
     }
 
-    private void scrollDown() {
-        if (scroller.hasNext()) {
-            int nextIndex = scroller.nextIndex();
-            String nextCommand = scroller.next();
-            if (scroller.hasNext() && nextIndex == lastCommandIndex) {
-                nextIndex = scroller.nextIndex();
-                nextCommand = scroller.next();
-            }
-            lastCommandIndex = nextIndex;
-            commandTextField.setText(nextCommand);
+    /**
+     * Shows the newest command before {@code beforeIndex} that contains the query, if any.
+     * The command box is left as it is if there is none.
+     */
+    private void search(int beforeIndex) {
+        CommandHistory commandHistory = getCommandHistory();
+        int matchIndex = searchQuery.isEmpty() ? -1 : commandHistory.findLast(searchQuery, beforeIndex);
+        if (matchIndex >= 0) {
+            historyIndex = matchIndex;
+            commandTextField.setText(commandHistory.get(matchIndex));
             commandTextField.end();
-            if (!scroller.hasNext()) {
-                scroller.previous();
-            }
         }
+        showSearchPrompt(searchQuery.isEmpty() || matchIndex >= 0);
+    }
+
+    private void showSearchPrompt(boolean isFound) {
+        searchLabel.setText(String.format(isFound ? SEARCH_PROMPT : FAILED_SEARCH_PROMPT, searchQuery));
+        if (isFound) {
+            searchLabel.getStyleClass().remove(ERROR_STYLE_CLASS);
+        } else if (!searchLabel.getStyleClass().contains(ERROR_STYLE_CLASS)) {
+            searchLabel.getStyleClass().add(ERROR_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Ends the search, keeping the command box as it is.
+     */
+    private void endSearch() {
+        if (!isSearching) {
+            return;
+        }
+        isSearching = false;
+        searchLabel.setVisible(false);
+        searchLabel.setManaged(false);
+    }
+
+    private CommandHistory getCommandHistory() {
+        return historyProvider.getCommandHistory();
     }
 
     /**
@@ -162,4 +277,30 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can find the completions of a command.
+     */
+    @FunctionalInterface
+    public interface CompletionFinder {
+        /**
+         * Returns the completions of the command.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
+    /**
+     * Represents a function that can provide the history of commands.
+     */
+    @FunctionalInterface
+    public interface HistoryProvider {
+        /**
+         * Returns the history of commands.
+         *
+         * @see seedu.address.logic.Logic#getCommandHistory()
+         */
+        CommandHistory getCommandHistory();
+    }
+
 }
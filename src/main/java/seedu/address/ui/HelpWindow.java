@@ -4,7 +4,7 @@ import java.awt.Desktop;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,7 +16,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.util.CommandList;
+import seedu.address.logic.commands.util.CommandRegistry;
 
 /**
  * Controller for a help page
@@ -31,8 +31,8 @@ public class HelpWindow extends UiPart<Stage> {
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
 
-    private ObservableList<String> commandList = CommandList.COMMANDS;
-    private HashMap<String, String> commandToUsage = CommandList.getCommandToUsageMapping();
+    private ObservableList<String> commandList = CommandRegistry.COMMANDS;
+    private Map<String, String> commandToUsage = CommandRegistry.getCommandToUsageMapping();
     private HelpCommandInfoDisplay commandInfoDisplay;
     private Logic logic;
 
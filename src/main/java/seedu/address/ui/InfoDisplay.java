@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
@@ -16,8 +17,10 @@ import seedu.address.model.studyspot.StudySpot;
 public class InfoDisplay extends UiPart<Region> {
     private static final String FXML = "InfoDisplay.fxml";
     private static final String DEFAULT_MESSAGE = "Use the log command to start tracking hours!";
+    private final ObservableList<StudySpot> observedTopFiveSpots;
     private ObservableList<StudySpot> topFiveSpots;
     private ObservableList<PieChart.Data> pieChartData;
+    private boolean isTopFiveSpotsChanged = false;
 
     @FXML
     private PieChart infoDisplayChart;
@@ -34,10 +37,13 @@ public class InfoDisplay extends UiPart<Region> {
     /**
      * Initializes the {@code InfoDisplay}.
      */
-    public InfoDisplay(ObservableList<StudySpot> topFiveSpots, ObservableList<StudySpot> fullList) {
+    public InfoDisplay(ObservableList<StudySpot> topFiveSpots, long totalStudiedHours) {
         super(FXML);
 
-        this.topFiveSpots = topFiveSpots;
+        // topFiveSpots is updated in place by the model, so a copy is kept to compare against on the next update.
+        this.observedTopFiveSpots = topFiveSpots;
+        this.topFiveSpots = FXCollections.observableArrayList(topFiveSpots);
+        topFiveSpots.addListener((ListChangeListener<StudySpot>) change -> isTopFiveSpotsChanged = true);
         infoChartCaption.setVisible(false);
         infoChartCaption.getStyleClass().add("chart-line-symbol");
 
@@ -50,13 +56,13 @@ public class InfoDisplay extends UiPart<Region> {
 
         ObservableList<PieChart.Data> pieData = FXCollections.observableArrayList();
 
-        if (getTotalStudiedHours(fullList) == 0) {
+        if (totalStudiedHours == 0) {
             infoDisplayDefaultMessage.setText(DEFAULT_MESSAGE);
         }
 
         initializePieChart(topFiveSpots, pieData);
         infoDisplayChart.setData(pieData);
-        infoChartHours.setText(String.valueOf(getTotalStudiedHours(fullList)));
+        infoChartHours.setText(String.valueOf(totalStudiedHours));
         pieData.forEach(this::addInteractivity);
 
         pieChartData = pieData;
@@ -74,16 +80,22 @@ public class InfoDisplay extends UiPart<Region> {
     }
 
     /**
-     * Updates the pie chart with new top five spots
+     * Updates the pie chart with new top five spots.
+     * The pie chart is left untouched if the top five spots have not changed since the last update.
      */
-    public void updatePieChart(ObservableList<StudySpot> newTopFiveSpots, ObservableList<StudySpot> fullList) {
-        int totalStudiedHours = getTotalStudiedHours(fullList);
+    public void updatePieChart(ObservableList<StudySpot> newTopFiveSpots, long totalStudiedHours) {
         infoDisplayDefaultMessage.setText("");
         if (totalStudiedHours == 0) {
             infoDisplayDefaultMessage.setText(DEFAULT_MESSAGE);
         }
+        infoChartHours.setText(String.valueOf(totalStudiedHours));
+
+        if (newTopFiveSpots == observedTopFiveSpots && !isTopFiveSpotsChanged) {
+            return;
+        }
+        isTopFiveSpotsChanged = false;
 
-        if (newTopFiveSpots.isEmpty() && fullList.isEmpty() && !pieChartData.isEmpty()) {
+        if (newTopFiveSpots.isEmpty() && !pieChartData.isEmpty()) {
             pieChartData.clear();
         }
 
@@ -100,12 +112,11 @@ public class InfoDisplay extends UiPart<Region> {
             handleAddingSpotIntoTopFive(newTopFiveSpots);
         }
 
-        topFiveSpots = newTopFiveSpots;
+        topFiveSpots = FXCollections.observableArrayList(newTopFiveSpots);
         pieChartData.forEach(this::addInteractivity);
 
         //Sorts pie chart based off largest hours to smallest hours
         pieChartData.sort((spot1, spot2) -> (int) (spot2.getPieValue() - spot1.getPieValue()));
-        infoChartHours.setText(String.valueOf(totalStudiedHours));
     }
 
     /**
@@ -295,16 +306,4 @@ public class InfoDisplay extends UiPart<Region> {
             infoChartCaption.setVisible(false);
         });
     }
-
-    /**
-     * Given a list of study spots, add up total studied hours.
-     * Returns MAX int value if there is integer overflow.
-     */
-    private int getTotalStudiedHours(ObservableList<StudySpot> fullList) {
-        long totalHours = 0;
-        for (StudySpot s : fullList) {
-            totalHours += s.getStudiedHours().getHours();
-        }
-        return totalHours > (long) Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) totalHours;
-    }
 }
@@ -133,7 +133,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        infoDisplay = new InfoDisplay(logic.getTopFiveStudySpotList(), logic.getFullList());
+        infoDisplay = new InfoDisplay(logic.getTopFiveStudySpotList(), logic.getTotalStudiedHours());
         infoDisplayPlaceholder.getChildren().add(infoDisplay.getRoot());
 
         favouritesListPanel = new FavouritesListPanel(logic.getFavouriteStudySpotList());
@@ -142,7 +142,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getStudyTrackerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions, logic::getCommandHistory);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -233,6 +233,7 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        logic.addToCommandHistory(commandText);
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -240,7 +241,7 @@ public class MainWindow extends UiPart<Stage> {
             studySpotListPanel.updateStudySpotCountDisplay(logic.getFilteredStudySpotList().size(),
                     logic.getFullList().size());
             favouritesListPanel.updateFavouritesCountDisplay(logic.getFavouriteStudySpotList().size());
-            infoDisplay.updatePieChart(logic.getTopFiveStudySpotList(), logic.getFullList());
+            infoDisplay.updatePieChart(logic.getTopFiveStudySpotList(), logic.getTotalStudiedHours());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
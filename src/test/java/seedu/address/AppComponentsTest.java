@@ -0,0 +1,88 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StudyTrackerJournal;
+import seedu.address.storage.StudyTrackerJournalEntry;
+import seedu.address.testutil.StudySpotUtil;
+
+public class AppComponentsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_unreadableDataFile_backupRestoredAndSavedInFull() throws Exception {
+        Path studyTrackerFilePath = testFolder.resolve("studyTracker.json");
+        new JsonStudyTrackerStorage(studyTrackerFilePath).saveStudyTracker(getTypicalStudyTracker());
+        FileUtil.backUpFile(studyTrackerFilePath, 1);
+        FileUtil.writeToFile(studyTrackerFilePath, "not json");
+
+        AppComponents appComponents = new AppComponents(createConfigFile(studyTrackerFilePath), Runnable::run);
+        assertEquals(getTypicalStudyTracker(), new StudyTracker(appComponents.getModel().getStudyTracker()));
+
+        assertChangeSavedInFull(appComponents, studyTrackerFilePath);
+    }
+
+    @Test
+    public void constructor_journalNotApplying_dataFileReadAndSavedInFull() throws Exception {
+        Path studyTrackerFilePath = testFolder.resolve("studyTracker.json");
+        new JsonStudyTrackerStorage(studyTrackerFilePath).saveStudyTracker(getTypicalStudyTracker());
+        StudyTrackerJournal journal = new StudyTrackerJournal(
+                StudyTrackerJournal.toJournalFilePath(studyTrackerFilePath), studyTrackerFilePath, 10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{\"target\":\"Invalid*Name\"}\n");
+
+        AppComponents appComponents = new AppComponents(createConfigFile(studyTrackerFilePath), Runnable::run);
+        assertEquals(getTypicalStudyTracker(), new StudyTracker(appComponents.getModel().getStudyTracker()));
+        assertTrue(FileUtil.isFileExists(journal.getSetAsideFilePath()));
+
+        assertChangeSavedInFull(appComponents, studyTrackerFilePath);
+    }
+
+    /**
+     * Asserts that a change made through {@code appComponents} is saved in full to the data file at
+     * {@code studyTrackerFilePath}, rather than journalled on top of it.
+     */
+    private void assertChangeSavedInFull(AppComponents appComponents, Path studyTrackerFilePath) throws Exception {
+        appComponents.getLogic().execute(StudySpotUtil.getAddCommand(BIZ_PODS));
+
+        assertFalse(FileUtil.isFileExists(StudyTrackerJournal.toJournalFilePath(studyTrackerFilePath)));
+        assertEquals(new StudyTracker(appComponents.getModel().getStudyTracker()),
+                new StudyTracker(new JsonStudyTrackerStorage(studyTrackerFilePath).readStudyTracker().get()));
+    }
+
+    /**
+     * Returns the path of a config file in the test folder that keeps the study tracker at
+     * {@code studyTrackerFilePath}.
+     */
+    private Path createConfigFile(Path studyTrackerFilePath) throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudyTrackerFilePath(studyTrackerFilePath);
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        return configFilePath;
+    }
+}
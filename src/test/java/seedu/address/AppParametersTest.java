@@ -27,6 +27,12 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParametersMap_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Collections.singletonMap("config", "config.json")));
+    }
+
     @Test
     public void parse_nullConfigPath_success() {
         parametersStub.namedParameters.put("config", null);
@@ -0,0 +1,123 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.OPERATING_HOURS_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_DECK;
+import static seedu.address.testutil.TypicalStudySpots.DECK;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.storage.JsonStudyTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+
+public class HeadlessMainTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final StringWriter output = new StringWriter();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        logic = new LogicManager(model, new StorageManager(
+                new JsonStudyTrackerStorage(temporaryFolder.resolve("studyTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+    }
+
+    @Test
+    public void run_piped_executesCommandsUntilExit() throws Exception {
+        String input = AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK + OPERATING_HOURS_DESC_DECK
+                + ADDRESS_DESC_DECK + "\n\n" + ExitCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n";
+
+        assertTrue(run(input, false));
+        assertEquals(1, model.getStudyTracker().getStudySpotList().size());
+        assertTrue(model.getStudyTracker().getStudySpotList().get(0).isSameStudySpot(DECK));
+        assertTrue(output.toString().endsWith(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + NEWLINE));
+        assertFalse(output.toString().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void run_failingCommand_reportsErrorAndContinues() throws Exception {
+        assertFalse(run("unknown\n" + ListCommand.COMMAND_WORD, false));
+        assertEquals(HeadlessMain.ERROR_PREFIX + Messages.MESSAGE_UNKNOWN_COMMAND + NEWLINE
+                + ListCommand.MESSAGE_SUCCESS + NEWLINE, output.toString());
+    }
+
+    @Test
+    public void run_commandThrowsUncheckedException_reportsErrorAndContinues() throws Exception {
+        Model throwingModel = new ModelManager() {
+            @Override
+            public void addStudySpot(StudySpot studySpot) {
+                throw new IllegalStateException("Cannot add");
+            }
+        };
+        logic = new LogicManager(throwingModel, new StorageManager(
+                new JsonStudyTrackerStorage(temporaryFolder.resolve("studyTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertFalse(run(AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK + OPERATING_HOURS_DESC_DECK
+                + ADDRESS_DESC_DECK + "\n" + ListCommand.COMMAND_WORD, false));
+        assertEquals(HeadlessMain.ERROR_PREFIX + new IllegalStateException("Cannot add") + NEWLINE
+                + ListCommand.MESSAGE_SUCCESS + NEWLINE, output.toString());
+    }
+
+    @Test
+    public void run_interactive_promptsForEachCommand() throws Exception {
+        assertTrue(run(ListCommand.COMMAND_WORD + "\n", true));
+        assertEquals(HeadlessMain.PROMPT + ListCommand.MESSAGE_SUCCESS + NEWLINE + HeadlessMain.PROMPT,
+                output.toString());
+    }
+
+    /**
+     * Benchmarks piping read-only commands through a study tracker, which should take well under a millisecond
+     * per command. The time of each command is logged.
+     */
+    @Benchmark
+    public void run_manyPipedCommands_allExecuted() throws Exception {
+        int numberOfCommands = 1000;
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < numberOfCommands; i++) {
+            input.append(ListCommand.COMMAND_WORD).append('\n');
+        }
+
+        assertTrue(run(input.toString(), false));
+        assertTrue(output.toString().endsWith(ListCommand.MESSAGE_SUCCESS + NEWLINE));
+
+        double nanosPerRun = BenchmarkUtil.timePerCall("Piping 1000 commands", 10, 20, () ->
+                run(input.toString(), false));
+        BenchmarkUtil.report("Piping a command: %.3f us", nanosPerRun / numberOfCommands / 1000);
+    }
+
+    private boolean run(String input, boolean isInteractive) throws Exception {
+        return HeadlessMain.run(logic, new BufferedReader(new StringReader(input)), new PrintWriter(output),
+                isInteractive);
+    }
+}
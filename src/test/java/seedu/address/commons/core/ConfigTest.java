@@ -16,7 +16,11 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         Path userPrefsFilePath = Paths.get("data", "preferences.json");
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : " + userPrefsFilePath;
+                + "Preference file Location : " + userPrefsFilePath + "\n"
+                + "Number of data file backups : " + Config.DEFAULT_STUDY_TRACKER_BACKUP_COUNT + "\n"
+                + "Data file format : JSON\n"
+                + "Data file journal limit : " + Config.DEFAULT_STUDY_TRACKER_JOURNAL_LIMIT + "\n"
+                + "Command history capacity : " + Config.DEFAULT_COMMAND_HISTORY_CAPACITY;
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -30,6 +34,38 @@ public class ConfigTest {
         assertNotEquals(Level.ALL, c.getLogLevel());
     }
 
+    @Test
+    public void getSetStudyTrackerBackupCount_validCount_success() {
+        Config c = new Config();
+
+        c.setStudyTrackerBackupCount(5);
+        assertEquals(5, c.getStudyTrackerBackupCount());
+    }
+
+    @Test
+    public void getSetStudyTrackerFormat_binary_success() {
+        Config c = new Config();
+
+        c.setStudyTrackerFormat(Config.DataFormat.BINARY);
+        assertEquals(Config.DataFormat.BINARY, c.getStudyTrackerFormat());
+    }
+
+    @Test
+    public void getSetStudyTrackerJournalLimit_validLimit_success() {
+        Config c = new Config();
+
+        c.setStudyTrackerJournalLimit(0);
+        assertEquals(0, c.getStudyTrackerJournalLimit());
+    }
+
+    @Test
+    public void getSetCommandHistoryCapacity_validCapacity_success() {
+        Config c = new Config();
+
+        c.setCommandHistoryCapacity(50);
+        assertEquals(50, c.getCommandHistoryCapacity());
+    }
+
     @Test
     public void getSetPath_validPath_success() {
         Config c = new Config();
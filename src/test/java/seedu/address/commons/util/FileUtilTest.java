@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,51 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFileLeft() throws Exception {
+        Path file = tempDir.resolve("data").resolve("file.json");
+
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.json.tmp")));
+    }
+
+    @Test
+    public void appendToFile_missingThenExistingFile_contentAppended() throws Exception {
+        Path file = tempDir.resolve("data").resolve("file.journal");
+
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void backUpFile_moreVersionsThanBackupCount_keepsNewest() throws Exception {
+        Path file = tempDir.resolve("file.json");
+
+        for (int i = 1; i <= 4; i++) {
+            FileUtil.backUpFile(file, 2);
+            FileUtil.writeToFile(file, "version " + i);
+        }
+
+        assertEquals(Arrays.asList(FileUtil.getBackupFile(file, 1), FileUtil.getBackupFile(file, 2)),
+                FileUtil.getBackupFiles(file, 2));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFile(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFile(file, 2)));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFile(file, 3)));
+    }
+
+    @Test
+    public void backUpFile_noBackups_nothingCreated() throws Exception {
+        Path file = tempDir.resolve("file.json");
+        FileUtil.writeToFile(file, "content");
+
+        FileUtil.backUpFile(file, 0);
+
+        assertTrue(FileUtil.getBackupFiles(file, 1).isEmpty());
+    }
+
 }
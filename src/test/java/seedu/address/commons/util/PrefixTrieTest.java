@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<String> prefixTrie = new PrefixTrie<>(Comparator.naturalOrder(), 3);
+
+    @Test
+    public void constructor_nonPositiveMaxCompletions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixTrie<String>(Comparator.naturalOrder(), 0));
+    }
+
+    @Test
+    public void put_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> prefixTrie.put(null, "value"));
+        assertThrows(NullPointerException.class, () -> prefixTrie.put("key", null));
+    }
+
+    @Test
+    public void put_existingKeyIgnoringCase_replacesValue() {
+        prefixTrie.put("Library", "first");
+        prefixTrie.put("library", "second");
+
+        assertEquals("second", prefixTrie.get("LIBRARY"));
+        assertEquals(1, prefixTrie.size());
+    }
+
+    @Test
+    public void remove_keyOfOtherKeys_keepsOtherKeys() {
+        prefixTrie.put("lib", "lib");
+        prefixTrie.put("library", "library");
+        prefixTrie.remove("lib");
+        prefixTrie.remove("unknown");
+
+        assertNull(prefixTrie.get("lib"));
+        assertEquals(Collections.singletonList("library"), prefixTrie.getCompletions("li"));
+        assertEquals(1, prefixTrie.size());
+
+        prefixTrie.remove("library");
+        assertEquals(Collections.emptyList(), prefixTrie.getCompletions(""));
+        assertEquals(0, prefixTrie.size());
+    }
+
+    @Test
+    public void getCompletions_morethanMax_returnsBestRanked() {
+        for (String key : Arrays.asList("canteen", "cafe", "central", "com1", "lab")) {
+            prefixTrie.put(key, key);
+        }
+
+        assertEquals(Arrays.asList("cafe", "canteen", "central"), prefixTrie.getCompletions("C"));
+        assertEquals(Arrays.asList("cafe", "canteen"), prefixTrie.getCompletions("ca"));
+        assertEquals(Collections.emptyList(), prefixTrie.getCompletions("cat"));
+        assertThrows(UnsupportedOperationException.class, () -> prefixTrie.getCompletions("c").add("cat"));
+    }
+
+    @Test
+    public void getCompletions_manyKeysChanged_returnsCurrentBest() {
+        int numberOfKeys = PrefixTrie.CACHE_THRESHOLD * 4;
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < numberOfKeys; i++) {
+            keys.add(String.format("spot %03d", i));
+            prefixTrie.put(keys.get(i), keys.get(i));
+        }
+        assertEquals(keys.subList(0, 3), prefixTrie.getCompletions("spot"));
+
+        prefixTrie.remove(keys.get(1));
+        prefixTrie.put("spot 000", "another spot");
+        prefixTrie.put("spot", "a spot");
+
+        assertEquals(Arrays.asList("a spot", "another spot", keys.get(2)), prefixTrie.getCompletions("s"));
+        assertEquals(numberOfKeys, prefixTrie.size());
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric() {
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        // invalid strings
+        assertFalse(ValidationUtil.isAlphanumeric("")); // empty string
+        assertFalse(ValidationUtil.isAlphanumeric("cold room")); // spaces
+        assertFalse(ValidationUtil.isAlphanumeric("#friend")); // symbols
+        assertFalse(ValidationUtil.isAlphanumeric("café")); // non-ASCII letters
+
+        // valid strings
+        assertTrue(ValidationUtil.isAlphanumeric("a")); // one character
+        assertTrue(ValidationUtil.isAlphanumeric("COM1zZ09"));
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+
+        // invalid strings
+        assertFalse(ValidationUtil.isAlphanumericWords("")); // empty string
+        assertFalse(ValidationUtil.isAlphanumericWords(" Central")); // leading space
+        assertFalse(ValidationUtil.isAlphanumericWords("Central\tLibrary")); // whitespace other than spaces
+        assertFalse(ValidationUtil.isAlphanumericWords("R@chel")); // symbols
+
+        // valid strings
+        assertTrue(ValidationUtil.isAlphanumericWords("a")); // one character
+        assertTrue(ValidationUtil.isAlphanumericWords("Central  Library 2 ")); // repeated and trailing spaces
+    }
+
+    @Test
+    public void isDigits() {
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null));
+
+        // invalid strings
+        assertFalse(ValidationUtil.isDigits("")); // empty string
+        assertFalse(ValidationUtil.isDigits("-1")); // signed number
+        assertFalse(ValidationUtil.isDigits("2.34")); // decimal number
+        assertFalse(ValidationUtil.isDigits("١")); // non-ASCII digit
+
+        // valid strings
+        assertTrue(ValidationUtil.isDigits("0"));
+        assertTrue(ValidationUtil.isDigits("00123"));
+    }
+}
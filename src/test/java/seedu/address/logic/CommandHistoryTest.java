@@ -0,0 +1,95 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+
+public class CommandHistoryTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+    }
+
+    @Test
+    public void add_full_oldestDropped() {
+        CommandHistory commandHistory = new CommandHistory(3, Arrays.asList("list", "find n/deck", "help"));
+        commandHistory.add("log n/deck hr/2");
+        commandHistory.add("exit");
+
+        assertEquals(3, commandHistory.size());
+        assertEquals("help", commandHistory.get(0));
+        assertEquals("log n/deck hr/2", commandHistory.get(1));
+        assertEquals("exit", commandHistory.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> commandHistory.get(3));
+        assertEquals(-1, commandHistory.findLast("list", commandHistory.size()));
+    }
+
+    @Test
+    public void findLast_longQuery_newestMatchIgnoringCase() {
+        CommandHistory commandHistory = new CommandHistory(10,
+                Arrays.asList("find n/Deck", "list", "log n/deck hr/2", "find n/Frontier"));
+
+        assertEquals(2, commandHistory.findLast("DECK", commandHistory.size()));
+        assertEquals(0, commandHistory.findLast("deck", 2));
+        assertEquals(-1, commandHistory.findLast("deck", 0));
+        assertEquals(3, commandHistory.findLast("find", 100));
+        assertEquals(-1, commandHistory.findLast("deckk", commandHistory.size()));
+        // Every three characters of the query are in "find n/Deck", but not the query itself.
+        assertEquals(-1, commandHistory.findLast("n/deck hr/3", commandHistory.size()));
+    }
+
+    @Test
+    public void findLast_shortQuery_newestMatchIgnoringCase() {
+        CommandHistory commandHistory = new CommandHistory(10, Arrays.asList("log n/deck hr/2", "list", "help"));
+
+        assertEquals(1, commandHistory.findLast("LI", commandHistory.size()));
+        assertEquals(0, commandHistory.findLast("r/", commandHistory.size()));
+        assertEquals(2, commandHistory.findLast("", commandHistory.size()));
+        assertEquals(-1, commandHistory.findLast("zz", commandHistory.size()));
+    }
+
+    @Test
+    public void findLast_droppedCommands_notFound() {
+        CommandHistory commandHistory = new CommandHistory(2);
+        commandHistory.add("find n/deck n/deck");
+        commandHistory.add("list");
+        commandHistory.add("help");
+
+        assertEquals(-1, commandHistory.findLast("deck", commandHistory.size()));
+        commandHistory.add("find n/deck");
+        assertEquals(1, commandHistory.findLast("deck", commandHistory.size()));
+    }
+
+    /**
+     * Benchmarks searches through a full history of many commands, with a command added before each search.
+     * Checking every command on each search would take several milliseconds, while only the commands indexed under
+     * the rarest three characters of the query are checked. The time of each addition and search is logged.
+     */
+    @Benchmark
+    public void findLast_largeHistoryChanging_newestMatchFound() throws Exception {
+        int capacity = 100_000;
+        CommandHistory commandHistory = new CommandHistory(capacity);
+        for (int i = 0; i < capacity; i++) {
+            commandHistory.add("log n/Spot " + Integer.toString(i, 36) + " hr/" + (i % 10));
+        }
+
+        int[] numberOfAdditions = {0};
+        Callable<String> addAndFind = () -> {
+            commandHistory.add("find n/Spot " + Integer.toString(numberOfAdditions[0]++, 36));
+            return commandHistory.get(commandHistory.findLast("spot zzz hr", commandHistory.size()));
+        };
+        assertEquals("log n/Spot zzz hr/5", addAndFind.call());
+
+        BenchmarkUtil.timePerCall("Adding to and searching 100k commands", 1000, 10_000, addAndFind);
+        assertEquals("log n/Spot zzz hr/5", addAndFind.call());
+        assertEquals(capacity, commandHistory.size());
+    }
+}
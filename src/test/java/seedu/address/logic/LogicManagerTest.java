@@ -1,16 +1,28 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_FRONTIER;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_FRONTIER;
+import static seedu.address.logic.commands.CommandTestUtil.OPERATING_HOURS_DESC_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.OPERATING_HOURS_DESC_FRONTIER;
+import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_FRONTIER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.FRONTIER;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,16 +33,20 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.storage.CommandHistoryFile;
 import seedu.address.storage.JsonStudyTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StudyTrackerJournal;
 import seedu.address.testutil.StudySpotBuilder;
 
 public class LogicManagerTest {
@@ -71,6 +87,11 @@ public class LogicManagerTest {
         assertEquals(model.getTopFiveStudySpotList(), logic.getTopFiveStudySpotList());
     }
 
+    @Test
+    public void getTotalStudiedHours() {
+        assertEquals(model.getTotalStudiedHours(), logic.getTotalStudiedHours());
+    }
+
     @Test
     public void getStudyTrackerFilePath() {
         assertEquals(model.getStudyTrackerFilePath(), logic.getStudyTrackerFilePath());
@@ -129,6 +150,179 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("countingStudyTracker.json"));
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, studyTrackerStorage.saveCount);
+    }
+
+    @Test
+    public void execute_mutatingCommandsBeforeSave_savedOnce() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("countingStudyTracker.json"));
+        Queue<Runnable> pendingSaves = new ArrayDeque<>();
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))), pendingSaves::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK
+                + OPERATING_HOURS_DESC_DECK + ADDRESS_DESC_DECK);
+        assertEquals(0, studyTrackerStorage.saveCount);
+
+        pendingSaves.forEach(Runnable::run);
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertEquals(new StudyTracker(model.getStudyTracker()), studyTrackerStorage.readStudyTracker().get());
+    }
+
+    @Test
+    public void executeBatch_mutatingCommands_savedOnce() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("countingStudyTracker.json"));
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        logic.executeBatch(Arrays.asList(
+                AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                        + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER,
+                LogCommand.COMMAND_WORD + NAME_DESC_FRONTIER + " " + PREFIX_HOURS + "3",
+                AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK
+                        + OPERATING_HOURS_DESC_DECK + ADDRESS_DESC_DECK));
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertEquals(new StudyTracker(model.getStudyTracker()), studyTrackerStorage.readStudyTracker().get());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_nothingSaved() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("countingStudyTracker.json"));
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))));
+
+        assertThrows(CommandException.class, () -> logic.executeBatch(Arrays.asList(
+                AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                        + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER,
+                "delete n/InvalidName")));
+        assertEquals(new ModelManager(), model);
+        assertEquals(0, studyTrackerStorage.saveCount);
+    }
+
+    @Test
+    public void flush_backgroundExecutor_changesSaved() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("countingStudyTracker.json"));
+        ExecutorService saveExecutor = Executors.newSingleThreadExecutor();
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"))), saveExecutor);
+
+        try {
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                    + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+            logic.flush();
+        } finally {
+            saveExecutor.shutdown();
+        }
+
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertEquals(new StudyTracker(model.getStudyTracker()), studyTrackerStorage.readStudyTracker().get());
+    }
+
+    @Test
+    public void execute_journalledStorage_changesJournalledUntilFlush() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("journalledStudyTracker.json"));
+        StudyTrackerJournal journal = new StudyTrackerJournal(temporaryFolder.resolve("studyTracker.journal"),
+                temporaryFolder.resolve("journalledStudyTracker.json"), 10);
+        StorageManager storage = new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journalledUserPrefs.json")), journal);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+        logic.execute(LogCommand.COMMAND_WORD + NAME_DESC_FRONTIER + " " + PREFIX_HOURS + "3");
+        assertEquals(0, studyTrackerStorage.saveCount);
+        assertEquals(2, journal.getSize());
+        assertEquals(new StudyTracker(model.getStudyTracker()), storage.readStudyTracker().get());
+
+        logic.flush();
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertFalse(journal.exists());
+        assertEquals(new StudyTracker(model.getStudyTracker()), storage.readStudyTracker().get());
+    }
+
+    @Test
+    public void execute_journalFull_studyTrackerSavedInFull() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("journalledStudyTracker.json"));
+        StudyTrackerJournal journal = new StudyTrackerJournal(temporaryFolder.resolve("studyTracker.journal"),
+                temporaryFolder.resolve("journalledStudyTracker.json"), 1);
+        logic = new LogicManager(model, new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journalledUserPrefs.json")), journal));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+        assertTrue(journal.exists());
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK
+                + OPERATING_HOURS_DESC_DECK + ADDRESS_DESC_DECK);
+
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertFalse(journal.exists());
+    }
+
+    @Test
+    public void execute_snapshotNeeded_studyTrackerSavedInFullBeforeJournalling() throws Exception {
+        SaveCountingStudyTrackerStorage studyTrackerStorage =
+                new SaveCountingStudyTrackerStorage(temporaryFolder.resolve("journalledStudyTracker.json"));
+        StudyTrackerJournal journal = new StudyTrackerJournal(temporaryFolder.resolve("studyTracker.journal"),
+                temporaryFolder.resolve("journalledStudyTracker.json"), 10);
+        StorageManager storage = new StorageManager(studyTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journalledUserPrefs.json")), journal);
+        logic = new LogicManager(model, storage, Runnable::run, true);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_FRONTIER + RATING_DESC_FRONTIER
+                + OPERATING_HOURS_DESC_FRONTIER + ADDRESS_DESC_FRONTIER);
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertFalse(journal.exists());
+
+        logic.execute(LogCommand.COMMAND_WORD + NAME_DESC_FRONTIER + " " + PREFIX_HOURS + "3");
+        assertEquals(1, studyTrackerStorage.saveCount);
+        assertEquals(1, journal.getSize());
+        assertEquals(new StudyTracker(model.getStudyTracker()), storage.readStudyTracker().get());
+    }
+
+    @Test
+    public void addToCommandHistory_savedCommandHistory_savedAndReadInNextSession() throws Exception {
+        CommandHistoryFile commandHistoryFile = new CommandHistoryFile(temporaryFolder.resolve("history.txt"), 2);
+        commandHistoryFile.append("list");
+        logic = new LogicManager(model, new StorageManager(new JsonStudyTrackerStorage(
+                temporaryFolder.resolve("historyStudyTracker.json")), new JsonUserPrefsStorage(
+                temporaryFolder.resolve("historyUserPrefs.json")), null, commandHistoryFile));
+
+        assertEquals(1, logic.getCommandHistory().size());
+        logic.addToCommandHistory("find n/deck");
+        logic.addToCommandHistory("invalid command");
+
+        CommandHistory commandHistory = logic.getCommandHistory();
+        assertEquals(2, commandHistory.size());
+        assertEquals("find n/deck", commandHistory.get(0));
+        assertEquals("invalid command", commandHistory.get(1));
+        assertEquals(Arrays.asList("find n/deck", "invalid command"),
+                new CommandHistoryFile(commandHistoryFile.getFilePath(), 2).read());
+    }
+
+    @Test
+    public void addToCommandHistory_unsavedCommandHistory_keptInMemory() {
+        logic.addToCommandHistory("list");
+        assertEquals(1, logic.getCommandHistory().size());
+        assertEquals("list", logic.getCommandHistory().get(0));
+    }
+
     @Test
     public void getFilteredStudySpotList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudySpotList().remove(0));
@@ -200,4 +394,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the study tracker is saved.
+     */
+    private static class SaveCountingStudyTrackerStorage extends JsonStudyTrackerStorage {
+        private int saveCount = 0;
+
+        private SaveCountingStudyTrackerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudyTracker(ReadOnlyStudyTracker studyTracker, Path filePath) throws IOException {
+            saveCount++;
+            super.saveStudyTracker(studyTracker, filePath);
+        }
+    }
 }
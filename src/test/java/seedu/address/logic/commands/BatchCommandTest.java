@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.OPERATING_HOURS_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.DECK;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.Alias;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class BatchCommandTest {
+
+    private static final String ADD_DECK = AddCommand.COMMAND_WORD + NAME_DESC_DECK + RATING_DESC_DECK
+            + OPERATING_HOURS_DESC_DECK + ADDRESS_DESC_DECK;
+    private static final String LOG_STARBUCKS = LogCommand.COMMAND_WORD + " " + PREFIX_NAME + "Starbucks "
+            + PREFIX_HOURS + "2";
+
+    private final Model model = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+    @Test
+    public void constructor_nullCommandTexts_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+    }
+
+    @Test
+    public void execute_validCommands_allExecuted() {
+        List<String> commandTexts = Arrays.asList("# import the deck", ADD_DECK, "",
+                "alias al/ovr cmd/log -o", "ovr n/Starbucks hr/7");
+
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+        expectedModel.addStudySpot(new StudySpotBuilder(DECK).withTags().build());
+        expectedModel.addAlias(new Alias("ovr", "log -o"));
+        expectedModel.setStudySpot(STARBUCKS, STARBUCKS.withStudiedHours(new StudiedHours("7")));
+        CommandResult expectedResult = new CommandResult(
+                String.format(BatchCommand.MESSAGE_SUCCESS, 3, "1 add, 1 alias, 1 ovr"), true, false, false);
+
+        assertCommandSuccess(new BatchCommand(commandTexts), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_noCommands_nothingExecuted() {
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+        assertCommandSuccess(new BatchCommand(Arrays.asList(" ", "# nothing to do")), model,
+                BatchCommand.MESSAGE_NO_COMMANDS, expectedModel);
+    }
+
+    @Test
+    public void execute_failingCommand_earlierCommandsUndone() {
+        String failingCommand = "delete n/Nowhere";
+        List<String> commandTexts = Arrays.asList(ADD_DECK, "alias al/ovr cmd/log -o", LOG_STARBUCKS,
+                failingCommand, LOG_STARBUCKS);
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 4, failingCommand,
+                Messages.MESSAGE_INVALID_NAME);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new BatchCommand(commandTexts).execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_invalidCommand_earlierCommandsUndone() {
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+        assertThrows(CommandException.class, () ->
+                new BatchCommand(Arrays.asList(ADD_DECK, "unknown")).execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_commandThrowsUncheckedException_earlierCommandsUndone() {
+        Model throwingModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs()) {
+            @Override
+            public void setStudySpot(StudySpot target, StudySpot editedStudySpot) {
+                throw new DuplicateStudySpotException();
+            }
+        };
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+        assertThrows(DuplicateStudySpotException.class, () -> new BatchCommand(
+                Arrays.asList(ADD_DECK, "alias al/ovr cmd/log -o", LOG_STARBUCKS)).execute(throwingModel));
+        assertEquals(expectedModel.getStudyTracker(), throwingModel.getStudyTracker());
+        assertEquals(expectedModel.getUserPrefs(), throwingModel.getUserPrefs());
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() {
+        String runCommand = RunCommand.COMMAND_WORD + " " + PREFIX_FILE + "other.txt";
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 1, runCommand,
+                BatchCommand.MESSAGE_NESTED_BATCH);
+
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new BatchCommand(Collections.singletonList(runCommand)).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(ADD_DECK));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Collections.singletonList(ADD_DECK))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Collections.singletonList(LOG_STARBUCKS))));
+    }
+}
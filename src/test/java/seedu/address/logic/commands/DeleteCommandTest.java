@@ -51,6 +51,13 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_NAME);
     }
 
+    @Test
+    public void execute_mistypedName_throwsCommandExceptionWithSuggestion() {
+        DeleteCommand deleteCommand = new DeleteCommand(new Name("Starbuks"));
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_NAME + "\n"
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, VALID_NAME_ONE));
+    }
+
     @Test
     public void execute_deleteFavouriteStudySpot_success() {
         StudySpot studySpotToDelete = model.getFullList().get(1);
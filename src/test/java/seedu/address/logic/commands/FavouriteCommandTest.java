@@ -6,6 +6,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SPOT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SPOT;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
 import org.junit.jupiter.api.Test;
@@ -45,7 +46,9 @@ public class FavouriteCommandTest {
         assertFalse(model.hasStudySpot(invalidStudySpot));
         FavouriteCommand favouriteCommand = new FavouriteCommand(invalidStudySpot.getName());
 
-        assertCommandFailure(favouriteCommand, model, Messages.MESSAGE_INVALID_NAME);
+        // the name shares a word with the name of COM1
+        assertCommandFailure(favouriteCommand, model, Messages.MESSAGE_INVALID_NAME + "\n"
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, COM1.getName()));
     }
 
     @Test
@@ -3,11 +3,14 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_DID_YOU_MEAN;
 import static seedu.address.commons.core.Messages.MESSAGE_STUDYSPOT_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
 import static seedu.address.testutil.TypicalStudySpots.FRONTIER_CANTEEN;
 import static seedu.address.testutil.TypicalStudySpots.LT_17;
 import static seedu.address.testutil.TypicalStudySpots.PC_COMMONS;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
 import java.util.Arrays;
@@ -19,6 +22,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.studyspot.NameContainsKeywordsPredicate;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
+import seedu.address.testutil.StudySpotBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -64,6 +70,17 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredStudySpotList());
     }
 
+    @Test
+    public void execute_mistypedKeyword_suggestsSimilarNames() {
+        String expectedMessage = String.format(MESSAGE_STUDYSPOT_LISTED_OVERVIEW, 0) + "\n"
+                + String.format(MESSAGE_DID_YOU_MEAN, STARBUCKS.getName());
+        NameContainsKeywordsPredicate predicate = preparePredicate("Starbuks");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudySpotList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudySpotList());
+    }
+
     @Test
     public void execute_multipleKeywords_multipleStudySpotsFound() {
         String expectedMessage = String.format(MESSAGE_STUDYSPOT_LISTED_OVERVIEW, 3);
@@ -74,6 +91,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(FRONTIER_CANTEEN, PC_COMMONS, LT_17), model.getFilteredStudySpotList());
     }
 
+    @Test
+    public void execute_prefixKeywords_studySpotsOrderedByMatchCount() {
+        String expectedMessage = String.format(MESSAGE_STUDYSPOT_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("com* pc");
+        FindCommand command = new FindCommand(predicate);
+        StudySpotSearchIndex.Search search = expectedModel.createStudySpotSearch(predicate.getKeywords());
+        expectedModel.updateFilteredStudySpotList(search, search.byRelevance());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PC_COMMONS, COM1), model.getFilteredStudySpotList());
+    }
+
+    @Test
+    public void execute_studySpotRenamedAfterFind_resultsFollowRename() {
+        new FindCommand(preparePredicate("Starbucks")).execute(model);
+        StudySpot renamedStarbucks = new StudySpotBuilder(STARBUCKS).withName("Coffee Bean").build();
+
+        model.setStudySpot(STARBUCKS, renamedStarbucks);
+        assertEquals(Collections.emptyList(), model.getFilteredStudySpotList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
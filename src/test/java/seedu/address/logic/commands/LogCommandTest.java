@@ -59,6 +59,14 @@ public class LogCommandTest {
                 commandResultOverride.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_resetAll_allStudiedHoursReset() throws CommandException {
+        new LogCommand(null, null, false, false, true).execute(model);
+
+        model.getFullList().forEach(studySpot -> assertEquals(0, studySpot.getStudiedHours().getHours()));
+        assertEquals(0, model.getTotalStudiedHours());
+    }
+
     @Test
     public void execute_invalidStudySpotName_failure() {
         Name notInTypicalStudySpots = new Name("Invalid Name");
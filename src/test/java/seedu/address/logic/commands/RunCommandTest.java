@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null));
+    }
+
+    @Test
+    public void execute_scriptFile_commandsExecuted() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        FileUtil.writeToFile(scriptFile, "fav n/Starbucks\r\nlist\n");
+
+        Model expectedModel = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+        expectedModel.addStudySpotToFavourites(STARBUCKS);
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 2, "1 fav, 1 list");
+
+        assertCommandSuccess(new RunCommand(scriptFile), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = temporaryFolder.resolve("missing.txt");
+        String expectedMessage = String.format(RunCommand.MESSAGE_FILE_NOT_READ, missingFile,
+                new NoSuchFileException(missingFile.toString()));
+
+        assertCommandFailure(new RunCommand(missingFile), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("script.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("script.txt"))));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"))));
+    }
+}
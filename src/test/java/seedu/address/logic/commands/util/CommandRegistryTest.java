@@ -0,0 +1,64 @@
+package seedu.address.logic.commands.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+class CommandRegistryTest {
+
+    @Test
+    void getCommandToUsageMapping() {
+        Map<String, String> commands = CommandRegistry.getCommandToUsageMapping();
+
+        assertTrue(commands.containsKey("list"));
+        assertTrue(commands.containsKey("log"));
+        assertEquals(LogCommand.MESSAGE_USAGE, commands.get("log"));
+
+        assertFalse(commands.containsKey("unknown"));
+        assertThrows(UnsupportedOperationException.class, () -> commands.put("unknown", "usage"));
+    }
+
+    @Test
+    void isCommandWord() {
+        assertTrue(CommandRegistry.isCommandWord(ListCommand.COMMAND_WORD));
+        assertFalse(CommandRegistry.isCommandWord("List"));
+        assertFalse(CommandRegistry.isCommandWord("unknown"));
+        assertThrows(NullPointerException.class, () -> CommandRegistry.isCommandWord(null));
+    }
+
+    @Test
+    void getParser_commandWord_sameParserEveryTime() throws ParseException {
+        assertSame(CommandRegistry.getParser(LogCommand.COMMAND_WORD).get(),
+                CommandRegistry.getParser(LogCommand.COMMAND_WORD).get());
+        assertTrue(CommandRegistry.getParser(ClearCommand.COMMAND_WORD).get().parse("") instanceof ClearCommand);
+        assertFalse(CommandRegistry.getParser("unknown").isPresent());
+    }
+
+    @Test
+    void getCommandWordCompletions() {
+        assertEquals(List.of("fav", "find"), CommandRegistry.getCommandWordCompletions("F"));
+        assertEquals(List.of(), CommandRegistry.getCommandWordCompletions("x"));
+    }
+
+    @Test
+    void getCommandWords_matchesCommands() {
+        List<String> commandWords = CommandRegistry.getCommandWords();
+        assertEquals(CommandRegistry.COMMANDS.size(), commandWords.size());
+        assertEquals(CommandRegistry.getCommandToUsageMapping().keySet(), Set.copyOf(commandWords));
+        assertEquals("Add", CommandRegistry.COMMANDS.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> commandWords.add("unknown"));
+    }
+}
@@ -4,9 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EDIT_SPOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPERATING_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+
 public class ArgumentTokenizerTest {
 
     private final Prefix unknownPrefix = new Prefix("--u");
@@ -136,6 +151,41 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix dash = new Prefix("-");
+        String argsString = "SomePreambleString -t dashT value - dash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+        assertArgumentPresent(argMultimap, dash, "dash value");
+    }
+
+    /**
+     * Benchmarks tokenizing the arguments of an edit command, which has the most prefixes of all commands, against
+     * {@link #tokenizeByPrefixSearch(String, Prefix...)}, which tokenizes the way the tokenizer used to. Both
+     * timings are logged.
+     */
+    @Benchmark
+    public void tokenize_editCommandArguments_fasterThanPrefixSearch() throws Exception {
+        Prefix[] prefixes = {PREFIX_EDIT_SPOT, PREFIX_NAME, PREFIX_RATING, PREFIX_OPERATING_HOURS, PREFIX_ADDRESS,
+            PREFIX_TAG, PREFIX_REMOVE_TAG, PREFIX_AMENITY, PREFIX_REMOVE_AMENITY};
+        String argsString = " " + PREFIX_EDIT_SPOT + "Central Library " + PREFIX_NAME + "Central Library Level 4 "
+                + PREFIX_RATING + "4 " + PREFIX_OPERATING_HOURS + "0900-1800, 0900-1700 "
+                + PREFIX_ADDRESS + "12 Kent Ridge Crescent " + PREFIX_TAG + "quiet " + PREFIX_TAG + "cold "
+                + PREFIX_REMOVE_TAG + "crowded " + PREFIX_AMENITY + "wifi " + PREFIX_REMOVE_AMENITY + "food";
+        for (Prefix prefix : prefixes) {
+            assertEquals(tokenizeByPrefixSearch(argsString, prefixes).getAllValues(prefix),
+                    ArgumentTokenizer.tokenize(argsString, prefixes).getAllValues(prefix));
+        }
+
+        double prefixSearchNanos = BenchmarkUtil.timePerCall("Tokenizing by prefix search", 100_000, 100_000, () ->
+                tokenizeByPrefixSearch(argsString, prefixes));
+        double singlePassNanos = BenchmarkUtil.timePerCall("Tokenizing in a single pass", 100_000, 100_000, () ->
+                ArgumentTokenizer.tokenize(argsString, prefixes));
+        BenchmarkUtil.report("Single pass speedup over prefix search: %.1fx", prefixSearchNanos / singlePassNanos);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -147,4 +197,44 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    /**
+     * Tokenizes {@code argsString} the way {@link ArgumentTokenizer} used to, by searching the whole string for each
+     * prefix in turn and sorting the positions found, for comparison in benchmarks.
+     */
+    private static ArgumentMultimap tokenizeByPrefixSearch(String argsString, Prefix... prefixes) {
+        List<PrefixPosition> positions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int position = argsString.indexOf(" " + prefix.getPrefix());
+            while (position != -1) {
+                positions.add(new PrefixPosition(prefix, position + 1));
+                position = argsString.indexOf(" " + prefix.getPrefix(), position + 1);
+            }
+        }
+        positions.sort((position1, position2) -> position1.startPosition - position2.startPosition);
+        positions.add(0, new PrefixPosition(new Prefix(""), 0));
+        positions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < positions.size() - 1; i++) {
+            PrefixPosition current = positions.get(i);
+            int valueStartPosition = current.startPosition + current.prefix.getPrefix().length();
+            argMultimap.put(current.prefix,
+                    argsString.substring(valueStartPosition, positions.get(i + 1).startPosition).trim());
+        }
+        return argMultimap;
+    }
+
+    /**
+     * Represents a prefix's position in an arguments string.
+     */
+    private static class PrefixPosition {
+        private final Prefix prefix;
+        private final int startPosition;
+
+        PrefixPosition(Prefix prefix, int startPosition) {
+            this.prefix = prefix;
+            this.startPosition = startPosition;
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.Alias;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter();
+    private final Model model = new ModelManager(getTypicalStudyTracker(), new UserPrefs());
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> completer.complete(null, model));
+        assertThrows(NullPointerException.class, () -> completer.complete("li", null));
+    }
+
+    @Test
+    public void complete_blank_noCompletions() {
+        assertEquals(Collections.emptyList(), completer.complete("  ", model));
+    }
+
+    @Test
+    public void complete_firstWord_completesCommandWordsAndAliases() {
+        model.addAlias(new Alias("lol", "list"));
+
+        assertEquals(Arrays.asList("log", "lol"), completer.complete("lo", model));
+        assertEquals(Arrays.asList(" unalias", " unfav"), completer.complete(" un", model));
+        assertEquals(Collections.emptyList(), completer.complete("log", model));
+    }
+
+    @Test
+    public void complete_prefixValue_completesValueOfPrefix() {
+        assertEquals(Arrays.asList("edit spot/Central library", "edit spot/COM1"),
+                completer.complete("edit spot/c", model));
+        assertEquals(Arrays.asList("add n/X t/coffee", "add n/X t/cold", "add n/X t/crowded"),
+                completer.complete("add n/X t/C", model));
+        assertEquals(Arrays.asList("edit spot/COM1 rm/wifi"), completer.complete("edit spot/COM1 rm/w", model));
+        assertEquals(Arrays.asList("alias al/x cmd/fav", "alias al/x cmd/find"),
+                completer.complete("alias al/x cmd/f", model));
+    }
+
+    @Test
+    public void complete_lastWordAfterValue_completesPrefixes() {
+        assertEquals(Arrays.asList("edit spot/COM1 r/", "edit spot/COM1 rm/", "edit spot/COM1 rt/"),
+                completer.complete("edit spot/COM1 r", model));
+        assertEquals(Arrays.asList("delete n/"), completer.complete("delete n", model));
+    }
+}
@@ -1,23 +1,17 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.commands.ListCommand.containsAmenity;
-import static seedu.address.logic.commands.ListCommand.containsTag;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDYSPOTS;
-import static seedu.address.model.Model.PREDICATE_SHOW_FAVOURITES;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Rating;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
 
 public class ListCommandParserTest {
@@ -26,7 +20,7 @@ public class ListCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsListCommand() {
-        assertParseSuccess(parser, "1", new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS, false, null, null, null));
+        assertParseSuccess(parser, "1", new ListCommand(false, null, null, null));
     }
 
     @Test
@@ -67,25 +61,22 @@ public class ListCommandParserTest {
 
     @Test
     public void parse_favouriteFlag_returnsListCommand() {
-        assertParseSuccess(parser, " -f", new ListCommand(PREDICATE_SHOW_ALL_STUDYSPOTS.and(PREDICATE_SHOW_FAVOURITES),
-                true, null, null, null));
+        assertParseSuccess(parser, " -f", new ListCommand(true, null, null, null));
     }
 
     @Test
     public void parse_tags_returnsListCommand() {
-        Tag coldTag = new Tag("cold");
-        Tag warmTag = new Tag("warm");
+        Tag coldTag = Tag.of("cold");
+        Tag warmTag = Tag.of("warm");
         Set<Tag> tagSet = new HashSet<Tag>(Arrays.asList(coldTag, warmTag));
-        Predicate<StudySpot> predicate = containsTag(coldTag).and(containsTag(warmTag));
-        assertParseSuccess(parser, " -t t/cold t/warm", new ListCommand(predicate, false, tagSet, null, null));
+        assertParseSuccess(parser, " -t t/cold t/warm", new ListCommand(false, tagSet, null, null));
     }
 
     @Test
     public void parse_amenities_returnsListCommand() {
-        Amenity wifi = new Amenity("wifi");
-        Amenity charger = new Amenity("charger");
+        Amenity wifi = Amenity.of("wifi");
+        Amenity charger = Amenity.of("charger");
         Set<Amenity> amenitySet = new HashSet<>(Arrays.asList(wifi, charger));
-        Predicate<StudySpot> predicate = containsAmenity(wifi).and(containsAmenity(charger));
-        assertParseSuccess(parser, " -m m/wifi m/charger", new ListCommand(predicate, false, null, amenitySet, null));
+        assertParseSuccess(parser, " -m m/wifi m/charger", new ListCommand(false, null, amenitySet, null));
     }
 }
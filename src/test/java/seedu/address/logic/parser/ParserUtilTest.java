@@ -2,9 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_FLAG;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SPOT;
@@ -13,7 +11,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,9 +21,7 @@ import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.OperatingHours;
 import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudiedHours;
-import seedu.address.model.studyspot.StudySpot;
 import seedu.address.model.tag.Tag;
-import seedu.address.testutil.StudySpotBuilder;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -106,14 +101,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseRating_validValueWithoutWhitespace_returnsRating() throws Exception {
-        Rating expectedRating = new Rating(VALID_RATING);
+        Rating expectedRating = Rating.of(VALID_RATING);
         assertEquals(expectedRating, ParserUtil.parseRating(VALID_RATING));
     }
 
     @Test
     public void parseRating_validValueWithWhitespace_returnsTrimmedRating() throws Exception {
         String ratingWithWhitespace = WHITESPACE + VALID_RATING + WHITESPACE;
-        Rating expectedRating = new Rating(VALID_RATING);
+        Rating expectedRating = Rating.of(VALID_RATING);
         assertEquals(expectedRating, ParserUtil.parseRating(ratingWithWhitespace));
     }
 
@@ -175,14 +170,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -217,7 +212,7 @@ public class ParserUtilTest {
     @Test
     public void parseTags_collectionWithValidTags_returnsTagSet() throws Exception {
         Set<Tag> actualTagSet = ParserUtil.parseTags(Arrays.asList(VALID_TAG_1, VALID_TAG_2));
-        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)));
+        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(Tag.of(VALID_TAG_1), Tag.of(VALID_TAG_2)));
 
         assertEquals(expectedTagSet, actualTagSet);
     }
@@ -234,14 +229,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseAmenity_validValueWithoutWhitespace_returnsAmenity() throws Exception {
-        Amenity expectedAmenity = new Amenity(VALID_AMENITY_1);
+        Amenity expectedAmenity = Amenity.of(VALID_AMENITY_1);
         assertEquals(expectedAmenity, ParserUtil.parseAmenity(VALID_AMENITY_1));
     }
 
     @Test
     public void parseAmenity_validValueWithWhitespace_returnsTrimmedAmenity() throws Exception {
         String amenityWithWhitespace = WHITESPACE + VALID_AMENITY_1 + WHITESPACE;
-        Amenity expectedAmenity = new Amenity(VALID_AMENITY_1);
+        Amenity expectedAmenity = Amenity.of(VALID_AMENITY_1);
         assertEquals(expectedAmenity, ParserUtil.parseAmenity(amenityWithWhitespace));
     }
 
@@ -264,8 +259,8 @@ public class ParserUtilTest {
     @Test
     public void parseAmenities_collectionWithValidAmenities_returnsAmenitySet() throws Exception {
         Set<Amenity> actualAmenitySet = ParserUtil.parseAmenities(Arrays.asList(VALID_AMENITY_1, VALID_AMENITY_2));
-        Set<Amenity> expectedAmenitySet = new HashSet<Amenity>(Arrays.asList(new Amenity(VALID_AMENITY_1),
-                new Amenity(VALID_AMENITY_2)));
+        Set<Amenity> expectedAmenitySet = new HashSet<Amenity>(Arrays.asList(Amenity.of(VALID_AMENITY_1),
+                Amenity.of(VALID_AMENITY_2)));
 
         assertEquals(expectedAmenitySet, actualAmenitySet);
     }
@@ -309,45 +304,4 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseStudiedHours(maxIntegerPlusOne));
     }
 
-    @Test
-    public void parseFlags_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> ParserUtil.parseFlags(null));
-    }
-
-    @Test
-    public void parseFlags_validValue_returnsStudySpotPredicate() throws Exception {
-        // favourite flag
-        ArgumentMultimap argumentMultimapFavourite = ArgumentTokenizer.tokenize(" -f", PREFIX_FLAG);
-        Predicate<StudySpot> predicateReturnedForFavourite = ParserUtil.parseFlags(argumentMultimapFavourite);
-        StudySpot favouriteSpot = new StudySpotBuilder().withFavourite(true).build();
-        StudySpot unfavouriteSpot = new StudySpotBuilder().withFavourite(false).build();
-
-        assertTrue(predicateReturnedForFavourite.test(favouriteSpot));
-        assertFalse(predicateReturnedForFavourite.test(unfavouriteSpot));
-
-        // tag flag
-        String tagArguments = " -t t/quiet";
-        ArgumentMultimap argumentMultimapTag = ArgumentTokenizer.tokenize(tagArguments, PREFIX_FLAG);
-        Predicate<StudySpot> predicateReturnedForTag = ParserUtil.parseFlags(argumentMultimapTag);
-        StudySpot taggedSpot = new StudySpotBuilder().withTags("quiet").build();
-
-        assertTrue(predicateReturnedForTag.test(taggedSpot));
-
-        // amenity flag
-        String amenityArguments = " -m m/wifi";
-        ArgumentMultimap argumentMultimapAmenity = ArgumentTokenizer.tokenize(amenityArguments, PREFIX_FLAG);
-        Predicate<StudySpot> predicateReturnedForAmenity = ParserUtil.parseFlags(argumentMultimapAmenity);
-        StudySpot spotWithAmenity = new StudySpotBuilder().withAmenities("wifi").build();
-
-        assertTrue(predicateReturnedForAmenity.test(spotWithAmenity));
-
-        // rating flag
-        String ratingArguments = " -r r/4";
-        ArgumentMultimap argumentMultimapRating = ArgumentTokenizer.tokenize(ratingArguments, PREFIX_FLAG);
-        Predicate<StudySpot> predicateReturnedForRating = ParserUtil.parseFlags(argumentMultimapRating);
-        StudySpot spotWithRating = new StudySpotBuilder().withRating("4").build();
-
-        assertTrue(predicateReturnedForRating.test(spotWithRating));
-    }
-
 }
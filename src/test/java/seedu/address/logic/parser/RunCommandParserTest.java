@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " " + PREFIX_FILE + "data/import.txt",
+                new RunCommand(Paths.get("data/import.txt")));
+
+        // spaces in path
+        assertParseSuccess(parser, " " + PREFIX_FILE + "my scripts/import.txt ",
+                new RunCommand(Paths.get("my scripts/import.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+        // missing prefix
+        assertParseFailure(parser, " data/import.txt", expectedMessage);
+
+        // preamble
+        assertParseFailure(parser, " now " + PREFIX_FILE + "data/import.txt", expectedMessage);
+
+        // empty path
+        assertParseFailure(parser, " " + PREFIX_FILE + " ", RunCommandParser.MESSAGE_INVALID_FILE_PATH);
+    }
+}
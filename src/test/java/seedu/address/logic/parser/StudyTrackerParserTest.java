@@ -4,13 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALIAS_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EDIT_SPOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPERATING_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_AMENITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -30,14 +40,18 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LogCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.UnaliasCommand;
 import seedu.address.logic.commands.UnfavouriteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasTable;
 import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.NameContainsKeywordsPredicate;
 import seedu.address.model.studyspot.StudiedHours;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
 import seedu.address.testutil.EditStudySpotDescriptorBuilder;
 import seedu.address.testutil.StudySpotBuilder;
 import seedu.address.testutil.StudySpotUtil;
@@ -145,17 +159,50 @@ public class StudyTrackerParserTest {
         assertEquals(expectedLogCommand, commandFromParse);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(
+                RunCommand.COMMAND_WORD + " " + PREFIX_FILE + "import.txt", ALIAS_LIST);
+        assertEquals(new RunCommand(Paths.get("import.txt")), command);
+    }
+
     @Test
     public void parseCommand_aliasInList_parsesToCorrectCommand() throws Exception {
         assertTrue(parser.parseCommand("ls", ALIAS_LIST) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_aliasWithArguments_argumentsPrepended() throws Exception {
+        // the command word appearing again in the arguments of the alias is kept
+        List<Alias> aliases = Collections.singletonList(new Alias("logLog", "log n/Log Cabin"));
+        LogCommand command = (LogCommand) parser.parseCommand("logLog " + PREFIX_HOURS + "2", aliases);
+        assertEquals(new LogCommand(new Name("Log Cabin"), new StudiedHours("2"), false, false, false), command);
+    }
+
     @Test
     public void parseCommand_unknownAlias_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
                 "unknown alias", ALIAS_LIST));
     }
 
+    /**
+     * Benchmarks parsing edit commands, which have the most prefixes of all commands. Each should take a few
+     * microseconds to parse, which is logged.
+     */
+    @Benchmark
+    public void parseCommand_manyEditCommands_allParsed() throws Exception {
+        String editCommand = EditCommand.COMMAND_WORD + " " + PREFIX_EDIT_SPOT + "Central Library "
+                + PREFIX_NAME + "Central Library Level 4 " + PREFIX_RATING + "4 "
+                + PREFIX_OPERATING_HOURS + "0900-1800, 0900-1700 " + PREFIX_ADDRESS + "12 Kent Ridge Crescent "
+                + PREFIX_TAG + "quiet " + PREFIX_TAG + "cold " + PREFIX_REMOVE_TAG + "crowded "
+                + PREFIX_AMENITY + "wifi " + PREFIX_REMOVE_AMENITY + "food";
+        AliasTable aliasTable = new AliasTable(ALIAS_LIST);
+        assertTrue(parser.parseCommand(editCommand, aliasTable) instanceof EditCommand);
+
+        BenchmarkUtil.timePerCall("Parsing an edit command", 100_000, 100_000, () ->
+                parser.parseCommand(editCommand, aliasTable));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -186,6 +186,20 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudySpotList().remove(0));
     }
 
+    @Test
+    public void getTotalStudiedHours_afterStudySpotChanges_updated() {
+        StudySpot loggedSpot = new StudySpotBuilder().withName("Logged").withStudiedHours("5").build();
+        modelManager.addStudySpot(loggedSpot);
+        assertEquals(5, modelManager.getTotalStudiedHours());
+
+        StudySpot relogged = new StudySpotBuilder(loggedSpot).withStudiedHours("8").build();
+        modelManager.setStudySpot(loggedSpot, relogged);
+        assertEquals(8, modelManager.getTotalStudiedHours());
+
+        modelManager.deleteStudySpot(relogged);
+        assertEquals(0, modelManager.getTotalStudiedHours());
+    }
+
     @Test
     public void equals() {
         StudyTracker studyTracker = new StudyTrackerBuilder().withStudySpot(STARBUCKS)
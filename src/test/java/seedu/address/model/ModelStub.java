@@ -1,13 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
+import seedu.address.model.amenity.Amenity;
 import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotSearchIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -83,6 +91,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Name> getSimilarStudySpotNames(List<String> queries) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Name> getStudySpotNameCompletions(String prefix) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Tag> getTagCompletions(String prefix) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteStudySpot(StudySpot target) {
         throw new AssertionError("This method should not be called.");
@@ -93,6 +116,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateStudySpots(Predicate<StudySpot> predicate, UnaryOperator<StudySpot> updater) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean isFavouriteStudySpot(StudySpot studySpot) {
         throw new AssertionError("This method should not be called.");
@@ -124,6 +152,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredStudySpotList(Predicate<StudySpot> predicate, Comparator<StudySpot> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<StudySpot> createStudySpotFilter(Set<Tag> tags, Set<Amenity> amenities, Rating rating) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public StudySpotSearchIndex.Search createStudySpotSearch(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<StudySpot> getFullList() {
         throw new AssertionError("This method should not be called.");
@@ -133,4 +176,9 @@ public class ModelStub implements Model {
     public ObservableList<StudySpot> getTopFiveStudySpotList() {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public long getTotalStudiedHours() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -3,14 +3,17 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_DECK;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_FRONTIER;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_QUIET;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.DECK;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,8 +22,12 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudiedHours;
 import seedu.address.model.studyspot.StudySpot;
+import seedu.address.model.studyspot.StudySpotCompletionIndex;
 import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
 import seedu.address.testutil.StudySpotBuilder;
 
@@ -98,6 +105,109 @@ public class StudyTrackerTest {
         assertTrue(studyTracker.getFavouriteStudySpotList().contains(editedStarbucks));
     }
 
+    @Test
+    public void findStudySpot_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> studyTracker.findStudySpot(null));
+    }
+
+    @Test
+    public void findStudySpot_nameNotInStudyTracker_returnsNull() {
+        studyTracker.addStudySpot(DECK);
+        assertNull(studyTracker.findStudySpot(STARBUCKS.getName()));
+    }
+
+    @Test
+    public void findStudySpot_nameWithDifferentCase_returnsStudySpot() {
+        studyTracker.addStudySpot(STARBUCKS);
+        Name upperCaseName = new Name(STARBUCKS.getName().fullName.toUpperCase());
+        assertEquals(STARBUCKS, studyTracker.findStudySpot(upperCaseName));
+    }
+
+    @Test
+    public void findStudySpot_afterMutations_indexConsistentWithList() {
+        studyTracker.addStudySpot(STARBUCKS);
+        studyTracker.addStudySpot(DECK);
+        StudySpot renamedStarbucks = new StudySpotBuilder(STARBUCKS).withName(VALID_NAME_FRONTIER).build();
+        studyTracker.setStudySpot(STARBUCKS, renamedStarbucks);
+        StudySpot favouriteDeck = studyTracker.addStudySpotToFavourites(DECK);
+        assertTrue(studyTracker.isNameIndexConsistent());
+
+        assertNull(studyTracker.findStudySpot(STARBUCKS.getName()));
+        assertEquals(renamedStarbucks, studyTracker.findStudySpot(new Name(VALID_NAME_FRONTIER)));
+        assertEquals(favouriteDeck, studyTracker.findStudySpot(DECK.getName()));
+
+        studyTracker.removeStudySpot(renamedStarbucks);
+        assertTrue(studyTracker.isNameIndexConsistent());
+        assertNull(studyTracker.findStudySpot(new Name(VALID_NAME_FRONTIER)));
+        assertEquals(favouriteDeck, studyTracker.findStudySpot(DECK.getName()));
+    }
+
+    @Test
+    public void resetData_withValidReadOnlyStudyTracker_indexConsistentWithList() {
+        studyTracker.addStudySpot(STARBUCKS);
+        studyTracker.resetData(getTypicalStudyTracker());
+        assertTrue(studyTracker.isNameIndexConsistent());
+    }
+
+    @Test
+    public void updateStudySpots_resetStudiedHours_singleListChange() {
+        studyTracker.resetData(getTypicalStudyTracker());
+        List<ListChangeListener.Change<? extends StudySpot>> changes = new ArrayList<>();
+        studyTracker.getStudySpotList().addListener((ListChangeListener<StudySpot>) changes::add);
+        StudiedHours noHours = new StudiedHours("0");
+
+        studyTracker.updateStudySpots(studySpot -> true, studySpot -> studySpot.withStudiedHours(noHours));
+
+        assertEquals(1, changes.size());
+        assertEquals(0, studyTracker.getStudiedHoursTotal().getTotal());
+        studyTracker.getStudySpotList().forEach(studySpot -> assertEquals(0, studySpot.getStudiedHours().getHours()));
+        assertFalse(studyTracker.getFavouriteStudySpotList().isEmpty());
+        studyTracker.getFavouriteStudySpotList().forEach(studySpot ->
+                assertEquals(0, studySpot.getStudiedHours().getHours()));
+        assertTrue(studyTracker.isNameIndexConsistent());
+    }
+
+    @Test
+    public void updateStudySpots_resetStudiedHours_recentlyUsedNamesCompletedFirst() {
+        StudySpot leastStudied = new StudySpotBuilder().withName("Spot Beta").withStudiedHours("1").build();
+        StudySpot mostStudied = new StudySpotBuilder().withName("Spot Alpha").withStudiedHours("9").build();
+        studyTracker.addStudySpot(mostStudied);
+        studyTracker.addStudySpot(leastStudied);
+        StudySpotCompletionIndex completionIndex = studyTracker.getStudySpotCompletionIndex();
+        List<Name> expectedCompletions = Arrays.asList(leastStudied.getName(), mostStudied.getName());
+        assertEquals(expectedCompletions, completionIndex.getNameCompletions("spot"));
+
+        StudiedHours noHours = new StudiedHours("0");
+        studyTracker.updateStudySpots(studySpot -> true, studySpot -> studySpot.withStudiedHours(noHours));
+        assertEquals(expectedCompletions, completionIndex.getNameCompletions("spot"));
+
+        studyTracker.updateStudySpots(studySpot -> studySpot.getName().equals(leastStudied.getName()),
+            studySpot -> studySpot.withName(new Name("Spot Gamma")));
+        assertEquals(Arrays.asList(mostStudied.getName(), new Name("Spot Gamma")),
+                completionIndex.getNameCompletions("spot"));
+    }
+
+    @Test
+    public void updateStudySpots_noStudySpotSatisfiesPredicate_noListChange() {
+        studyTracker.addStudySpot(STARBUCKS);
+        List<ListChangeListener.Change<? extends StudySpot>> changes = new ArrayList<>();
+        studyTracker.getStudySpotList().addListener((ListChangeListener<StudySpot>) changes::add);
+
+        studyTracker.updateStudySpots(studySpot -> false, studySpot -> DECK);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void updateStudySpots_duplicateStudySpots_throwsDuplicateStudySpotException() {
+        studyTracker.addStudySpot(STARBUCKS);
+        studyTracker.addStudySpot(DECK);
+
+        assertThrows(DuplicateStudySpotException.class, () ->
+                studyTracker.updateStudySpots(studySpot -> true, studySpot -> studySpot.withName(DECK.getName())));
+        assertEquals(Arrays.asList(STARBUCKS, DECK), studyTracker.getStudySpotList());
+    }
+
     @Test
     public void addStudySpotToFavourite_notInStudyTracker_throwsAssertionError() {
         assertThrows(AssertionError.class, () -> studyTracker.addStudySpotToFavourites(STARBUCKS));
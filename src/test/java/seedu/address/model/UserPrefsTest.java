@@ -35,6 +35,19 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setUserAliases(null));
     }
 
+    @Test
+    public void setUserAliases_aliases_aliasTableCompiled() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(userPrefs.getAliasTable().contains("ls"));
+
+        userPrefs.setUserAliases(Arrays.asList(new Alias("pwd", "list")));
+        assertTrue(userPrefs.getAliasTable().contains("pwd"));
+        assertFalse(userPrefs.getAliasTable().contains("ls"));
+
+        // copies compile the same aliases
+        assertTrue(new UserPrefs(userPrefs).getAliasTable().contains("pwd"));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs(); // default values
@@ -0,0 +1,56 @@
+package seedu.address.model.alias;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasTableTest {
+
+    private static final Alias LS = new Alias("ls", "list");
+    private static final Alias LS_FAVOURITES = new Alias("ls", "list -f");
+    private static final Alias BYE = new Alias("bye", "exit");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AliasTable(null));
+    }
+
+    @Test
+    public void find() {
+        AliasTable aliasTable = new AliasTable(Arrays.asList(LS, BYE));
+
+        assertEquals(Optional.of(LS), aliasTable.find("ls"));
+        assertEquals(Optional.empty(), aliasTable.find("list"));
+        assertThrows(NullPointerException.class, () -> aliasTable.find(null));
+    }
+
+    @Test
+    public void find_duplicateAliases_lastKept() {
+        AliasTable aliasTable = new AliasTable(Arrays.asList(LS, BYE, LS_FAVOURITES));
+
+        assertEquals(Optional.of(LS_FAVOURITES), aliasTable.find("ls"));
+    }
+
+    @Test
+    public void contains() {
+        AliasTable aliasTable = new AliasTable(Arrays.asList(LS, BYE));
+
+        assertTrue(aliasTable.contains("bye"));
+        assertFalse(aliasTable.contains("quit"));
+    }
+
+    @Test
+    public void getCompletions() {
+        AliasTable aliasTable = new AliasTable(Arrays.asList(LS, BYE, new Alias("lib", "find library")));
+
+        assertEquals(Arrays.asList("lib", "ls"), aliasTable.getCompletions("L"));
+        assertEquals(Collections.emptyList(), aliasTable.getCompletions("quit"));
+    }
+}
@@ -19,6 +19,17 @@ class AliasTest {
     }
 
 
+    @Test
+    public void getCommandWordAndArguments() {
+        Alias withArguments = new Alias("es", "edit spot/editing room");
+        assertEquals("edit", withArguments.getCommandWord());
+        assertEquals(" spot/editing room", withArguments.getCommandArguments());
+
+        Alias withoutArguments = new Alias("ls", "list");
+        assertEquals("list", withoutArguments.getCommandWord());
+        assertEquals("", withoutArguments.getCommandArguments());
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Alias(null, "list"));
@@ -3,21 +3,25 @@ package seedu.address.model.amenity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class AmenityTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Amenity(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Amenity.of(null));
     }
 
     @Test
-    public void constructor_invalidAmenityType_throwsIllegalArgumentException() {
+    public void of_invalidAmenityType_throwsIllegalArgumentException() {
         String invalidAmenityType = "";
-        assertThrows(IllegalArgumentException.class, () -> new Amenity(invalidAmenityType));
+        assertThrows(IllegalArgumentException.class, () -> Amenity.of(invalidAmenityType));
     }
 
     @Test
@@ -29,6 +33,26 @@ public class AmenityTest {
         assertFalse(Amenity.isValidAmenityType("carpark"));
     }
 
+    @Test
+    public void of_differentCase_storedAsValidType() {
+        Amenity wifi = Amenity.of("WiFi");
+        assertEquals("wifi", wifi.amenityType);
+        assertSame(Amenity.of("wifi"), wifi);
+    }
+
+    @Test
+    public void toFlags() {
+        Amenity wifi = Amenity.of("wifi");
+        Amenity food = Amenity.of("food");
+
+        // no amenities -> no bits
+        assertEquals(0, Amenity.toFlags(Collections.emptyList()));
+
+        // distinct amenity types -> distinct bits
+        assertEquals(0, wifi.getFlag() & food.getFlag());
+        assertEquals(wifi.getFlag() | food.getFlag(), Amenity.toFlags(Arrays.asList(wifi, food)));
+    }
+
     @Test
     public void listAllAmenityTypes() {
         String expectedOutcome = "";
@@ -48,14 +72,14 @@ public class AmenityTest {
 
     @Test
     public void equals() {
-        Amenity wifi = new Amenity("wifi");
-        Amenity food = new Amenity("food");
+        Amenity wifi = Amenity.of("wifi");
+        Amenity food = Amenity.of("food");
 
         // same object -> returns true
         assertEquals(wifi, wifi);
 
         // same values -> returns true
-        Amenity wifiCopy = new Amenity("wifi");
+        Amenity wifiCopy = Amenity.of("wifi");
         assertEquals(wifi, wifiCopy);
 
         // different types -> returns false
@@ -1,6 +1,7 @@
 package seedu.address.model.studyspot;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -24,16 +25,22 @@ public class FavouriteTest {
         assertTrue(Favourite.isValidFavourite("false"));
     }
 
+    @Test
+    public void of() {
+        assertSame(Favourite.FAVOURITE, Favourite.of(true));
+        assertSame(Favourite.NOT_FAVOURITE, Favourite.of(false));
+    }
+
     @Test
     public void equals() {
-        Favourite favouriteTrue = new Favourite(true);
-        Favourite favouriteFalse = new Favourite(false);
+        Favourite favouriteTrue = Favourite.of(true);
+        Favourite favouriteFalse = Favourite.of(false);
 
         // same object -> returns true
         assertTrue(favouriteTrue.equals(favouriteTrue));
 
         // same values -> returns true
-        Favourite favouriteTrueCopy = new Favourite(true);
+        Favourite favouriteTrueCopy = Favourite.of(true);
         assertTrue(favouriteTrue.equals(favouriteTrueCopy));
 
         // different types -> returns false
@@ -55,6 +55,10 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("cOM2", "tEcH"));
         assertTrue(predicate.test(new StudySpotBuilder().withName("COM2 Hangout").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("hang*"));
+        assertTrue(predicate.test(new StudySpotBuilder().withName("COM2 Hangout").build()));
     }
 
     @Test
@@ -67,6 +71,10 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Deck"));
         assertFalse(predicate.test(new StudySpotBuilder().withName("Frontier Canteen").build()));
 
+        // Partial word without prefix wildcard
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Front"));
+        assertFalse(predicate.test(new StudySpotBuilder().withName("Frontier Canteen").build()));
+
         // Keywords match rating, operating hours and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("4", "0900-2200", "0900-1800", "NUS", "Science"));
         assertFalse(predicate.test(new StudySpotBuilder().withName("Frontier").withRating("4")
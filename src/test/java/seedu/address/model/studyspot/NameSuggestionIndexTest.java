@@ -0,0 +1,109 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+
+public class NameSuggestionIndexTest {
+
+    private static final Name STARBUCKS = new Name("Starbucks");
+    private static final Name CENTRAL_LIBRARY = new Name("Central Library");
+    private static final Name SCIENCE_LIBRARY = new Name("Science Library");
+    private static final Name COM1 = new Name("COM1");
+
+    private final NameSuggestionIndex nameSuggestionIndex = new NameSuggestionIndex();
+
+    @BeforeEach
+    public void setUp() {
+        nameSuggestionIndex.setNames(Arrays.asList(STARBUCKS, CENTRAL_LIBRARY, SCIENCE_LIBRARY, COM1));
+    }
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, NameSuggestionIndex.getEditDistance("library", "library", 5));
+        assertEquals(1, NameSuggestionIndex.getEditDistance("libary", "library", 5));
+        assertEquals(2, NameSuggestionIndex.getEditDistance("starbuks", "starbucks1", 5));
+        assertEquals(3, NameSuggestionIndex.getEditDistance("", "abc", 5));
+
+        // distance beyond limit -> larger than limit
+        assertTrue(NameSuggestionIndex.getEditDistance("starbucks", "library", 2) > 2);
+        assertTrue(NameSuggestionIndex.getEditDistance("com1", "central library", 2) > 2);
+    }
+
+    @Test
+    public void getSuggestions_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameSuggestionIndex.getSuggestions(null));
+    }
+
+    @Test
+    public void getSuggestions_mistypedFullName_returnsName() {
+        assertEquals(Collections.singletonList(STARBUCKS), suggest("Starbuks"));
+
+        // names close to more words first
+        assertEquals(Arrays.asList(CENTRAL_LIBRARY, SCIENCE_LIBRARY), suggest("centrl library"));
+    }
+
+    @Test
+    public void getSuggestions_mistypedWord_returnsNamesWithWordInOrder() {
+        assertEquals(Arrays.asList(CENTRAL_LIBRARY, SCIENCE_LIBRARY), suggest("libary"));
+    }
+
+    @Test
+    public void getSuggestions_shortOrDistantQuery_returnsNothing() {
+        // short queries must match exactly
+        assertTrue(suggest("COM").isEmpty());
+
+        // too many edits
+        assertTrue(suggest("Stabks").isEmpty());
+    }
+
+    @Test
+    public void remove_name_noLongerSuggested() {
+        nameSuggestionIndex.remove(CENTRAL_LIBRARY);
+        assertEquals(Collections.singletonList(SCIENCE_LIBRARY), suggest("libary"));
+
+        // removing most names rebuilds the tree without losing the rest
+        nameSuggestionIndex.remove(SCIENCE_LIBRARY);
+        nameSuggestionIndex.remove(COM1);
+        assertEquals(Collections.singletonList(STARBUCKS), suggest("Starbuks"));
+        assertTrue(suggest("libary").isEmpty());
+    }
+
+    /**
+     * Benchmarks suggestions over a large index whose names all share some words. Ranking every name with a close
+     * word would take seconds for the queries below, while only the names of the rarest close words are ranked.
+     * The time of each lookup, which should be under a millisecond, is logged.
+     */
+    @Benchmark
+    public void getSuggestions_largeIndex_closestNameFirst() throws Exception {
+        int numberOfNames = 100_000;
+        List<Name> names = new ArrayList<>(numberOfNames);
+        for (int i = 0; i < numberOfNames; i++) {
+            names.add(new Name("Spot " + Integer.toString(i, 36) + " Room"));
+        }
+        nameSuggestionIndex.setNames(names);
+
+        assertEquals(new Name("Spot zzz Room"), suggest("Spot zzz Rooom").get(0));
+        assertEquals(new Name("Spot 1a2 Room"), suggest("Spott 1a2").get(0));
+
+        BenchmarkUtil.timePerCall("Suggesting for \"Spot zzz Rooom\" in 100k names", 100, 1000, () ->
+                suggest("Spot zzz Rooom"));
+        BenchmarkUtil.timePerCall("Suggesting for \"Spott 1a2\" in 100k names", 100, 1000, () ->
+                suggest("Spott 1a2"));
+    }
+
+    private List<Name> suggest(String query) {
+        return nameSuggestionIndex.getSuggestions(Collections.singletonList(query));
+    }
+}
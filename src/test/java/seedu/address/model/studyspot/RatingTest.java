@@ -3,6 +3,7 @@ package seedu.address.model.studyspot;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -11,14 +12,20 @@ import org.junit.jupiter.api.Test;
 public class RatingTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Rating(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Rating.of(null));
     }
 
     @Test
-    public void constructor_invalidRating_throwsIllegalArgumentException() {
+    public void of_invalidRating_throwsIllegalArgumentException() {
         String invalidRating = "";
-        assertThrows(IllegalArgumentException.class, () -> new Rating(invalidRating));
+        assertThrows(IllegalArgumentException.class, () -> Rating.of(invalidRating));
+    }
+
+    @Test
+    public void of_sameRating_returnsSameRating() {
+        assertSame(Rating.of("3"), Rating.of("3"));
+        assertEquals("3", Rating.of("3").value);
     }
 
     @Test
@@ -42,20 +49,26 @@ public class RatingTest {
         assertTrue(Rating.isValidRating("1"));
     }
 
+    @Test
+    public void getScore() {
+        assertEquals(0, Rating.of("0").getScore());
+        assertEquals(Rating.MAX_SCORE, Rating.of("5").getScore());
+    }
+
     @Test
     public void equals_test() {
-        Rating rating = new Rating("5");
+        Rating rating = Rating.of("5");
 
         assertTrue(rating.equals(rating));
-        assertTrue(new Rating("5").equals(rating));
-        assertFalse(new Rating("3").equals(rating));
+        assertTrue(Rating.of("5").equals(rating));
+        assertFalse(Rating.of("3").equals(rating));
     }
 
     @Test
     public void hashCode_test() {
-        Rating rating = new Rating("2");
+        Rating rating = Rating.of("2");
 
-        assertEquals(new Rating("2").hashCode(), rating.hashCode());
-        assertNotEquals(new Rating("5").hashCode(), rating.hashCode());
+        assertEquals(Rating.of("2").hashCode(), rating.hashCode());
+        assertNotEquals(Rating.of("5").hashCode(), rating.hashCode());
     }
 }
@@ -0,0 +1,80 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudiedHoursTotalTest {
+
+    private static final StudySpot QUIET_WIFI_SPOT = new StudySpotBuilder().withName("Quiet")
+            .withTags("quiet").withAmenities("wifi").withStudiedHours("3").build();
+    private static final StudySpot QUIET_FOOD_SPOT = new StudySpotBuilder().withName("Canteen")
+            .withTags("quiet").withAmenities("food").withStudiedHours("4").build();
+
+    private final StudiedHoursTotal studiedHoursTotal = new StudiedHoursTotal();
+
+    @Test
+    public void add_nullStudySpot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> studiedHoursTotal.add(null));
+    }
+
+    @Test
+    public void add_studySpots_totalsUpdated() {
+        studiedHoursTotal.add(QUIET_WIFI_SPOT);
+        studiedHoursTotal.add(QUIET_FOOD_SPOT);
+
+        assertEquals(7, studiedHoursTotal.getTotal());
+        assertEquals(7, studiedHoursTotal.getTotal(Tag.of("quiet")));
+        assertEquals(3, studiedHoursTotal.getTotal(Amenity.of("wifi")));
+        assertEquals(4, studiedHoursTotal.getTotal(Amenity.of("food")));
+        assertEquals(0, studiedHoursTotal.getTotal(Tag.of("cold")));
+    }
+
+    @Test
+    public void setStudySpot_hoursLogged_totalsUpdated() {
+        studiedHoursTotal.setStudySpots(Arrays.asList(QUIET_WIFI_SPOT, QUIET_FOOD_SPOT));
+        StudySpot loggedSpot = new StudySpotBuilder(QUIET_WIFI_SPOT).withStudiedHours("10").build();
+
+        studiedHoursTotal.setStudySpot(QUIET_WIFI_SPOT, loggedSpot);
+
+        assertEquals(14, studiedHoursTotal.getTotal());
+        assertEquals(10, studiedHoursTotal.getTotal(Amenity.of("wifi")));
+    }
+
+    @Test
+    public void remove_studySpot_totalsUpdated() {
+        studiedHoursTotal.setStudySpots(Arrays.asList(QUIET_WIFI_SPOT, QUIET_FOOD_SPOT));
+
+        studiedHoursTotal.remove(QUIET_FOOD_SPOT);
+
+        assertEquals(3, studiedHoursTotal.getTotal());
+        assertEquals(0, studiedHoursTotal.getTotal(Amenity.of("food")));
+    }
+
+    @Test
+    public void add_hoursBeyondIntegerLimit_noOverflow() {
+        String maxHours = String.valueOf(Integer.MAX_VALUE);
+        studiedHoursTotal.add(new StudySpotBuilder().withName("A").withStudiedHours(maxHours).build());
+        studiedHoursTotal.add(new StudySpotBuilder().withName("B").withStudiedHours(maxHours).build());
+
+        assertEquals(2L * Integer.MAX_VALUE, studiedHoursTotal.getTotal());
+    }
+
+    @Test
+    public void setStudySpots_replacesTotals() {
+        studiedHoursTotal.add(QUIET_FOOD_SPOT);
+
+        studiedHoursTotal.setStudySpots(Arrays.asList(QUIET_WIFI_SPOT));
+
+        StudiedHoursTotal expectedTotal = new StudiedHoursTotal();
+        expectedTotal.add(QUIET_WIFI_SPOT);
+        assertEquals(expectedTotal, studiedHoursTotal);
+    }
+}
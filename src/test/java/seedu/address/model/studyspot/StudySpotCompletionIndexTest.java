@@ -0,0 +1,140 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudySpotCompletionIndexTest {
+
+    private final List<StudySpot> studySpots = new ArrayList<>();
+    private final StudySpotCompletionIndex completionIndex = new StudySpotCompletionIndex(studySpots);
+
+    @Test
+    public void getNameCompletions_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> completionIndex.getNameCompletions(null));
+    }
+
+    @Test
+    public void getNameCompletions_notSearchedBefore_completesGivenStudySpots() {
+        studySpots.add(spot("Central Library", "2"));
+        studySpots.add(spot("Canteen", "4"));
+        studySpots.add(spot("Lab", "9"));
+
+        assertEquals(names("Canteen", "Central Library"), completionIndex.getNameCompletions("c"));
+    }
+
+    @Test
+    public void getNameCompletions_recentlyUsed_completedFirst() {
+        StudySpot library = spot("Central Library", "2");
+        StudySpot canteen = spot("Canteen", "4");
+        StudySpot cafe = spot("Cafe", "1");
+        addAll(library, canteen, cafe);
+        completionIndex.markUsed(cafe.getName());
+
+        assertEquals(names("Cafe", "Canteen", "Central Library"), completionIndex.getNameCompletions("C"));
+
+        StudySpot renamedCafe = spot("Coffee Place", "1");
+        completionIndex.setStudySpot(cafe, renamedCafe);
+        assertEquals(names("Canteen", "Central Library", "Coffee Place"), completionIndex.getNameCompletions("c"));
+    }
+
+    @Test
+    public void getNameCompletions_studiedHoursChanged_rankedAgain() {
+        StudySpot library = spot("Central Library", "2");
+        StudySpot canteen = spot("Canteen", "4");
+        addAll(library, canteen);
+
+        completionIndex.setStudySpot(library, spot("Central Library", "8"));
+        assertEquals(names("Central Library", "Canteen"), completionIndex.getNameCompletions("c"));
+
+        completionIndex.remove(canteen);
+        assertEquals(names("Central Library"), completionIndex.getNameCompletions("c"));
+    }
+
+    @Test
+    public void getTagCompletions_tagOfSeveralStudySpots_keptUntilLastRemoved() {
+        StudySpot quiet = new StudySpotBuilder().withName("Library").withTags("quiet", "cold").build();
+        StudySpot alsoQuiet = new StudySpotBuilder().withName("Lab").withTags("quiet").build();
+        addAll(quiet, alsoQuiet);
+
+        assertEquals(tags("cold", "quiet"), completionIndex.getTagCompletions(""));
+
+        completionIndex.remove(quiet);
+        assertEquals(tags("quiet"), completionIndex.getTagCompletions("Q"));
+        assertEquals(Collections.emptyList(), completionIndex.getTagCompletions("c"));
+
+        completionIndex.remove(alsoQuiet);
+        assertEquals(Collections.emptyList(), completionIndex.getTagCompletions("q"));
+    }
+
+    @Test
+    public void reset_studySpotsReplaced_completesNewStudySpots() {
+        addAll(spot("Canteen", "4"));
+        studySpots.clear();
+        studySpots.add(spot("Cafe", "1"));
+        completionIndex.reset();
+
+        assertEquals(names("Cafe"), completionIndex.getNameCompletions("c"));
+    }
+
+    /**
+     * Benchmarks completions over a large index whose names all share a prefix, with the index changed before each
+     * completion. Ranking every name under the prefix on each call would take a few milliseconds, while only the
+     * completions of the nodes on the changed name's path are worked out again. The time of each change and
+     * completion, which should be well under the 16 ms of a frame, is logged.
+     */
+    @Benchmark
+    public void getNameCompletions_largeIndexChanging_completionsUpdated() throws Exception {
+        int numberOfStudySpots = 100_000;
+        for (int i = 0; i < numberOfStudySpots; i++) {
+            studySpots.add(spot("Spot " + Integer.toString(i, 36) + " Room", Integer.toString(i % 1000)));
+        }
+        completionIndex.getNameCompletions("");
+
+        int[] numberOfEdits = {0};
+        Callable<List<Name>> editAndComplete = () -> {
+            int i = numberOfEdits[0] % 1000;
+            numberOfEdits[0]++;
+            StudySpot studySpot = studySpots.get(i);
+            StudySpot editedStudySpot = spot(studySpot.getName().fullName, Integer.toString(1000 + numberOfEdits[0]));
+            completionIndex.setStudySpot(studySpot, editedStudySpot);
+            studySpots.set(i, editedStudySpot);
+            return completionIndex.getNameCompletions("s");
+        };
+        assertEquals(new Name("Spot 0 Room"), editAndComplete.call().get(0));
+
+        BenchmarkUtil.timePerCall("Changing one of 100k study spots and completing", 100, 1000, editAndComplete);
+        List<Name> completions = editAndComplete.call();
+        assertEquals(studySpots.get((numberOfEdits[0] - 1) % 1000).getName(), completions.get(0));
+    }
+
+    private void addAll(StudySpot... toAdd) {
+        studySpots.addAll(Arrays.asList(toAdd));
+        completionIndex.getNameCompletions("");
+    }
+
+    private static StudySpot spot(String name, String studiedHours) {
+        return new StudySpotBuilder().withName(name).withStudiedHours(studiedHours).build();
+    }
+
+    private static List<Name> names(String... names) {
+        return Arrays.stream(names).map(Name::new).collect(Collectors.toList());
+    }
+
+    private static List<Tag> tags(String... tagNames) {
+        return Arrays.stream(tagNames).map(Tag::of).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.FRONTIER_CANTEEN;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.TOKYO_ROOM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudySpotIndexTest {
+
+    private static final Set<Tag> NO_TAGS = Collections.emptySet();
+    private static final Set<Amenity> NO_AMENITIES = Collections.emptySet();
+
+    private final StudySpotIndex studySpotIndex = new StudySpotIndex();
+
+    @BeforeEach
+    public void setUp() {
+        studySpotIndex.setStudySpots(Arrays.asList(STARBUCKS, CENTRAL_LIBRARY, FRONTIER_CANTEEN, TOKYO_ROOM));
+    }
+
+    @Test
+    public void getStudySpotsWith_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, StudySpotIndex.MESSAGE_NO_CRITERIA, () ->
+                studySpotIndex.getStudySpotsWith(NO_TAGS, NO_AMENITIES, null));
+    }
+
+    @Test
+    public void getStudySpotsWith_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> studySpotIndex.getStudySpotsWith(null, NO_AMENITIES, null));
+        assertThrows(NullPointerException.class, () -> studySpotIndex.getStudySpotsWith(NO_TAGS, null, null));
+    }
+
+    @Test
+    public void getStudySpotsWith_combinedCriteria_returnsStudySpotsMatchingAll() {
+        // single tag
+        assertEquals(identitySetOf(CENTRAL_LIBRARY, TOKYO_ROOM),
+                studySpotIndex.getStudySpotsWith(tags("cold"), NO_AMENITIES, null));
+
+        // tag and amenity
+        assertEquals(identitySetOf(CENTRAL_LIBRARY),
+                studySpotIndex.getStudySpotsWith(tags("cold"), amenities("charger"), null));
+
+        // amenity and rating
+        assertEquals(identitySetOf(STARBUCKS),
+                studySpotIndex.getStudySpotsWith(NO_TAGS, amenities("wifi"), Rating.of("4")));
+
+        // criterion no study spot has
+        assertTrue(studySpotIndex.getStudySpotsWith(tags("cold", "unknown"), NO_AMENITIES, null).isEmpty());
+    }
+
+    @Test
+    public void remove_studySpot_noLongerReturned() {
+        studySpotIndex.remove(TOKYO_ROOM);
+        assertEquals(identitySetOf(CENTRAL_LIBRARY),
+                studySpotIndex.getStudySpotsWith(tags("cold"), NO_AMENITIES, null));
+    }
+
+    @Test
+    public void createFilter_studySpotEdited_followsIndex() {
+        Predicate<StudySpot> filter = studySpotIndex.createFilter(tags("coffee"), NO_AMENITIES, null);
+        assertTrue(filter.test(STARBUCKS));
+        assertFalse(filter.test(TOKYO_ROOM));
+
+        StudySpot editedTokyoRoom = new StudySpotBuilder(TOKYO_ROOM).withTags("coffee").build();
+        studySpotIndex.setStudySpot(TOKYO_ROOM, editedTokyoRoom);
+        assertTrue(filter.test(editedTokyoRoom));
+        assertFalse(filter.test(TOKYO_ROOM));
+    }
+
+    @Test
+    public void createFilter_equalStudySpotNotInIndex_returnsFalse() {
+        Predicate<StudySpot> filter = studySpotIndex.createFilter(tags("coffee"), NO_AMENITIES, null);
+        assertFalse(filter.test(new StudySpotBuilder(STARBUCKS).build()));
+    }
+
+    /**
+     * Benchmarks filtering a large list with an index filter, which tests amenities with a mask and ratings with an
+     * int comparison, against the predicate it replaced, which looks the tags and amenities up in the sets of each
+     * study spot. Both filter the same study spots, and both timings are logged.
+     */
+    @Benchmark
+    public void createFilter_largeIndex_sameMatchesAsSetLookups() throws Exception {
+        int numberOfStudySpots = 100_000;
+        List<StudySpot> studySpots = new ArrayList<>(numberOfStudySpots);
+        for (int i = 0; i < numberOfStudySpots; i++) {
+            StudySpotBuilder builder = new StudySpotBuilder().withName("Spot " + i).withRating(String.valueOf(i % 6))
+                    .withTags(i % 4 == 0 ? "quiet" : "crowded");
+            studySpots.add(i % 10 == 0 ? builder.withAmenities("wifi", "food").build() : builder.build());
+        }
+        studySpotIndex.setStudySpots(studySpots);
+        Set<Tag> filterTags = tags("quiet");
+        Set<Amenity> filterAmenities = amenities("wifi", "food");
+        Rating filterRating = Rating.of("0");
+
+        Predicate<StudySpot> setLookups = studySpot -> studySpot.getRating().equals(filterRating);
+        for (Tag tag : filterTags) {
+            setLookups = setLookups.and(studySpot -> studySpot.getTags().contains(tag));
+        }
+        for (Amenity amenity : filterAmenities) {
+            setLookups = setLookups.and(studySpot -> studySpot.getAmenities().contains(amenity));
+        }
+        Predicate<StudySpot> setLookupFilter = setLookups;
+        long expectedMatchCount = numberOfStudySpots / 60 + 1;
+        assertEquals(expectedMatchCount, studySpots.stream().filter(setLookupFilter).count());
+        assertEquals(expectedMatchCount, studySpots.stream()
+                .filter(studySpotIndex.createFilter(filterTags, filterAmenities, filterRating)).count());
+
+        double setLookupNanos = BenchmarkUtil.timePerCall("Set lookups over 100k study spots", 20, 20, () ->
+                studySpots.stream().filter(setLookupFilter).count());
+        int amenityFlags = Amenity.toFlags(filterAmenities);
+        int score = filterRating.getScore();
+        Predicate<StudySpot> maskFilter = studySpot -> studySpot.getRating().getScore() == score
+                && studySpot.hasAmenities(amenityFlags) && studySpot.getTags().containsAll(filterTags);
+        BenchmarkUtil.timePerCall("Mask over 100k study spots", 20, 20, () ->
+                studySpots.stream().filter(maskFilter).count());
+        double indexFilterNanos = BenchmarkUtil.timePerCall("Index filter over 100k study spots", 20, 20, () ->
+                studySpots.stream().filter(studySpotIndex.createFilter(filterTags, filterAmenities, filterRating))
+                        .count());
+        BenchmarkUtil.report("Index filter speedup over set lookups: %.1fx", setLookupNanos / indexFilterNanos);
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        Arrays.stream(tagNames).forEach(tagName -> tags.add(Tag.of(tagName)));
+        return tags;
+    }
+
+    private static Set<Amenity> amenities(String... amenityTypes) {
+        Set<Amenity> amenities = new HashSet<>();
+        Arrays.stream(amenityTypes).forEach(amenityType -> amenities.add(Amenity.of(amenityType)));
+        return amenities;
+    }
+
+    private static Set<StudySpot> identitySetOf(StudySpot... studySpots) {
+        Set<StudySpot> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(Arrays.asList(studySpots));
+        return set;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
+import static seedu.address.testutil.TypicalStudySpots.PC_COMMONS;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudySpotSearchIndexTest {
+
+    private final StudySpotSearchIndex searchIndex = new StudySpotSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setStudySpots(Arrays.asList(STARBUCKS, CENTRAL_LIBRARY, COM1, PC_COMMONS));
+    }
+
+    @Test
+    public void toWords() {
+        // surrounding and repeated whitespace -> ignored
+        assertEquals(Arrays.asList("central", "library"), StudySpotSearchIndex.toWords("  Central \t Library "));
+
+        // whitespace only -> no words
+        assertEquals(Collections.emptyList(), StudySpotSearchIndex.toWords(" "));
+
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> StudySpotSearchIndex.toWords(null));
+    }
+
+    @Test
+    public void matches() {
+        // full word -> returns true
+        assertTrue(StudySpotSearchIndex.matches("library", StudySpotSearchIndex.prepareKeyword("LIBRARY")));
+
+        // partial word -> returns false
+        assertFalse(StudySpotSearchIndex.matches("library", StudySpotSearchIndex.prepareKeyword("lib")));
+
+        // prefix keyword -> returns true
+        assertTrue(StudySpotSearchIndex.matches("library", StudySpotSearchIndex.prepareKeyword("lib*")));
+        assertFalse(StudySpotSearchIndex.matches("library", StudySpotSearchIndex.prepareKeyword("lab*")));
+    }
+
+    @Test
+    public void getMatchCounts_keywords_countsKeywordsMatchedByEachStudySpot() {
+        Map<StudySpot, Integer> matchCounts = searchIndex.getMatchCounts(Arrays.asList("com*", "pc", "library"));
+
+        assertEquals(3, matchCounts.size());
+        assertEquals(2, matchCounts.get(PC_COMMONS));
+        assertEquals(1, matchCounts.get(COM1));
+        assertEquals(1, matchCounts.get(CENTRAL_LIBRARY));
+    }
+
+    @Test
+    public void getMatchCounts_keywordMatchingSeveralWordsOfName_countedOnce() {
+        StudySpot cafe = new StudySpotBuilder().withName("Cafe Cafeteria").build();
+        searchIndex.add(cafe);
+
+        assertEquals(1, searchIndex.getMatchCounts(Collections.singletonList("caf*")).get(cafe));
+    }
+
+    @Test
+    public void createSearch_studySpotRenamed_followsIndex() {
+        StudySpotSearchIndex.Search search = searchIndex.createSearch(Collections.singletonList("starbucks"));
+        assertTrue(search.test(STARBUCKS));
+
+        StudySpot renamedStarbucks = new StudySpotBuilder(STARBUCKS).withName("Coffee Bean").build();
+        searchIndex.setStudySpot(STARBUCKS, renamedStarbucks);
+        assertFalse(search.test(STARBUCKS));
+        assertFalse(search.test(renamedStarbucks));
+    }
+
+    @Test
+    public void byRelevance_studySpots_moreMatchesFirst() {
+        StudySpotSearchIndex.Search search = searchIndex.createSearch(Arrays.asList("com*", "pc"));
+        List<StudySpot> studySpots = new ArrayList<>(Arrays.asList(COM1, PC_COMMONS));
+
+        studySpots.sort(search.byRelevance());
+        assertEquals(Arrays.asList(PC_COMMONS, COM1), studySpots);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.studyspot;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_AMENITY_CHARGER;
@@ -14,8 +15,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.DECK;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.amenity.Amenity;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.StudySpotBuilder;
 
 public class StudySpotTest {
@@ -26,6 +33,59 @@ public class StudySpotTest {
         assertThrows(UnsupportedOperationException.class, () -> studySpot.getTags().remove(0));
     }
 
+    @Test
+    public void hasAmenities() {
+        StudySpot studySpot = new StudySpotBuilder().withAmenities("wifi", "charger").build();
+        int wifi = Amenity.of("wifi").getFlag();
+        int charger = Amenity.of("charger").getFlag();
+        int food = Amenity.of("food").getFlag();
+
+        // no amenities -> returns true
+        assertTrue(studySpot.hasAmenities(0));
+
+        // all amenities present -> returns true
+        assertTrue(studySpot.hasAmenities(wifi | charger));
+        assertTrue(studySpot.hasAmenity(Amenity.of("wifi")));
+
+        // some amenity missing -> returns false
+        assertFalse(studySpot.hasAmenities(wifi | food));
+        assertFalse(studySpot.hasAmenity(Amenity.of("food")));
+    }
+
+    @Test
+    public void withStudiedHours_studySpot_sharesOtherFields() {
+        StudiedHours studiedHours = new StudiedHours("7");
+        StudySpot loggedStarbucks = STARBUCKS.withStudiedHours(studiedHours);
+
+        assertSame(studiedHours, loggedStarbucks.getStudiedHours());
+        assertSame(STARBUCKS.getName(), loggedStarbucks.getName());
+        assertSame(STARBUCKS.getTags(), loggedStarbucks.getTags());
+        assertSame(STARBUCKS.getAmenities(), loggedStarbucks.getAmenities());
+        assertEquals(new StudySpotBuilder(STARBUCKS).withStudiedHours("7").build(), loggedStarbucks);
+    }
+
+    @Test
+    public void withTags_otherSet_copiesSet() {
+        Set<Tag> tags = new HashSet<>(STARBUCKS.getTags());
+        StudySpot retaggedStarbucks = STARBUCKS.withTags(tags);
+
+        // own set -> shared
+        assertSame(STARBUCKS.getTags(), STARBUCKS.withTags(STARBUCKS.getTags()).getTags());
+
+        // other set -> copied, so later changes to it do not affect the study spot
+        tags.add(Tag.of(VALID_TAG_QUIET));
+        assertEquals(STARBUCKS.getTags(), retaggedStarbucks.getTags());
+    }
+
+    @Test
+    public void withAmenities_otherAmenities_updatesAmenityFlags() {
+        StudySpot studySpot = new StudySpotBuilder().withAmenities("wifi").build();
+        StudySpot editedStudySpot = studySpot.withAmenities(Collections.singleton(Amenity.of("food")));
+
+        assertTrue(editedStudySpot.hasAmenity(Amenity.of("food")));
+        assertFalse(editedStudySpot.hasAmenity(Amenity.of("wifi")));
+    }
+
     @Test
     public void isSameStudySpot() {
         // same object -> returns true
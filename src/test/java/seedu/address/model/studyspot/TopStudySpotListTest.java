@@ -0,0 +1,128 @@
+package seedu.address.model.studyspot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class TopStudySpotListTest {
+
+    private final TopStudySpotList topStudySpotList = new TopStudySpotList(3);
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TopStudySpotList(0));
+    }
+
+    @Test
+    public void add_nullStudySpot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> topStudySpotList.add(null));
+    }
+
+    @Test
+    public void add_moreThanLimit_keepsMostStudiedInDescendingOrder() {
+        StudySpot one = spot("One", "1");
+        StudySpot five = spot("Five", "5");
+        StudySpot three = spot("Three", "3");
+        StudySpot four = spot("Four", "4");
+        topStudySpotList.add(one);
+        topStudySpotList.add(five);
+        topStudySpotList.add(three);
+        topStudySpotList.add(four);
+
+        assertSameInstances(Arrays.asList(five, four, three), topStudySpotList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_sameHours_orderedByName() {
+        StudySpot beta = spot("beta", "2");
+        StudySpot alpha = spot("Alpha", "2");
+        topStudySpotList.add(beta);
+        topStudySpotList.add(alpha);
+
+        assertSameInstances(Arrays.asList(alpha, beta), topStudySpotList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setStudySpot_hoursIncreased_movesIntoTop() {
+        StudySpot one = spot("One", "1");
+        topStudySpotList.setStudySpots(Arrays.asList(spot("Five", "5"), spot("Four", "4"), spot("Three", "3"), one));
+
+        StudySpot loggedOne = spot("One", "10");
+        topStudySpotList.setStudySpot(one, loggedOne);
+
+        assertSame(loggedOne, topStudySpotList.asUnmodifiableObservableList().get(0));
+        assertEquals(3, topStudySpotList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void remove_topStudySpot_nextStudySpotTakesItsPlace() {
+        StudySpot five = spot("Five", "5");
+        StudySpot four = spot("Four", "4");
+        StudySpot three = spot("Three", "3");
+        StudySpot one = spot("One", "1");
+        topStudySpotList.setStudySpots(Arrays.asList(five, four, three, one));
+
+        topStudySpotList.remove(five);
+
+        assertSameInstances(Arrays.asList(four, three, one), topStudySpotList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_sameInstanceAcrossUpdates() {
+        ObservableList<StudySpot> view = topStudySpotList.asUnmodifiableObservableList();
+        topStudySpotList.add(spot("One", "1"));
+        assertSame(view, topStudySpotList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> topStudySpotList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void setStudySpot_outsideTop_noChangeFired() {
+        StudySpot one = spot("One", "1");
+        topStudySpotList.setStudySpots(Arrays.asList(spot("Five", "5"), spot("Four", "4"), spot("Three", "3"), one));
+        List<ListChangeListener.Change<? extends StudySpot>> changes = new ArrayList<>();
+        topStudySpotList.asUnmodifiableObservableList().addListener((ListChangeListener<StudySpot>) changes::add);
+
+        topStudySpotList.setStudySpot(one, spot("One", "2"));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setStudySpot_insideTop_changeFired() {
+        StudySpot three = spot("Three", "3");
+        topStudySpotList.setStudySpots(Arrays.asList(spot("Five", "5"), spot("Four", "4"), three));
+        List<ListChangeListener.Change<? extends StudySpot>> changes = new ArrayList<>();
+        topStudySpotList.asUnmodifiableObservableList().addListener((ListChangeListener<StudySpot>) changes::add);
+
+        topStudySpotList.setStudySpot(three, spot("Three", "6"));
+
+        assertEquals(1, changes.size());
+    }
+
+    private static StudySpot spot(String name, String studiedHours) {
+        return new StudySpotBuilder().withName(name).withStudiedHours(studiedHours).build();
+    }
+
+    private static void assertSameInstances(List<StudySpot> expected, List<StudySpot> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.studyspot;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_DECK;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_QUIET;
@@ -10,14 +11,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.DECK;
 import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.studyspot.exceptions.DuplicateStudySpotException;
 import seedu.address.model.studyspot.exceptions.StudySpotNotFoundException;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
 import seedu.address.testutil.StudySpotBuilder;
 
 public class UniqueStudySpotListTest {
@@ -48,6 +54,55 @@ public class UniqueStudySpotListTest {
         assertTrue(uniqueStudySpotList.contains(editedStarbucks));
     }
 
+    @Test
+    public void contains_studySpotWithDifferentCaseNameInList_returnsTrue() {
+        uniqueStudySpotList.add(STARBUCKS);
+        StudySpot upperCaseStarbucks = new StudySpotBuilder(STARBUCKS)
+                .withName(STARBUCKS.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueStudySpotList.contains(upperCaseStarbucks));
+    }
+
+    @Test
+    public void contains_differentCaseNameInTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr"));
+        try {
+            uniqueStudySpotList.add(new StudySpotBuilder(STARBUCKS).withName("Infinity Room").build());
+            assertTrue(uniqueStudySpotList.contains(new StudySpotBuilder(STARBUCKS).withName("INFINITY ROOM").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void contains_studySpotRemovedFromList_returnsFalse() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.remove(STARBUCKS);
+        assertFalse(uniqueStudySpotList.contains(STARBUCKS));
+    }
+
+    @Test
+    public void find_nameInList_returnsStudySpot() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.add(DECK);
+        assertEquals(DECK, uniqueStudySpotList.find(new Name(DECK.getName().fullName.toLowerCase())));
+    }
+
+    @Test
+    public void find_nameNotInList_returnsNull() {
+        uniqueStudySpotList.add(DECK);
+        assertNull(uniqueStudySpotList.find(STARBUCKS.getName()));
+    }
+
+    @Test
+    public void isIndexConsistent_afterMutations_returnsTrue() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.add(DECK);
+        uniqueStudySpotList.remove(STARBUCKS);
+        uniqueStudySpotList.setStudySpot(DECK, STARBUCKS);
+        assertTrue(uniqueStudySpotList.isIndexConsistent());
+    }
+
     @Test
     public void add_nullStudySpot_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudySpotList.add(null));
@@ -103,6 +158,34 @@ public class UniqueStudySpotListTest {
         assertEquals(expectedUniqueStudySpotList, uniqueStudySpotList);
     }
 
+    @Test
+    public void setStudySpot_editedStudySpotHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.setStudySpot(STARBUCKS, DECK);
+        assertFalse(uniqueStudySpotList.contains(STARBUCKS));
+        assertTrue(uniqueStudySpotList.contains(DECK));
+    }
+
+    @Test
+    public void setStudySpot_targetWithDifferentFields_throwsStudySpotNotFoundException() {
+        uniqueStudySpotList.add(STARBUCKS);
+        StudySpot editedStarbucks = new StudySpotBuilder(STARBUCKS).withAddress(VALID_ADDRESS_DECK).build();
+        assertThrows(StudySpotNotFoundException.class, () ->
+                uniqueStudySpotList.setStudySpot(editedStarbucks, DECK));
+    }
+
+    @Test
+    public void setStudySpot_afterEarlierStudySpotRemoved_success() {
+        uniqueStudySpotList.add(STARBUCKS);
+        uniqueStudySpotList.add(DECK);
+        uniqueStudySpotList.remove(STARBUCKS);
+        StudySpot editedDeck = new StudySpotBuilder(DECK).withTags(VALID_TAG_QUIET).build();
+        uniqueStudySpotList.setStudySpot(DECK, editedDeck);
+        UniqueStudySpotList expectedUniqueStudySpotList = new UniqueStudySpotList();
+        expectedUniqueStudySpotList.add(editedDeck);
+        assertEquals(expectedUniqueStudySpotList, uniqueStudySpotList);
+    }
+
     @Test
     public void setStudySpot_editedStudySpotHasNonUniqueIdentity_throwsDuplicateStudySpotException() {
         uniqueStudySpotList.add(STARBUCKS);
@@ -120,6 +203,13 @@ public class UniqueStudySpotListTest {
         assertThrows(StudySpotNotFoundException.class, () -> uniqueStudySpotList.remove(STARBUCKS));
     }
 
+    @Test
+    public void remove_studySpotWithDifferentFields_throwsStudySpotNotFoundException() {
+        uniqueStudySpotList.add(STARBUCKS);
+        StudySpot editedStarbucks = new StudySpotBuilder(STARBUCKS).withAddress(VALID_ADDRESS_DECK).build();
+        assertThrows(StudySpotNotFoundException.class, () -> uniqueStudySpotList.remove(editedStarbucks));
+    }
+
     @Test
     public void remove_existingStudySpot_removesStudySpot() {
         uniqueStudySpotList.add(STARBUCKS);
@@ -164,6 +254,62 @@ public class UniqueStudySpotListTest {
                 uniqueStudySpotList.setStudySpots(listWithDuplicateStudySpots));
     }
 
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniqueStudySpotList.add(STARBUCKS);
+        Iterator<StudySpot> iterator = uniqueStudySpotList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void setStudySpots_listWithDuplicateStudySpots_reportsAllDuplicateNames() {
+        StudySpot upperCaseDeck = new StudySpotBuilder(DECK).withName(DECK.getName().fullName.toUpperCase()).build();
+        List<StudySpot> listWithDuplicateStudySpots = Arrays.asList(STARBUCKS, DECK, STARBUCKS, upperCaseDeck);
+        String expectedMessage = new DuplicateStudySpotException(
+                Arrays.asList(STARBUCKS.getName().fullName, upperCaseDeck.getName().fullName)).getMessage();
+        assertThrows(DuplicateStudySpotException.class, expectedMessage, () ->
+                uniqueStudySpotList.setStudySpots(listWithDuplicateStudySpots));
+    }
+
+    @Test
+    public void setStudySpots_listWithDuplicateStudySpots_keepsExistingList() {
+        uniqueStudySpotList.add(DECK);
+        assertThrows(DuplicateStudySpotException.class, () ->
+                uniqueStudySpotList.setStudySpots(Arrays.asList(STARBUCKS, STARBUCKS)));
+        UniqueStudySpotList expectedUniqueStudySpotList = new UniqueStudySpotList();
+        expectedUniqueStudySpotList.add(DECK);
+        assertEquals(expectedUniqueStudySpotList, uniqueStudySpotList);
+    }
+
+    /**
+     * Benchmarks bulk replacement at doubling list sizes, and logs how much longer each size takes than the one
+     * before. A linear uniqueness check takes about twice as long for each doubling, a quadratic one four times.
+     */
+    @Benchmark
+    public void setStudySpots_largeList_replacesContents() throws Exception {
+        double previousNanos = 0;
+        for (int numberOfStudySpots = 25_000; numberOfStudySpots <= 100_000; numberOfStudySpots *= 2) {
+            List<StudySpot> studySpots = new ArrayList<>(numberOfStudySpots);
+            for (int i = 0; i < numberOfStudySpots; i++) {
+                studySpots.add(new StudySpotBuilder().withName("Spot " + i).build());
+            }
+
+            uniqueStudySpotList.setStudySpots(studySpots);
+            assertEquals(numberOfStudySpots, uniqueStudySpotList.asUnmodifiableObservableList().size());
+            assertTrue(uniqueStudySpotList.contains(studySpots.get(numberOfStudySpots - 1)));
+
+            double nanos = BenchmarkUtil.timePerCall("Replacing " + numberOfStudySpots + " study spots", 10, 10, () -> {
+                uniqueStudySpotList.setStudySpots(studySpots);
+                return uniqueStudySpotList;
+            });
+            if (previousNanos > 0) {
+                BenchmarkUtil.report("Time ratio for twice the study spots: %.1fx", nanos / previousNanos);
+            }
+            previousNanos = nanos;
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,21 +11,27 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
     }
 
     @Test
-    public void constructor_tooLongTagName_throwsIllegalArgumentException() {
+    public void of_tooLongTagName_throwsIllegalArgumentException() {
         String tooLongTagName = "ABCDEFGHIJKLMNOPQRSTUVWXYZ123_"
                 + "ABCDEFGHIJKLMNOPQRSTUVWXYZ123_";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(tooLongTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(tooLongTagName));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameTag() {
+        assertSame(Tag.of("quiet"), Tag.of("quiet"));
+        assertNotSame(Tag.of("quiet"), Tag.of("Quiet"));
     }
 
     @Test
@@ -36,14 +44,14 @@ public class TagTest {
 
     @Test
     public void equals() {
-        Tag warm = new Tag("warm");
-        Tag cold = new Tag("cold");
+        Tag warm = Tag.of("warm");
+        Tag cold = Tag.of("cold");
 
         // same object -> returns true
         assertTrue(warm.equals(warm));
 
         // same values -> returns true
-        Tag warmCopy = new Tag("warm");
+        Tag warmCopy = Tag.of("warm");
         assertTrue(warmCopy.equals(warm));
 
         // different types -> returns false
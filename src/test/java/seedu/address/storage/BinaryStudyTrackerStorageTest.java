@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyStudyTracker;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.BenchmarkUtil;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class BinaryStudyTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readStudyTracker_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryStudyTrackerStorage(testFolder.resolve("data.bin")).readStudyTracker(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryStudyTrackerStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readStudyTracker().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.bin");
+        FileUtil.writeToFile(filePath, "{ \"studySpots\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncated.bin");
+        new BinaryStudyTrackerStorage(filePath).saveStudyTracker(getTypicalStudyTracker());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("futureVersion.bin");
+        writeBytes(filePath, out -> {
+            out.writeInt(BinaryStudyTrackerStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryStudyTrackerStorage.FORMAT_VERSION + 1);
+        });
+        assertThrows(DataConversionException.class, () -> new BinaryStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void read_invalidStringIndex_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("invalidIndex.bin");
+        writeBytes(filePath, out -> {
+            out.writeInt(BinaryStudyTrackerStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryStudyTrackerStorage.FORMAT_VERSION);
+            out.writeInt(0); // empty string table
+            out.writeInt(1); // one study spot
+            out.writeInt(0); // name refers to a missing string
+        });
+        assertThrows(DataConversionException.class, () -> new BinaryStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void read_duplicateStudySpots_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("duplicate.bin");
+        StudyTracker studyTracker = new StudyTracker();
+        studyTracker.addStudySpot(STARBUCKS);
+        new BinaryStudyTrackerStorage(filePath).saveStudyTracker(new DuplicatingStudyTracker(studyTracker));
+
+        assertThrows(DataConversionException.class, () -> new BinaryStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void readAndSaveStudyTracker_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.bin");
+        StudyTracker original = getTypicalStudyTracker();
+        BinaryStudyTrackerStorage binaryStudyTrackerStorage = new BinaryStudyTrackerStorage(filePath);
+
+        binaryStudyTrackerStorage.saveStudyTracker(original);
+        StudyTracker readBack = new StudyTracker(binaryStudyTrackerStorage.readStudyTracker().get());
+        assertEquals(original, readBack);
+        assertSameStudiedHours(original, readBack);
+
+        original.addStudySpot(BIZ_PODS);
+        original.removeStudySpot(STARBUCKS);
+        binaryStudyTrackerStorage.saveStudyTracker(original, filePath);
+        assertEquals(original, new StudyTracker(binaryStudyTrackerStorage.readStudyTracker(filePath).get()));
+    }
+
+    @Test
+    public void saveStudyTracker_withBackups_keepsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.bin");
+        StudyTracker original = getTypicalStudyTracker();
+        new BinaryStudyTrackerStorage(filePath, 1).saveStudyTracker(original);
+
+        // the next session backs up the data file before its first save only
+        BinaryStudyTrackerStorage binaryStudyTrackerStorage = new BinaryStudyTrackerStorage(filePath, 1);
+        original.addStudySpot(BIZ_PODS);
+        binaryStudyTrackerStorage.saveStudyTracker(original);
+        original.removeStudySpot(STARBUCKS);
+        binaryStudyTrackerStorage.saveStudyTracker(original);
+
+        assertEquals(getTypicalStudyTracker(), new StudyTracker(binaryStudyTrackerStorage.readStudyTracker(
+                binaryStudyTrackerStorage.getStudyTrackerBackupFilePaths().get(0)).get()));
+    }
+
+    /**
+     * Benchmarks the binary format against the json format on a large study tracker.
+     * The times taken by both formats are logged, and the binary file is expected to be smaller as repeated strings
+     * such as tags and amenities are only stored once.
+     */
+    @Benchmark
+    public void benchmark_largeStudyTracker_binarySmallerThanJson() throws Exception {
+        StudyTracker studyTracker = new StudyTracker();
+        for (int i = 0; i < 20_000; i++) {
+            studyTracker.addStudySpot(new StudySpotBuilder().withName("Study Spot " + i)
+                    .withAddress("Block " + (i % 100)).withStudiedHours(String.valueOf(i))
+                    .withTags("quiet", "cold", "group" + (i % 10)).withAmenities("wifi", "charger", "food").build());
+        }
+        StudyTrackerStorage jsonStorage = new JsonStudyTrackerStorage(testFolder.resolve("benchmark.json"));
+        StudyTrackerStorage binaryStorage = new BinaryStudyTrackerStorage(testFolder.resolve("benchmark.bin"));
+
+        jsonStorage.saveStudyTracker(studyTracker);
+        binaryStorage.saveStudyTracker(studyTracker);
+        assertEquals(studyTracker, new StudyTracker(jsonStorage.readStudyTracker().get()));
+        assertEquals(studyTracker, new StudyTracker(binaryStorage.readStudyTracker().get()));
+
+        BenchmarkUtil.timePerCall("Saving 20k study spots as json", 5, 10, () -> {
+            jsonStorage.saveStudyTracker(studyTracker);
+            return jsonStorage;
+        });
+        BenchmarkUtil.timePerCall("Saving 20k study spots as binary", 5, 10, () -> {
+            binaryStorage.saveStudyTracker(studyTracker);
+            return binaryStorage;
+        });
+        BenchmarkUtil.timePerCall("Loading 20k study spots from json", 5, 10, () ->
+                new StudyTracker(jsonStorage.readStudyTracker().get()));
+        BenchmarkUtil.timePerCall("Loading 20k study spots from binary", 5, 10, () ->
+                new StudyTracker(binaryStorage.readStudyTracker().get()));
+        long jsonSize = Files.size(jsonStorage.getStudyTrackerFilePath());
+        long binarySize = Files.size(binaryStorage.getStudyTrackerFilePath());
+        BenchmarkUtil.report("json: %d bytes; binary: %d bytes", jsonSize, binarySize);
+        assertTrue(binarySize < jsonSize);
+    }
+
+    /**
+     * Asserts that every study spot in {@code expected} has the same studied hours in {@code actual}, as
+     * {@code StudySpot#equals(Object)} does not compare studied hours.
+     */
+    static void assertSameStudiedHours(ReadOnlyStudyTracker expected, StudyTracker actual) {
+        for (StudySpot studySpot : expected.getStudySpotList()) {
+            assertEquals(studySpot.getStudiedHours().getHours(),
+                    actual.findStudySpot(studySpot.getName()).getStudiedHours().getHours());
+        }
+    }
+
+    private static void writeBytes(Path filePath, BytesWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writer.write(out);
+        out.flush();
+        Files.write(filePath, bytes.toByteArray());
+    }
+
+    private interface BytesWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * A study tracker whose study spot list holds every study spot of another study tracker twice.
+     */
+    private static class DuplicatingStudyTracker implements ReadOnlyStudyTracker {
+        private final ObservableList<StudySpot> studySpots = FXCollections.observableArrayList();
+
+        DuplicatingStudyTracker(StudyTracker studyTracker) {
+            studySpots.addAll(studyTracker.getStudySpotList());
+            studySpots.addAll(studyTracker.getStudySpotList());
+        }
+
+        @Override
+        public ObservableList<StudySpot> getStudySpotList() {
+            return studySpots;
+        }
+
+        @Override
+        public ObservableList<StudySpot> getFavouriteStudySpotList() {
+            return FXCollections.observableArrayList();
+        }
+    }
+}
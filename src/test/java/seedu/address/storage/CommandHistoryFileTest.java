@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class CommandHistoryFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistoryFile(testFolder.resolve("h"), 0));
+    }
+
+    @Test
+    public void toCommandHistoryFilePath() {
+        assertEquals(Paths.get("data", CommandHistoryFile.HISTORY_FILE_NAME),
+                CommandHistoryFile.toCommandHistoryFilePath(Paths.get("data", "studytracker.json")));
+    }
+
+    @Test
+    public void read_missingFile_emptyList() throws Exception {
+        assertEquals(Collections.emptyList(), new CommandHistoryFile(testFolder.resolve("missing.txt"), 3).read());
+    }
+
+    @Test
+    public void read_moreCommandsThanCapacity_lastCommandsRead() throws Exception {
+        Path filePath = testFolder.resolve("history.txt");
+        FileUtil.writeToFile(filePath, "list\nhelp\n\nfind n/deck\nexit\n");
+        assertEquals(Arrays.asList("help", "find n/deck", "exit"), new CommandHistoryFile(filePath, 3).read());
+    }
+
+    @Test
+    public void append_multipleLines_appendedAsOneLine() throws Exception {
+        CommandHistoryFile commandHistoryFile = new CommandHistoryFile(testFolder.resolve("history.txt"), 3);
+        commandHistoryFile.append("list");
+        commandHistoryFile.append("find n/deck\nn/frontier");
+        assertEquals(Arrays.asList("list", "find n/deck n/frontier"), commandHistoryFile.read());
+    }
+
+    @Test
+    public void append_twiceCapacity_olderCommandsDropped() throws Exception {
+        CommandHistoryFile commandHistoryFile = new CommandHistoryFile(testFolder.resolve("history.txt"), 2);
+        commandHistoryFile.append("list");
+        commandHistoryFile.append("help");
+        commandHistoryFile.append("find n/deck");
+        assertEquals(3, Files.readAllLines(commandHistoryFile.getFilePath()).size());
+
+        commandHistoryFile.append("exit");
+        assertEquals(Arrays.asList("find n/deck", "exit"), Files.readAllLines(commandHistoryFile.getFilePath()));
+        assertEquals(Arrays.asList("find n/deck", "exit"), commandHistoryFile.read());
+    }
+}
@@ -18,6 +18,7 @@ import seedu.address.model.studyspot.Name;
 import seedu.address.model.studyspot.OperatingHours;
 import seedu.address.model.studyspot.Rating;
 import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedStudySpotTest {
     private static final String INVALID_NAME = "R@chel";
@@ -164,6 +165,16 @@ public class JsonAdaptedStudySpotTest {
         assertThrows(IllegalValueException.class, studySpot::toModelType);
     }
 
+    @Test
+    public void toModelType_tooLongTag_throwsIllegalValueException() {
+        List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
+        invalidTags.add(new JsonAdaptedTag("a".repeat(Tag.TAG_LENGTH)));
+        JsonAdaptedStudySpot studySpot =
+                new JsonAdaptedStudySpot(VALID_NAME, VALID_RATING, VALID_OPERATING_HOURS, VALID_ADDRESS,
+                        VALID_FAVOURITE, VALID_STUDIED_HOURS, invalidTags, VALID_AMENITIES);
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_LENGTH, studySpot::toModelType);
+    }
+
     @Test
     public void toModelType_invalidAmenityTypes_throwsIllegalValueException() {
         List<JsonAdaptedAmenity> invalidAmenityTypes = new ArrayList<>(VALID_AMENITIES);
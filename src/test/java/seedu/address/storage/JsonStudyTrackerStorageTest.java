@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
 import static seedu.address.testutil.TypicalStudySpots.COMPUTING_LOUNGE;
@@ -11,11 +12,14 @@ import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.StudyTracker;
 
@@ -87,6 +91,92 @@ public class JsonStudyTrackerStorageTest {
 
     }
 
+    @Test
+    public void readStudyTracker_duplicateStudySpots_throwDataConversionException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableStudyTrackerTest",
+                "duplicateStudySpotStudyTracker.json");
+        assertThrows(DataConversionException.class, () -> new JsonStudyTrackerStorage(filePath).readStudyTracker());
+    }
+
+    @Test
+    public void readStudyTracker_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("UnknownFieldsStudyTracker.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, \"studySpots\" : [ ], \"notes\" : null }");
+        assertEquals(new StudyTracker(), new JsonStudyTrackerStorage(filePath).readStudyTracker().get());
+    }
+
+    @Test
+    public void readStudyTracker_fileSavedByJsonUtil_success() throws Exception {
+        Path filePath = testFolder.resolve("JsonUtilStudyTracker.json");
+        StudyTracker original = getTypicalStudyTracker();
+        JsonUtil.saveJsonFile(new JsonSerializableStudyTracker(original), filePath);
+
+        assertEquals(original, new StudyTracker(new JsonStudyTrackerStorage(filePath).readStudyTracker().get()));
+    }
+
+    @Test
+    public void saveStudyTracker_readByJsonUtil_success() throws Exception {
+        Path filePath = testFolder.resolve("StreamedStudyTracker.json");
+        StudyTracker original = getTypicalStudyTracker();
+        new JsonStudyTrackerStorage(filePath).saveStudyTracker(original);
+
+        JsonSerializableStudyTracker readBack =
+                JsonUtil.readJsonFile(filePath, JsonSerializableStudyTracker.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void saveStudyTracker_withBackups_keepsVersionsFromPreviousSessions() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.json");
+        StudyTracker original = getTypicalStudyTracker();
+        JsonStudyTrackerStorage firstSession = new JsonStudyTrackerStorage(filePath, 2);
+        firstSession.saveStudyTracker(original);
+        assertTrue(firstSession.getStudyTrackerBackupFilePaths().isEmpty());
+
+        // only the data file from the start of a session is backed up
+        JsonStudyTrackerStorage secondSession = new JsonStudyTrackerStorage(filePath, 2);
+        original.addStudySpot(BIZ_PODS);
+        secondSession.saveStudyTracker(original);
+        original.removeStudySpot(STARBUCKS);
+        secondSession.saveStudyTracker(original);
+        assertEquals(1, secondSession.getStudyTrackerBackupFilePaths().size());
+
+        JsonStudyTrackerStorage thirdSession = new JsonStudyTrackerStorage(filePath, 2);
+        original.addStudySpot(STARBUCKS);
+        thirdSession.saveStudyTracker(original);
+
+        List<Path> backupFilePaths = thirdSession.getStudyTrackerBackupFilePaths();
+        assertEquals(2, backupFilePaths.size());
+
+        // newest backup holds the last save of the previous session
+        StudyTracker previous = getTypicalStudyTracker();
+        previous.addStudySpot(BIZ_PODS);
+        previous.removeStudySpot(STARBUCKS);
+        assertEquals(previous, new StudyTracker(thirdSession.readStudyTracker(backupFilePaths.get(0)).get()));
+
+        // oldest backup holds the last save of the session before that
+        assertEquals(getTypicalStudyTracker(),
+                new StudyTracker(thirdSession.readStudyTracker(backupFilePaths.get(1)).get()));
+    }
+
+    @Test
+    public void saveStudyTracker_unreadableDataFile_backupsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempStudyTracker.json");
+        new JsonStudyTrackerStorage(filePath, 2).saveStudyTracker(getTypicalStudyTracker());
+        new JsonStudyTrackerStorage(filePath, 2).saveStudyTracker(new StudyTracker());
+        FileUtil.writeToFile(filePath, "not json");
+
+        JsonStudyTrackerStorage jsonStudyTrackerStorage = new JsonStudyTrackerStorage(filePath, 2);
+        assertThrows(DataConversionException.class, jsonStudyTrackerStorage::readStudyTracker);
+        jsonStudyTrackerStorage.saveStudyTracker(getTypicalStudyTracker());
+
+        // the unreadable data file is not backed up over the backup it could be restored from
+        List<Path> backupFilePaths = jsonStudyTrackerStorage.getStudyTrackerBackupFilePaths();
+        assertEquals(1, backupFilePaths.size());
+        assertEquals(getTypicalStudyTracker(),
+                new StudyTracker(jsonStudyTrackerStorage.readStudyTracker(backupFilePaths.get(0)).get()));
+    }
+
     @Test
     public void saveStudyTracker_nullStudyTracker_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveStudyTracker(null, "SomeFile.json"));
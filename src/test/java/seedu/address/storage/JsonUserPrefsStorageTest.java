@@ -14,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -125,4 +126,11 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveUserPrefs_withAliases_aliasTableNotSaved() throws IOException {
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(new UserPrefs());
+        assertFalse(FileUtil.readFromFile(prefsFilePath).contains("aliasTable"));
+    }
+
 }
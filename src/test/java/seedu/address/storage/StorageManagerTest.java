@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
 import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyStudyTracker;
 import seedu.address.model.StudyTracker;
 import seedu.address.model.UserPrefs;
@@ -60,6 +67,66 @@ public class StorageManagerTest {
         assertEquals(original, new StudyTracker(retrieved));
     }
 
+    @Test
+    public void studyTrackerReadSave_withJournal_journalAppliedAndCleared() throws Exception {
+        StudyTrackerJournal journal = new StudyTrackerJournal(getTempFilePath("ab.journal"),
+                getTempFilePath("ab"), 10);
+        storageManager = new StorageManager(new JsonStudyTrackerStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+        StudyTracker original = getTypicalStudyTracker();
+        storageManager.saveStudyTracker(original);
+
+        storageManager.appendToStudyTrackerJournal(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS),
+                StudyTrackerJournalEntry.remove(STARBUCKS.getName())));
+        original.addStudySpot(BIZ_PODS);
+        original.removeStudySpot(STARBUCKS);
+        assertEquals(2, storageManager.getStudyTrackerJournalSize());
+        assertEquals(original, new StudyTracker(storageManager.readStudyTracker().get()));
+
+        storageManager.saveStudyTracker(original);
+        assertFalse(journal.exists());
+        assertEquals(original, new StudyTracker(storageManager.readStudyTracker().get()));
+    }
+
+    @Test
+    public void readStudyTracker_journalWithoutDataFile_journalApplied() throws Exception {
+        StudyTrackerJournal journal = new StudyTrackerJournal(getTempFilePath("ab.journal"),
+                getTempFilePath("ab"), 10);
+        storageManager = new StorageManager(new JsonStudyTrackerStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+        storageManager.appendToStudyTrackerJournal(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+
+        StudyTracker expected = new StudyTracker();
+        expected.addStudySpot(BIZ_PODS);
+        assertEquals(expected, new StudyTracker(storageManager.readStudyTracker().get()));
+    }
+
+    @Test
+    public void readStudyTracker_journalNotApplying_dataFileReadAndJournalSetAside() throws Exception {
+        StudyTrackerJournal journal = new StudyTrackerJournal(getTempFilePath("ab.journal"),
+                getTempFilePath("ab"), 10);
+        storageManager = new StorageManager(new JsonStudyTrackerStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+        StudyTracker original = getTypicalStudyTracker();
+        storageManager.saveStudyTracker(original);
+        storageManager.appendToStudyTrackerJournal(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{\"target\":\"Invalid*Name\"}\n");
+        assertFalse(storageManager.isStudyTrackerJournalSetAside());
+
+        assertEquals(original, new StudyTracker(storageManager.readStudyTracker().get()));
+        assertTrue(storageManager.isStudyTrackerJournalSetAside());
+        assertFalse(journal.exists());
+        assertTrue(FileUtil.isFileExists(journal.getSetAsideFilePath()));
+        assertEquals(original, new StudyTracker(storageManager.readStudyTracker().get()));
+    }
+
+    @Test
+    public void appendToStudyTrackerJournal_noJournal_throwsIllegalStateException() {
+        assertEquals(0, storageManager.getStudyTrackerJournalLimit());
+        assertThrows(IllegalStateException.class, () ->
+                storageManager.appendToStudyTrackerJournal(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS))));
+    }
+
     @Test
     public void getStudyTrackerFilePath() {
         assertNotNull(storageManager.getStudyTrackerFilePath());
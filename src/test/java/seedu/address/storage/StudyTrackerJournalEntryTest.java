@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.CENTRAL_LIBRARY;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
+import static seedu.address.testutil.TypicalStudySpots.FRONTIER_CANTEEN;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.Name;
+import seedu.address.model.studyspot.StudiedHours;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudyTrackerJournalEntryTest {
+
+    @Test
+    public void add_nullStudySpot_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StudyTrackerJournalEntry.add(null));
+    }
+
+    @Test
+    public void fromChange_singleStudySpotReplaced_replaceEntry() {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        List<StudyTrackerJournalEntry> entries = recordEntries(studyTracker);
+        StudySpot editedStarbucks = new StudySpotBuilder(STARBUCKS).withName("Starbucks UTown").build();
+
+        studyTracker.setStudySpot(STARBUCKS, editedStarbucks);
+
+        assertEquals(Arrays.asList(StudyTrackerJournalEntry.replace(STARBUCKS.getName(), editedStarbucks)), entries);
+    }
+
+    @Test
+    public void fromChange_studySpotsUpdated_replaceEntriesForChangedStudySpots() {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        List<StudyTrackerJournalEntry> entries = recordEntries(studyTracker);
+        StudySpot loggedStarbucks = STARBUCKS.withStudiedHours(new StudiedHours("9"));
+
+        studyTracker.updateStudySpots(STARBUCKS::isSameStudySpot, studySpot -> loggedStarbucks);
+
+        assertEquals(Arrays.asList(StudyTrackerJournalEntry.replace(STARBUCKS.getName(), loggedStarbucks)), entries);
+    }
+
+    @Test
+    public void fromChange_allStudySpotsReplaced_removeThenAddEntries() {
+        StudyTracker studyTracker = new StudyTracker();
+        studyTracker.addStudySpot(STARBUCKS);
+        List<StudyTrackerJournalEntry> entries = recordEntries(studyTracker);
+
+        studyTracker.setStudySpots(Arrays.asList(COM1, BIZ_PODS));
+
+        assertEquals(Arrays.asList(StudyTrackerJournalEntry.remove(STARBUCKS.getName()),
+                StudyTrackerJournalEntry.add(COM1), StudyTrackerJournalEntry.add(BIZ_PODS)), entries);
+    }
+
+    @Test
+    public void applyTo_recordedEntries_sameStudyTracker() {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        List<StudyTrackerJournalEntry> entries = recordEntries(studyTracker);
+
+        studyTracker.addStudySpot(BIZ_PODS);
+        studyTracker.setStudySpot(STARBUCKS, new StudySpotBuilder(STARBUCKS).withName("Starbucks UTown")
+                .withStudiedHours("3").build());
+        studyTracker.addStudySpotToFavourites(FRONTIER_CANTEEN);
+        studyTracker.removeStudySpot(studyTracker.removeStudySpotFromFavourites(CENTRAL_LIBRARY));
+
+        StudyTracker replayedStudyTracker = getTypicalStudyTracker();
+        entries.forEach(entry -> entry.applyTo(replayedStudyTracker));
+        assertEquals(studyTracker, replayedStudyTracker);
+        assertEquals(studyTracker.getStudySpotList(), replayedStudyTracker.getStudySpotList());
+        assertEquals(3, replayedStudyTracker.findStudySpot(new Name("Starbucks UTown")).getStudiedHours().getHours());
+    }
+
+    @Test
+    public void applyTo_entriesAppliedTwice_studyTrackerUnchanged() {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        List<StudyTrackerJournalEntry> entries = recordEntries(studyTracker);
+        studyTracker.addStudySpot(BIZ_PODS);
+        studyTracker.setStudySpot(STARBUCKS, new StudySpotBuilder(STARBUCKS).withName("Starbucks UTown").build());
+        studyTracker.removeStudySpot(studyTracker.removeStudySpotFromFavourites(CENTRAL_LIBRARY));
+
+        StudyTracker replayedStudyTracker = new StudyTracker(studyTracker);
+        entries.forEach(entry -> entry.applyTo(replayedStudyTracker));
+
+        assertEquals(studyTracker, replayedStudyTracker);
+    }
+
+    @Test
+    public void applyTo_removeFavourite_removedFromFavourites() {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+
+        StudyTrackerJournalEntry.remove(COM1.getName()).applyTo(studyTracker);
+
+        StudyTracker expectedStudyTracker = getTypicalStudyTracker();
+        expectedStudyTracker.removeStudySpot(expectedStudyTracker.removeStudySpotFromFavourites(COM1));
+        assertEquals(expectedStudyTracker, studyTracker);
+    }
+
+    private static List<StudyTrackerJournalEntry> recordEntries(StudyTracker studyTracker) {
+        List<StudyTrackerJournalEntry> entries = new ArrayList<>();
+        studyTracker.getStudySpotList().addListener((ListChangeListener<StudySpot>) change ->
+                entries.addAll(StudyTrackerJournalEntry.fromChange(change)));
+        return entries;
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.BIZ_PODS;
+import static seedu.address.testutil.TypicalStudySpots.COM1;
+import static seedu.address.testutil.TypicalStudySpots.STARBUCKS;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.StudyTracker;
+import seedu.address.model.studyspot.StudySpot;
+import seedu.address.testutil.StudySpotBuilder;
+
+public class StudyTrackerJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createJournal(0));
+    }
+
+    @Test
+    public void toJournalFilePath() {
+        assertEquals(Paths.get("data", "studytracker.json.journal"),
+                StudyTrackerJournal.toJournalFilePath(Paths.get("data", "studytracker.json")));
+    }
+
+    @Test
+    public void replay_missingJournal_studyTrackerUnchanged() throws Exception {
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        createJournal(10).replay(studyTracker);
+        assertEquals(getTypicalStudyTracker(), studyTracker);
+    }
+
+    @Test
+    public void appendAndReplay_entries_appliedInOrder() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        StudySpot loggedStarbucks = new StudySpotBuilder(STARBUCKS).withStudiedHours("5").build();
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS),
+                StudyTrackerJournalEntry.replace(STARBUCKS.getName(), loggedStarbucks)));
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.remove(COM1.getName())));
+        assertEquals(3, journal.getSize());
+
+        StudyTracker expectedStudyTracker = getTypicalStudyTracker();
+        expectedStudyTracker.addStudySpot(BIZ_PODS);
+        expectedStudyTracker.setStudySpot(STARBUCKS, loggedStarbucks);
+        expectedStudyTracker.removeStudySpot(expectedStudyTracker.removeStudySpotFromFavourites(COM1));
+
+        StudyTrackerJournal reopenedJournal = createJournal(10);
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        reopenedJournal.replay(studyTracker);
+        assertEquals(expectedStudyTracker, studyTracker);
+        assertEquals(5, studyTracker.findStudySpot(STARBUCKS.getName()).getStudiedHours().getHours());
+        assertEquals(3, reopenedJournal.getSize());
+    }
+
+    @Test
+    public void replay_incompleteLastEntry_earlierEntriesApplied() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{\"studySpot\":{\"name\":\"Half");
+
+        StudyTracker studyTracker = new StudyTracker();
+        journal.replay(studyTracker);
+
+        StudyTracker expectedStudyTracker = new StudyTracker();
+        expectedStudyTracker.addStudySpot(BIZ_PODS);
+        assertEquals(expectedStudyTracker, studyTracker);
+    }
+
+    @Test
+    public void replay_incompleteEntryThenAppend_laterEntriesReplayed() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{\"studySpot\":{\"name\":\"Half");
+        journal.replay(new StudyTracker());
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(STARBUCKS)));
+
+        StudyTrackerJournal reopenedJournal = createJournal(10);
+        StudyTracker studyTracker = new StudyTracker();
+        reopenedJournal.replay(studyTracker);
+
+        StudyTracker expectedStudyTracker = new StudyTracker();
+        expectedStudyTracker.addStudySpot(BIZ_PODS);
+        expectedStudyTracker.addStudySpot(STARBUCKS);
+        assertEquals(expectedStudyTracker, studyTracker);
+        assertEquals(2, reopenedJournal.getSize());
+    }
+
+    @Test
+    public void replay_dataFileSavedAfterEntries_journalDropped() throws Exception {
+        JsonStudyTrackerStorage storage = new JsonStudyTrackerStorage(testFolder.resolve("data.json"));
+        storage.saveStudyTracker(getTypicalStudyTracker());
+        StudyTrackerJournal journal = createJournal(10);
+        StudySpot renamedStarbucks = new StudySpotBuilder(STARBUCKS).withName("Renamed Starbucks").build();
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.replace(STARBUCKS.getName(), renamedStarbucks),
+                StudyTrackerJournalEntry.add(STARBUCKS)));
+
+        // The study tracker is saved in full, but the application stops before the journal is cleared.
+        StudyTracker savedStudyTracker = getTypicalStudyTracker();
+        savedStudyTracker.setStudySpot(STARBUCKS, renamedStarbucks);
+        savedStudyTracker.addStudySpot(STARBUCKS);
+        storage.saveStudyTracker(savedStudyTracker);
+
+        StudyTracker studyTracker = new StudyTracker(storage.readStudyTracker().get());
+        journal.replay(studyTracker);
+        assertEquals(savedStudyTracker, studyTracker);
+        assertFalse(journal.exists());
+        assertEquals(0, journal.getSize());
+    }
+
+    @Test
+    public void rebase_convertedDataFile_journalReplayed() throws Exception {
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        new BinaryStudyTrackerStorage(binaryFilePath).saveStudyTracker(getTypicalStudyTracker());
+        StudyTrackerJournal binaryJournal = new StudyTrackerJournal(testFolder.resolve("data.journal"),
+                binaryFilePath, 10);
+        binaryJournal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+
+        StudyTrackerStorageConverter.convert(new BinaryStudyTrackerStorage(binaryFilePath),
+                new JsonStudyTrackerStorage(testFolder.resolve("data.json")));
+        StudyTrackerJournal journal = createJournal(10);
+        journal.rebase(binaryFilePath);
+
+        StudyTracker studyTracker = getTypicalStudyTracker();
+        journal.replay(studyTracker);
+        StudyTracker expectedStudyTracker = getTypicalStudyTracker();
+        expectedStudyTracker.addStudySpot(BIZ_PODS);
+        assertEquals(expectedStudyTracker, studyTracker);
+    }
+
+    @Test
+    public void replay_invalidEntry_throwsDataConversionException() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{\"target\":\"Invalid*Name\"}\n");
+        assertThrows(DataConversionException.class, () -> journal.replay(new StudyTracker()));
+    }
+
+    @Test
+    public void replay_emptyEntry_throwsDataConversionException() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        FileUtil.appendToFile(journal.getFilePath(), "{}\n");
+        assertThrows(DataConversionException.class, () -> journal.replay(new StudyTracker()));
+    }
+
+    @Test
+    public void setAside_existingJournal_journalMovedAndNextAppendStartsNewJournal() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+        String setAsideContent = FileUtil.readFromFile(journal.getFilePath());
+
+        journal.setAside();
+        assertFalse(journal.exists());
+        assertEquals(0, journal.getSize());
+        assertEquals(setAsideContent, FileUtil.readFromFile(journal.getSetAsideFilePath()));
+
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(STARBUCKS)));
+        StudyTracker studyTracker = new StudyTracker();
+        journal.replay(studyTracker);
+        StudyTracker expectedStudyTracker = new StudyTracker();
+        expectedStudyTracker.addStudySpot(STARBUCKS);
+        assertEquals(expectedStudyTracker, studyTracker);
+    }
+
+    @Test
+    public void clear_existingJournal_journalRemoved() throws Exception {
+        StudyTrackerJournal journal = createJournal(10);
+        journal.append(Arrays.asList(StudyTrackerJournalEntry.add(BIZ_PODS)));
+
+        journal.clear();
+
+        assertFalse(journal.exists());
+        assertEquals(0, journal.getSize());
+    }
+
+    /**
+     * Returns a journal of the changes to the data file in the test folder.
+     */
+    private StudyTrackerJournal createJournal(int limit) {
+        return new StudyTrackerJournal(testFolder.resolve("data.journal"), testFolder.resolve("data.json"), limit);
+    }
+}
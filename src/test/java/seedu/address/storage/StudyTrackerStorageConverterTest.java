@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryStudyTrackerStorageTest.assertSameStudiedHours;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudySpots.getTypicalStudyTracker;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.StudyTracker;
+
+public class StudyTrackerStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_nullStorage_throwsNullPointerException() {
+        StudyTrackerStorage storage = new JsonStudyTrackerStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> StudyTrackerStorageConverter.convert(null, storage));
+        assertThrows(NullPointerException.class, () -> StudyTrackerStorageConverter.convert(storage, null));
+    }
+
+    @Test
+    public void convert_missingSource_nothingSaved() throws Exception {
+        StudyTrackerStorage jsonStorage = new JsonStudyTrackerStorage(testFolder.resolve("data.json"));
+        StudyTrackerStorage binaryStorage = new BinaryStudyTrackerStorage(testFolder.resolve("data.bin"));
+
+        assertFalse(StudyTrackerStorageConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(FileUtil.isFileExists(binaryStorage.getStudyTrackerFilePath()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        StudyTracker original = getTypicalStudyTracker();
+        StudyTrackerStorage jsonStorage = new JsonStudyTrackerStorage(testFolder.resolve("data.json"));
+        StudyTrackerStorage binaryStorage = new BinaryStudyTrackerStorage(testFolder.resolve("data.bin"));
+        StudyTrackerStorage convertedJsonStorage = new JsonStudyTrackerStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveStudyTracker(original);
+
+        assertTrue(StudyTrackerStorageConverter.convert(jsonStorage, binaryStorage));
+        StudyTracker fromBinary = new StudyTracker(binaryStorage.readStudyTracker().get());
+        assertEquals(original, fromBinary);
+        assertEquals(original.getFavouriteStudySpotList(), fromBinary.getFavouriteStudySpotList());
+        assertSameStudiedHours(original, fromBinary);
+
+        assertTrue(StudyTrackerStorageConverter.convert(binaryStorage, convertedJsonStorage));
+        assertEquals(FileUtil.readFromFile(jsonStorage.getStudyTrackerFilePath()),
+                FileUtil.readFromFile(convertedJsonStorage.getStudyTrackerFilePath()));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "studytracker.bin"),
+                StudyTrackerStorageConverter.toBinaryFilePath(Paths.get("data", "studytracker.json")));
+        assertEquals(Paths.get("data", "studytracker.bin"),
+                StudyTrackerStorageConverter.toBinaryFilePath(Paths.get("data", "studytracker")));
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.testutil;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Marks a test that works on a large amount of data, to be timed instead of run with the other tests.
+ * Benchmarks are left out of {@code gradlew test}, and are run with {@code gradlew benchmark}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@Test
+public @interface Benchmark {
+}
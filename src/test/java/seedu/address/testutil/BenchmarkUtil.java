@@ -0,0 +1,43 @@
+package seedu.address.testutil;
+
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A utility class for timing the code under test in {@link Benchmark}s.
+ */
+public class BenchmarkUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(BenchmarkUtil.class);
+
+    /** Keeps the results of the timed calls, so that the calls cannot be optimised away. */
+    private static int resultSink;
+
+    /**
+     * Makes {@code warmUpCalls} calls to {@code call} so that it is compiled, then times {@code timedCalls} more
+     * calls to it. Returns the mean time of a timed call in nanoseconds, which is also logged with
+     * {@code description}. Anything {@code call} depends on should be set up beforehand, as it is not timed.
+     */
+    public static double timePerCall(String description, int warmUpCalls, int timedCalls, Callable<?> call)
+            throws Exception {
+        for (int i = 0; i < warmUpCalls; i++) {
+            resultSink += System.identityHashCode(call.call());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < timedCalls; i++) {
+            resultSink += System.identityHashCode(call.call());
+        }
+        double nanosPerCall = (double) (System.nanoTime() - start) / timedCalls;
+        report("%s: %.3f us per call", description, nanosPerCall / 1000);
+        return nanosPerCall;
+    }
+
+    /**
+     * Logs the result of a benchmark, formatted with {@link String#format(String, Object...)}.
+     */
+    public static void report(String format, Object... args) {
+        logger.info(String.format(format, args));
+    }
+}
@@ -53,7 +53,7 @@ public class EditStudySpotDescriptorBuilder {
      * Sets the {@code Rating} of the {@code EditStudySpotDescriptor} that we are building.
      */
     public EditStudySpotDescriptorBuilder withRating(String rating) {
-        descriptor.setRating(new Rating(rating));
+        descriptor.setRating(Rating.of(rating));
         return this;
     }
 
@@ -78,7 +78,7 @@ public class EditStudySpotDescriptorBuilder {
      * that we are building.
      */
     public EditStudySpotDescriptorBuilder withAddedTags(String... addedTags) {
-        Set<Tag> tagSet = Stream.of(addedTags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(addedTags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setAddedTags(tagSet);
         return this;
     }
@@ -88,7 +88,7 @@ public class EditStudySpotDescriptorBuilder {
      * that we are building.
      */
     public EditStudySpotDescriptorBuilder withRemovedTags(String... removedTags) {
-        Set<Tag> tagSet = Stream.of(removedTags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(removedTags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setRemovedTags(tagSet);
         return this;
     }
@@ -98,7 +98,7 @@ public class EditStudySpotDescriptorBuilder {
      * that we are building.
      */
     public EditStudySpotDescriptorBuilder withAddedAmenities(String... addedAmenities) {
-        Set<Amenity> amenitySet = Stream.of(addedAmenities).map(Amenity::new).collect(Collectors.toSet());
+        Set<Amenity> amenitySet = Stream.of(addedAmenities).map(Amenity::of).collect(Collectors.toSet());
         descriptor.setAddedAmenities(amenitySet);
         return this;
     }
@@ -108,7 +108,7 @@ public class EditStudySpotDescriptorBuilder {
      * that we are building.
      */
     public EditStudySpotDescriptorBuilder withRemovedAmenities(String... removedAmenities) {
-        Set<Amenity> amenitySet = Stream.of(removedAmenities).map(Amenity::new).collect(Collectors.toSet());
+        Set<Amenity> amenitySet = Stream.of(removedAmenities).map(Amenity::of).collect(Collectors.toSet());
         descriptor.setRemovedAmenities(amenitySet);
         return this;
     }
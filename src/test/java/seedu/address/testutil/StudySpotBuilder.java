@@ -40,10 +40,10 @@ public class StudySpotBuilder {
      */
     public StudySpotBuilder() {
         name = new Name(DEFAULT_NAME);
-        rating = new Rating(DEFAULT_RATING);
+        rating = Rating.of(DEFAULT_RATING);
         operatingHours = new OperatingHours(DEFAULT_OPERATING_HOURS);
         address = new Address(DEFAULT_ADDRESS);
-        favourite = new Favourite(DEFAULT_FAVOURITE);
+        favourite = Favourite.of(DEFAULT_FAVOURITE);
         studiedHours = new StudiedHours(DEFAULT_STUDIED_HOURS);
         tags = new HashSet<>();
         amenities = new HashSet<>();
@@ -100,7 +100,7 @@ public class StudySpotBuilder {
      * Sets the {@code Rating} of the {@code StudySpot} that we are building.
      */
     public StudySpotBuilder withRating(String rating) {
-        this.rating = new Rating(rating);
+        this.rating = Rating.of(rating);
         return this;
     }
 
@@ -116,7 +116,7 @@ public class StudySpotBuilder {
      * Sets the {@code Favourite} of the {@code StudySpot} that we are building.
      */
     public StudySpotBuilder withFavourite(boolean favourite) {
-        this.favourite = new Favourite(favourite);
+        this.favourite = Favourite.of(favourite);
         return this;
     }
 